@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2022 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,8 @@ import org.openjdk.jmh.annotations.State;
 
 import org.springframework.beans.propertyeditors.CustomNumberEditor;
 import org.springframework.beans.propertyeditors.StringTrimmerEditor;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
 
 /**
  * Benchmark for {@link AbstractPropertyAccessor} use on beans.
@@ -80,6 +82,42 @@ public class AbstractPropertyAccessorBenchmark {
 		return state.target;
 	}
 
+	@State(Scope.Benchmark)
+	public static class BindingState {
+
+		@Param({"none", "default"})
+		public String conversionService;
+
+		public ConversionService service;
+
+		public MutablePropertyValues input;
+
+		@Setup
+		public void setup() {
+			this.input = new MutablePropertyValues();
+			this.input.add("name", "Jane");
+			this.input.add("age", "42");
+			if (this.conversionService.equals("default")) {
+				this.service = new DefaultConversionService();
+				this.input.add("email", new StringBuilder("jane@example.org"));
+			}
+		}
+
+	}
+
+	/**
+	 * Bind a set of request-like values with a new {@link BeanWrapperImpl}
+	 * per invocation, as data binding does for every request.
+	 */
+	@Benchmark
+	public FormBean setPropertyValuesWithNewBeanWrapper(BindingState state) {
+		FormBean target = new FormBean();
+		BeanWrapperImpl beanWrapper = new BeanWrapperImpl(target);
+		beanWrapper.setConversionService(state.service);
+		beanWrapper.setPropertyValues(state.input, true);
+		return target;
+	}
+
 	@SuppressWarnings("unused")
 	private static class PrimitiveArrayBean {
 
@@ -94,4 +132,38 @@ public class AbstractPropertyAccessorBenchmark {
 		}
 	}
 
+	@SuppressWarnings("unused")
+	private static class FormBean {
+
+		private String name;
+
+		private int age;
+
+		private String email;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public String getEmail() {
+			return this.email;
+		}
+
+		public void setEmail(String email) {
+			this.email = email;
+		}
+	}
+
 }
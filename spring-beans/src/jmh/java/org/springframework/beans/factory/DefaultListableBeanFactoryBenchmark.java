@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package org.springframework.beans.factory;
 
+import java.util.function.Supplier;
+
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
@@ -30,6 +32,7 @@ import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.testfixture.beans.LifecycleBean;
 import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.ResolvableType;
 
 /**
  * Benchmark for retrieving various bean types from the {@link DefaultListableBeanFactory}.
@@ -123,6 +126,7 @@ public class DefaultListableBeanFactoryBenchmark {
 			for (int i = 0; i < 1000; i++) {
 				this.beanFactory.registerBeanDefinition("a" + i, new RootBeanDefinition(A.class));
 			}
+			this.beanFactory.registerBeanDefinition("c", new RootBeanDefinition(C.class));
 			this.beanFactory.freezeConfiguration();
 		}
 	}
@@ -133,10 +137,23 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean(B.class);
 	}
 
+	@Benchmark
+	public Object beanNamesForGenericTypeManyBeans(SingletonLookupManyBeansState state) {
+		return state.beanFactory.getBeanNamesForType(ResolvableType.forClassWithGenerics(Supplier.class, TestBean.class));
+	}
+
 	static class A {
 	}
 
 	static class B {
 	}
 
+	static class C implements Supplier<TestBean> {
+
+		@Override
+		public TestBean get() {
+			return new TestBean();
+		}
+	}
+
 }
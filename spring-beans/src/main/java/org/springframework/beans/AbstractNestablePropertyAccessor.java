@@ -453,8 +453,8 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 							}
 						}
 					}
-					valueToApply = convertForProperty(
-							tokens.canonicalName, oldValue, originalValue, ph.toTypeDescriptor());
+					valueToApply = convertForProperty(tokens.canonicalName, oldValue, originalValue,
+							ph.toTypeDescriptor(), ph.getSourceTypeDescriptor(originalValue));
 				}
 				pv.getOriginalPropertyValue().conversionNecessary = (valueToApply != originalValue);
 			}
@@ -585,9 +585,18 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 			@Nullable Object newValue, @Nullable Class<?> requiredType, @Nullable TypeDescriptor td)
 			throws TypeMismatchException {
 
+		return convertIfNecessary(propertyName, oldValue, newValue, requiredType, td, null);
+	}
+
+	@Nullable
+	private Object convertIfNecessary(@Nullable String propertyName, @Nullable Object oldValue,
+			@Nullable Object newValue, @Nullable Class<?> requiredType, @Nullable TypeDescriptor td,
+			@Nullable TypeDescriptor sourceTd) throws TypeMismatchException {
+
 		Assert.state(this.typeConverterDelegate != null, "No TypeConverterDelegate");
 		try {
-			return this.typeConverterDelegate.convertIfNecessary(propertyName, oldValue, newValue, requiredType, td);
+			return this.typeConverterDelegate.convertIfNecessary(
+					propertyName, oldValue, newValue, requiredType, td, sourceTd);
 		}
 		catch (ConverterNotFoundException | IllegalStateException ex) {
 			PropertyChangeEvent pce =
@@ -609,6 +618,18 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 		return convertIfNecessary(propertyName, oldValue, newValue, td.getType(), td);
 	}
 
+	/**
+	 * Convert the given value for the specified property, using the given
+	 * descriptor for the type of the value if available.
+	 * @since 7.0
+	 */
+	@Nullable
+	Object convertForProperty(String propertyName, @Nullable Object oldValue, @Nullable Object newValue,
+			TypeDescriptor td, @Nullable TypeDescriptor sourceTd) throws TypeMismatchException {
+
+		return convertIfNecessary(propertyName, oldValue, newValue, td.getType(), td, sourceTd);
+	}
+
 	@Override
 	@Nullable
 	public Object getPropertyValue(String propertyName) throws BeansException {
@@ -943,6 +964,10 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 	 * @return representation of the parsed property tokens
 	 */
 	private PropertyTokenHolder getPropertyNameTokens(String propertyName) {
+		if (propertyName.indexOf(PROPERTY_KEY_PREFIX_CHAR) == -1) {
+			// Plain property name without keys
+			return new PropertyTokenHolder(propertyName);
+		}
 		String actualName = null;
 		List<String> keys = new ArrayList<>(2);
 		int searchIndex = 0;
@@ -1061,6 +1086,17 @@ public abstract class AbstractNestablePropertyAccessor extends AbstractPropertyA
 		@Nullable
 		public abstract TypeDescriptor nested(int level);
 
+		/**
+		 * Return a descriptor for the type of the given value to be converted
+		 * for this property, or {@code null} to derive it from the value when
+		 * needed.
+		 * @since 7.0
+		 */
+		@Nullable
+		public TypeDescriptor getSourceTypeDescriptor(@Nullable Object value) {
+			return null;
+		}
+
 		@Nullable
 		public abstract Object getValue() throws Exception;
 
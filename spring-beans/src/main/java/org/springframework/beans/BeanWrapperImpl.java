@@ -17,15 +17,19 @@
 package org.springframework.beans;
 
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -60,6 +64,20 @@ import org.springframework.util.ReflectionUtils;
  */
 public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements BeanWrapper {
 
+	/**
+	 * System property that instructs Spring to invoke bean property getters and
+	 * setters through {@link MethodHandle MethodHandles} rather than reflection
+	 * by default: "spring.beanwrapper.methodhandles".
+	 * <p>The default is "false". Individual BeanWrapper instances may override
+	 * this setting through {@link #setUseMethodHandles}.
+	 * @since 7.0
+	 */
+	public static final String USE_METHOD_HANDLES_PROPERTY_NAME = "spring.beanwrapper.methodhandles";
+
+	private static final boolean useMethodHandlesByDefault =
+			SpringProperties.getFlag(USE_METHOD_HANDLES_PROPERTY_NAME);
+
+
 	/**
 	 * Cached introspections results for this object, to prevent encountering
 	 * the cost of JavaBeans introspection every time.
@@ -67,6 +85,8 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 	@Nullable
 	private CachedIntrospectionResults cachedIntrospectionResults;
 
+	private boolean useMethodHandles = useMethodHandlesByDefault;
+
 
 	/**
 	 * Create a new empty BeanWrapperImpl. Wrapped instance needs to be set afterwards.
@@ -123,6 +143,7 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 	 */
 	private BeanWrapperImpl(Object object, String nestedPath, BeanWrapperImpl parent) {
 		super(object, nestedPath, parent);
+		this.useMethodHandles = parent.useMethodHandles;
 	}
 
 
@@ -145,6 +166,29 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		setIntrospectionClass(getWrappedClass());
 	}
 
+	/**
+	 * Specify whether to invoke property getters and setters through
+	 * {@link MethodHandle MethodHandles}, cached per class along with the
+	 * introspection results, rather than through reflection.
+	 * <p>Default is "false", unless the
+	 * {@value #USE_METHOD_HANDLES_PROPERTY_NAME} system property is set.
+	 * Accessor methods that cannot be resolved as method handles are
+	 * invoked through reflection in any case.
+	 * @since 7.0
+	 */
+	public void setUseMethodHandles(boolean useMethodHandles) {
+		this.useMethodHandles = useMethodHandles;
+	}
+
+	/**
+	 * Return whether to invoke property getters and setters through
+	 * {@link MethodHandle MethodHandles}.
+	 * @since 7.0
+	 */
+	public boolean isUseMethodHandles() {
+		return this.useMethodHandles;
+	}
+
 	/**
 	 * Set the class to introspect.
 	 * Needs to be called when the target object changes.
@@ -180,21 +224,20 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 	 */
 	@Nullable
 	public Object convertForProperty(@Nullable Object value, String propertyName) throws TypeMismatchException {
-		CachedIntrospectionResults cachedIntrospectionResults = getCachedIntrospectionResults();
-		PropertyDescriptor pd = cachedIntrospectionResults.getPropertyDescriptor(propertyName);
-		if (pd == null) {
+		PropertyBindingPlan plan = getCachedIntrospectionResults().getBindingPlan(propertyName);
+		if (plan == null) {
 			throw new InvalidPropertyException(getRootClass(), getNestedPath() + propertyName,
 					"No property '" + propertyName + "' found");
 		}
-		TypeDescriptor td = ((GenericTypeAwarePropertyDescriptor) pd).getTypeDescriptor();
-		return convertForProperty(propertyName, null, value, td);
+		return convertForProperty(propertyName, null, value, plan.getTypeDescriptor(),
+				(value != null ? plan.getSourceTypeDescriptor(value) : null));
 	}
 
 	@Override
 	@Nullable
 	protected BeanPropertyHandler getLocalPropertyHandler(String propertyName) {
-		PropertyDescriptor pd = getCachedIntrospectionResults().getPropertyDescriptor(propertyName);
-		return (pd != null ? new BeanPropertyHandler((GenericTypeAwarePropertyDescriptor) pd) : null);
+		PropertyBindingPlan plan = getCachedIntrospectionResults().getBindingPlan(propertyName);
+		return (plan != null ? new BeanPropertyHandler(plan) : null);
 	}
 
 	@Override
@@ -229,16 +272,19 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 
 	private class BeanPropertyHandler extends PropertyHandler {
 
+		private final PropertyBindingPlan plan;
+
 		private final GenericTypeAwarePropertyDescriptor pd;
 
-		public BeanPropertyHandler(GenericTypeAwarePropertyDescriptor pd) {
-			super(pd.getPropertyType(), pd.getReadMethod() != null, pd.getWriteMethod() != null);
-			this.pd = pd;
+		public BeanPropertyHandler(PropertyBindingPlan plan) {
+			super(plan.getPropertyDescriptor().getPropertyType(), plan.isReadable(), plan.isWritable());
+			this.plan = plan;
+			this.pd = plan.getPropertyDescriptor();
 		}
 
 		@Override
 		public TypeDescriptor toTypeDescriptor() {
-			return this.pd.getTypeDescriptor();
+			return this.plan.getTypeDescriptor();
 		}
 
 		@Override
@@ -266,11 +312,26 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 			return this.pd.getTypeDescriptor().nested(level);
 		}
 
+		@Override
+		@Nullable
+		public TypeDescriptor getSourceTypeDescriptor(@Nullable Object value) {
+			return (value != null ? this.plan.getSourceTypeDescriptor(value) : null);
+		}
+
 		@Override
 		@Nullable
 		public Object getValue() throws Exception {
 			Method readMethod = this.pd.getReadMethod();
 			Assert.state(readMethod != null, "No read method available");
+			MethodHandle handle = (useMethodHandles ? this.pd.getReadMethodHandle() : null);
+			if (handle != null) {
+				try {
+					return (Object) handle.invokeExact(getWrappedInstance());
+				}
+				catch (Throwable ex) {
+					throw new InvocationTargetException(ex);
+				}
+			}
 			ReflectionUtils.makeAccessible(readMethod);
 			return readMethod.invoke(getWrappedInstance(), (Object[]) null);
 		}
@@ -278,6 +339,20 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 		@Override
 		public void setValue(@Nullable Object value) throws Exception {
 			Method writeMethod = this.pd.getWriteMethodForActualAccess();
+			MethodHandle handle = (useMethodHandles ? this.pd.getWriteMethodHandle() : null);
+			if (handle != null) {
+				if (!ClassUtils.isAssignableValue(this.pd.getWriteMethodParameter().getParameterType(), value)) {
+					// Same outcome as for a reflective invocation with a mismatching argument
+					throw new IllegalArgumentException("argument type mismatch");
+				}
+				try {
+					handle.invokeExact(getWrappedInstance(), value);
+				}
+				catch (Throwable ex) {
+					throw new InvocationTargetException(ex);
+				}
+				return;
+			}
 			ReflectionUtils.makeAccessible(writeMethod);
 			writeMethod.invoke(getWrappedInstance(), value);
 		}
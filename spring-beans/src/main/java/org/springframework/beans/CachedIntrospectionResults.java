@@ -232,6 +232,9 @@ public final class CachedIntrospectionResults {
 	/** PropertyDescriptor objects keyed by property name String. */
 	private final Map<String, PropertyDescriptor> propertyDescriptors;
 
+	/** PropertyBindingPlan objects keyed by property name String, built lazily. */
+	private final ConcurrentMap<String, PropertyBindingPlan> bindingPlans = new ConcurrentHashMap<>(16);
+
 
 	/**
 	 * Create a new CachedIntrospectionResults instance for the given class.
@@ -388,6 +391,30 @@ public final class CachedIntrospectionResults {
 		return pd;
 	}
 
+	/**
+	 * Return the binding plan for the given property, shared by all
+	 * {@link BeanWrapperImpl} instances for the introspected class.
+	 * @param name the name of the property
+	 * @return the binding plan, or {@code null} if there is no such property
+	 * @since 7.0
+	 */
+	@Nullable
+	PropertyBindingPlan getBindingPlan(String name) {
+		PropertyBindingPlan plan = this.bindingPlans.get(name);
+		if (plan == null) {
+			PropertyDescriptor pd = getPropertyDescriptor(name);
+			if (pd == null) {
+				return null;
+			}
+			plan = new PropertyBindingPlan((GenericTypeAwarePropertyDescriptor) pd);
+			PropertyBindingPlan existing = this.bindingPlans.putIfAbsent(name, plan);
+			if (existing != null) {
+				plan = existing;
+			}
+		}
+		return plan;
+	}
+
 	PropertyDescriptor[] getPropertyDescriptors() {
 		return this.propertyDescriptors.values().toArray(PropertyDescriptorUtils.EMPTY_PROPERTY_DESCRIPTOR_ARRAY);
 	}
@@ -18,6 +18,9 @@ package org.springframework.beans;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.HashSet;
 import java.util.Objects;
@@ -33,6 +36,7 @@ import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -45,6 +49,13 @@ import org.springframework.util.StringUtils;
  */
 final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 
+	private static final MethodHandle NO_METHOD_HANDLE = MethodHandles.constant(Object.class, null);
+
+	private static final MethodType READ_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType WRITE_METHOD_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+
 	private final Class<?> beanClass;
 
 	@Nullable
@@ -70,6 +81,12 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 	@Nullable
 	private volatile TypeDescriptor typeDescriptor;
 
+	@Nullable
+	private volatile MethodHandle readMethodHandle;
+
+	@Nullable
+	private volatile MethodHandle writeMethodHandle;
+
 	@Nullable
 	private Class<?> propertyType;
 
@@ -212,6 +229,36 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 		return typeDescriptor;
 	}
 
+	/**
+	 * Return a {@link MethodHandle} for the read method, adapted to an
+	 * {@code (Object)Object} signature, or {@code null} if none is available.
+	 * @since 7.0
+	 */
+	@Nullable
+	public MethodHandle getReadMethodHandle() {
+		MethodHandle handle = this.readMethodHandle;
+		if (handle == null) {
+			handle = createMethodHandle(this.readMethod, READ_METHOD_TYPE);
+			this.readMethodHandle = handle;
+		}
+		return (handle != NO_METHOD_HANDLE ? handle : null);
+	}
+
+	/**
+	 * Return a {@link MethodHandle} for the write method, adapted to an
+	 * {@code (Object,Object)void} signature, or {@code null} if none is available.
+	 * @since 7.0
+	 */
+	@Nullable
+	public MethodHandle getWriteMethodHandle() {
+		MethodHandle handle = this.writeMethodHandle;
+		if (handle == null) {
+			handle = createMethodHandle(this.writeMethod, WRITE_METHOD_TYPE);
+			this.writeMethodHandle = handle;
+		}
+		return (handle != NO_METHOD_HANDLE ? handle : null);
+	}
+
 	@Override
 	@Nullable
 	public Class<?> getPropertyType() {
@@ -225,6 +272,20 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 	}
 
 
+	private static MethodHandle createMethodHandle(@Nullable Method method, MethodType type) {
+		if (method != null) {
+			try {
+				ReflectionUtils.makeAccessible(method);
+				return MethodHandles.lookup().unreflect(method).asType(type);
+			}
+			catch (IllegalAccessException | RuntimeException ex) {
+				// Not accessible through a method handle: callers fall back to reflection
+			}
+		}
+		return NO_METHOD_HANDLE;
+	}
+
+
 	@Override
 	public boolean equals(@Nullable Object other) {
 		return (this == other || (other instanceof GenericTypeAwarePropertyDescriptor that &&
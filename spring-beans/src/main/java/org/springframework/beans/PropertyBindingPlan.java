@@ -0,0 +1,88 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.lang.Nullable;
+
+/**
+ * Precomputed state for binding values to a specific bean property, cached per
+ * bean class by {@link CachedIntrospectionResults} and therefore shared by all
+ * {@link BeanWrapperImpl} instances for that class.
+ *
+ * <p>Holds the resolved accessors and the target {@link TypeDescriptor} of the
+ * property, along with a descriptor for the type of the values that were bound
+ * to the property last, so that repeated binding of values of the same type
+ * does not need to allocate descriptors.
+ *
+ * @since 7.0
+ * @see CachedIntrospectionResults#getBindingPlan
+ */
+final class PropertyBindingPlan {
+
+	private final GenericTypeAwarePropertyDescriptor propertyDescriptor;
+
+	private final boolean readable;
+
+	private final boolean writable;
+
+	@Nullable
+	private volatile TypeDescriptor sourceTypeDescriptor;
+
+
+	PropertyBindingPlan(GenericTypeAwarePropertyDescriptor propertyDescriptor) {
+		this.propertyDescriptor = propertyDescriptor;
+		this.readable = (propertyDescriptor.getReadMethod() != null);
+		this.writable = (propertyDescriptor.getWriteMethod() != null);
+	}
+
+
+	public GenericTypeAwarePropertyDescriptor getPropertyDescriptor() {
+		return this.propertyDescriptor;
+	}
+
+	public boolean isReadable() {
+		return this.readable;
+	}
+
+	public boolean isWritable() {
+		return this.writable;
+	}
+
+	/**
+	 * Return the descriptor for the target type of the property.
+	 */
+	public TypeDescriptor getTypeDescriptor() {
+		return this.propertyDescriptor.getTypeDescriptor();
+	}
+
+	/**
+	 * Return a descriptor for the type of the given value to be bound,
+	 * as {@link TypeDescriptor#forObject} would, reusing the descriptor
+	 * for the previous value if it is of the same type.
+	 * @param value the value to be bound
+	 */
+	public TypeDescriptor getSourceTypeDescriptor(Object value) {
+		TypeDescriptor sourceTypeDescriptor = this.sourceTypeDescriptor;
+		if (sourceTypeDescriptor == null || sourceTypeDescriptor.getType() != value.getClass()) {
+			sourceTypeDescriptor = TypeDescriptor.valueOf(value.getClass());
+			this.sourceTypeDescriptor = sourceTypeDescriptor;
+		}
+		return sourceTypeDescriptor;
+	}
+
+}
@@ -112,11 +112,34 @@ class TypeConverterDelegate {
 	 * @return the new value, possibly the result of type conversion
 	 * @throws IllegalArgumentException if type conversion failed
 	 */
-	@SuppressWarnings("unchecked")
 	@Nullable
 	public <T> T convertIfNecessary(@Nullable String propertyName, @Nullable Object oldValue, @Nullable Object newValue,
 			@Nullable Class<T> requiredType, @Nullable TypeDescriptor typeDescriptor) throws IllegalArgumentException {
 
+		return convertIfNecessary(propertyName, oldValue, newValue, requiredType, typeDescriptor, null);
+	}
+
+	/**
+	 * Convert the value to the required type (if necessary from a String),
+	 * for the specified property.
+	 * @param propertyName name of the property
+	 * @param oldValue the previous value, if available (may be {@code null})
+	 * @param newValue the proposed new value
+	 * @param requiredType the type we must convert to
+	 * (or {@code null} if not known, for example in case of a collection element)
+	 * @param typeDescriptor the descriptor for the target property or field
+	 * @param sourceTypeDescriptor the descriptor for the type of the new value,
+	 * or {@code null} to derive it from the new value when needed
+	 * @return the new value, possibly the result of type conversion
+	 * @throws IllegalArgumentException if type conversion failed
+	 * @since 7.0
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public <T> T convertIfNecessary(@Nullable String propertyName, @Nullable Object oldValue, @Nullable Object newValue,
+			@Nullable Class<T> requiredType, @Nullable TypeDescriptor typeDescriptor,
+			@Nullable TypeDescriptor sourceTypeDescriptor) throws IllegalArgumentException {
+
 		// Custom editor for this type?
 		PropertyEditor editor = this.propertyEditorRegistry.findCustomEditor(requiredType, propertyName);
 
@@ -125,7 +148,8 @@ class TypeConverterDelegate {
 		// No custom editor but custom ConversionService specified?
 		ConversionService conversionService = this.propertyEditorRegistry.getConversionService();
 		if (editor == null && conversionService != null && newValue != null && typeDescriptor != null) {
-			TypeDescriptor sourceTypeDesc = TypeDescriptor.forObject(newValue);
+			TypeDescriptor sourceTypeDesc =
+					(sourceTypeDescriptor != null ? sourceTypeDescriptor : TypeDescriptor.forObject(newValue));
 			if (conversionService.canConvert(sourceTypeDesc, typeDescriptor)) {
 				try {
 					return (T) conversionService.convert(newValue, sourceTypeDesc, typeDescriptor);
@@ -249,7 +273,8 @@ class TypeConverterDelegate {
 				else if (conversionService != null && typeDescriptor != null) {
 					// ConversionService not tried before, probably custom editor found
 					// but editor couldn't produce the required type...
-					TypeDescriptor sourceTypeDesc = TypeDescriptor.forObject(newValue);
+					TypeDescriptor sourceTypeDesc =
+							(sourceTypeDescriptor != null ? sourceTypeDescriptor : TypeDescriptor.forObject(newValue));
 					if (conversionService.canConvert(sourceTypeDesc, typeDescriptor)) {
 						return (T) conversionService.convert(newValue, sourceTypeDesc, typeDescriptor);
 					}
@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
@@ -419,7 +420,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			throws BeansException {
 
 		Object result = existingBean;
-		for (BeanPostProcessor processor : getBeanPostProcessors()) {
+		for (BeanPostProcessor processor : getBeanPostProcessorCache().beforeInitialization) {
 			Object current = processor.postProcessBeforeInitialization(result, beanName);
 			if (current == null) {
 				return result;
@@ -435,7 +436,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			throws BeansException {
 
 		Object result = existingBean;
-		for (BeanPostProcessor processor : getBeanPostProcessors()) {
+		for (BeanPostProcessor processor : getBeanPostProcessorCache().afterInitialization) {
 			Object current = processor.postProcessAfterInitialization(result, beanName);
 			if (current == null) {
 				return result;
@@ -1405,7 +1406,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 		// state of the bean before properties are set. This can be used, for example,
 		// to support styles of field injection.
 		if (!mbd.isSynthetic() && hasInstantiationAwareBeanPostProcessors()) {
-			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().instantiationAware) {
+			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().afterInstantiation) {
 				if (!bp.postProcessAfterInstantiation(bw.getWrappedInstance(), beanName)) {
 					return;
 				}
@@ -1427,11 +1428,12 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			}
 			pvs = newPvs;
 		}
-		if (hasInstantiationAwareBeanPostProcessors()) {
+		List<InstantiationAwareBeanPostProcessor> propertyProcessors = getBeanPostProcessorCache().propertyProcessing;
+		if (hasInstantiationAwareBeanPostProcessors() && !propertyProcessors.isEmpty()) {
 			if (pvs == null) {
 				pvs = mbd.getPropertyValues();
 			}
-			for (InstantiationAwareBeanPostProcessor bp : getBeanPostProcessorCache().instantiationAware) {
+			for (InstantiationAwareBeanPostProcessor bp : propertyProcessors) {
 				PropertyValues pvsToUse = bp.postProcessProperties(pvs, bw.getWrappedInstance(), beanName);
 				if (pvsToUse == null) {
 					return;
@@ -1874,35 +1876,52 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			throws Throwable {
 
 		Class<?> beanClass = bean.getClass();
-		MethodDescriptor descriptor = MethodDescriptor.create(beanName, beanClass, initMethodName);
-		String methodName = descriptor.methodName();
-
-		Method initMethod = (mbd.isNonPublicAccessAllowed() ?
-				BeanUtils.findMethod(descriptor.declaringClass(), methodName) :
-				ClassUtils.getMethodIfAvailable(beanClass, methodName));
-
-		if (initMethod == null) {
-			if (mbd.isEnforceInitMethod()) {
-				throw new BeanDefinitionValidationException("Could not find an init method named '" +
-						methodName + "' on bean with name '" + beanName + "'");
+		// Resolved init methods can be reused for instances of the plain bean class,
+		// for example, when re-creating a prototype.
+		boolean cacheable = (mbd.hasBeanClass() && mbd.getBeanClass() == beanClass);
+		Map<String, Method> resolvedInitMethods = mbd.resolvedInitMethods;
+		Method methodToInvoke = (cacheable && resolvedInitMethods != null ?
+				resolvedInitMethods.get(initMethodName) : null);
+
+		if (methodToInvoke == null) {
+			MethodDescriptor descriptor = MethodDescriptor.create(beanName, beanClass, initMethodName);
+			String methodName = descriptor.methodName();
+
+			Method initMethod = (mbd.isNonPublicAccessAllowed() ?
+					BeanUtils.findMethod(descriptor.declaringClass(), methodName) :
+					ClassUtils.getMethodIfAvailable(beanClass, methodName));
+
+			if (initMethod == null) {
+				if (mbd.isEnforceInitMethod()) {
+					throw new BeanDefinitionValidationException("Could not find an init method named '" +
+							methodName + "' on bean with name '" + beanName + "'");
+				}
+				else {
+					if (logger.isTraceEnabled()) {
+						logger.trace("No default init method named '" + methodName +
+								"' found on bean with name '" + beanName + "'");
+					}
+					// Ignore non-existent default lifecycle methods.
+					return;
+				}
 			}
-			else {
-				if (logger.isTraceEnabled()) {
-					logger.trace("No default init method named '" + methodName +
-							"' found on bean with name '" + beanName + "'");
+
+			methodToInvoke = ClassUtils.getPubliclyAccessibleMethodIfPossible(initMethod, beanClass);
+			ReflectionUtils.makeAccessible(methodToInvoke);
+			if (cacheable) {
+				if (resolvedInitMethods == null) {
+					resolvedInitMethods = new ConcurrentHashMap<>(2);
+					mbd.resolvedInitMethods = resolvedInitMethods;
 				}
-				// Ignore non-existent default lifecycle methods.
-				return;
+				resolvedInitMethods.put(initMethodName, methodToInvoke);
 			}
 		}
 
 		if (logger.isTraceEnabled()) {
-			logger.trace("Invoking init method '" + methodName + "' on bean with name '" + beanName + "'");
+			logger.trace("Invoking init method '" + methodToInvoke.getName() +
+					"' on bean with name '" + beanName + "'");
 		}
-		Method methodToInvoke = ClassUtils.getPubliclyAccessibleMethodIfPossible(initMethod, beanClass);
-
 		try {
-			ReflectionUtils.makeAccessible(methodToInvoke);
 			methodToInvoke.invoke(bean);
 		}
 		catch (InvocationTargetException ex) {
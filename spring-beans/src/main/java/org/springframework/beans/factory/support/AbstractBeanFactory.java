@@ -17,6 +17,7 @@
 package org.springframework.beans.factory.support;
 
 import java.beans.PropertyEditor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -37,6 +38,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.PropertyEditorRegistrar;
 import org.springframework.beans.PropertyEditorRegistry;
 import org.springframework.beans.PropertyEditorRegistrySupport;
+import org.springframework.beans.PropertyValues;
 import org.springframework.beans.SimpleTypeConverter;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.TypeMismatchException;
@@ -1018,10 +1020,32 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 			if (bppCache == null) {
 				bppCache = new BeanPostProcessorCache();
 				for (BeanPostProcessor bpp : this.beanPostProcessors) {
+					if (overrides(bpp, BeanPostProcessor.class,
+							"postProcessBeforeInitialization", Object.class, String.class)) {
+						bppCache.beforeInitialization.add(bpp);
+					}
+					if (overrides(bpp, BeanPostProcessor.class,
+							"postProcessAfterInitialization", Object.class, String.class)) {
+						bppCache.afterInitialization.add(bpp);
+					}
 					if (bpp instanceof InstantiationAwareBeanPostProcessor instantiationAwareBpp) {
 						bppCache.instantiationAware.add(instantiationAwareBpp);
+						if (overrides(bpp, InstantiationAwareBeanPostProcessor.class,
+								"postProcessAfterInstantiation", Object.class, String.class)) {
+							bppCache.afterInstantiation.add(instantiationAwareBpp);
+						}
+						if (overrides(bpp, InstantiationAwareBeanPostProcessor.class,
+								"postProcessProperties", PropertyValues.class, Object.class, String.class)) {
+							bppCache.propertyProcessing.add(instantiationAwareBpp);
+						}
 						if (bpp instanceof SmartInstantiationAwareBeanPostProcessor smartInstantiationAwareBpp) {
 							bppCache.smartInstantiationAware.add(smartInstantiationAwareBpp);
+							if (overrides(bpp, SmartInstantiationAwareBeanPostProcessor.class,
+									"predictBeanType", Class.class, String.class) ||
+									overrides(bpp, SmartInstantiationAwareBeanPostProcessor.class,
+											"getEarlyBeanReference", Object.class, String.class)) {
+								bppCache.typeExposing = true;
+							}
 						}
 					}
 					if (bpp instanceof DestructionAwareBeanPostProcessor destructionAwareBpp) {
@@ -1037,6 +1061,18 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 		}
 	}
 
+	/**
+	 * Determine whether the given post-processor overrides the specified
+	 * default method of the given post-processor interface, that is, whether
+	 * the method needs to be invoked at all.
+	 */
+	private static boolean overrides(BeanPostProcessor bpp, Class<?> declaringInterface,
+			String methodName, Class<?>... parameterTypes) {
+
+		Method method = ClassUtils.getMethodIfAvailable(bpp.getClass(), methodName, parameterTypes);
+		return (method == null || method.getDeclaringClass() != declaringInterface);
+	}
+
 	private void resetBeanPostProcessorCache() {
 		synchronized (this.beanPostProcessors) {
 			this.beanPostProcessorCache = null;
@@ -2093,6 +2129,16 @@ public abstract class AbstractBeanFactory extends FactoryBeanRegistrySupport imp
 		final List<DestructionAwareBeanPostProcessor> destructionAware = new ArrayList<>();
 
 		final List<MergedBeanDefinitionPostProcessor> mergedDefinition = new ArrayList<>();
+
+		final List<BeanPostProcessor> beforeInitialization = new ArrayList<>();
+
+		final List<BeanPostProcessor> afterInitialization = new ArrayList<>();
+
+		final List<InstantiationAwareBeanPostProcessor> afterInstantiation = new ArrayList<>();
+
+		final List<InstantiationAwareBeanPostProcessor> propertyProcessing = new ArrayList<>();
+
+		boolean typeExposing;
 	}
 
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Index from types to the names of the bean definitions that may match them,
+ * used by {@link DefaultListableBeanFactory} for narrowing the bean definitions
+ * to check in by-type lookups once its configuration is frozen.
+ *
+ * <p>A bean definition with a plain bean class is indexed under all superclasses
+ * and interfaces of that class, extended with the type of its singleton instance
+ * once created. Bean definitions with a type that can only be determined through
+ * further resolution (factory methods, {@link FactoryBean FactoryBeans}, decorated
+ * definitions, unresolved bean class names) are returned as candidates for any
+ * type, until their bean class has been resolved.
+ *
+ * <p>The index may therefore return more candidates than actually match, which
+ * need to be checked through regular type matching, but never fewer.
+ *
+ * @since 7.0
+ * @see DefaultListableBeanFactory#getBeanNamesForType(Class, boolean, boolean)
+ */
+final class BeanTypeIndex {
+
+	private final Map<String, Long> registrationOrder = new HashMap<>(256);
+
+	private final Map<Class<?>, Set<String>> beanNamesByType = new HashMap<>(256);
+
+	private final Map<String, Set<Class<?>>> typesByBeanName = new HashMap<>(256);
+
+	private final Set<String> unresolvedBeanNames = new LinkedHashSet<>();
+
+	private long nextRegistrationOrder;
+
+
+	/**
+	 * Register or re-register the given bean definition, keeping the
+	 * registration order of an already registered bean name.
+	 * @param beanName the name of the bean
+	 * @param mbd the merged bean definition, or {@code null} if it
+	 * could not be merged
+	 */
+	synchronized void register(String beanName, @Nullable RootBeanDefinition mbd) {
+		this.registrationOrder.computeIfAbsent(beanName, name -> this.nextRegistrationOrder++);
+		removeTypes(beanName);
+		Set<Class<?>> types = (mbd != null ? determineTypes(mbd) : null);
+		if (types != null) {
+			this.unresolvedBeanNames.remove(beanName);
+			for (Class<?> type : types) {
+				addType(beanName, type);
+			}
+		}
+		else {
+			this.unresolvedBeanNames.add(beanName);
+		}
+	}
+
+	/**
+	 * Index the given bean under the type of its singleton instance as well,
+	 * which may differ from its bean class after post-processing.
+	 * @param beanName the name of the bean
+	 * @param singletonObject the singleton instance
+	 */
+	synchronized void registerSingleton(String beanName, Object singletonObject) {
+		if (!this.registrationOrder.containsKey(beanName) || this.unresolvedBeanNames.contains(beanName)) {
+			return;
+		}
+		if (singletonObject instanceof FactoryBean) {
+			removeTypes(beanName);
+			this.unresolvedBeanNames.add(beanName);
+		}
+		else {
+			addTypeHierarchy(beanName, singletonObject.getClass());
+		}
+	}
+
+	/**
+	 * Index the given bean if its type could not be determined before,
+	 * for example, since its bean class has been resolved in the meantime.
+	 * @param beanName the name of the bean
+	 * @param mbd the merged bean definition
+	 */
+	synchronized void resolve(String beanName, RootBeanDefinition mbd) {
+		if (this.unresolvedBeanNames.contains(beanName)) {
+			Set<Class<?>> types = determineTypes(mbd);
+			if (types != null) {
+				this.unresolvedBeanNames.remove(beanName);
+				for (Class<?> type : types) {
+					addType(beanName, type);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove the given bean from the index.
+	 * @param beanName the name of the bean
+	 */
+	synchronized void remove(String beanName) {
+		this.registrationOrder.remove(beanName);
+		this.unresolvedBeanNames.remove(beanName);
+		removeTypes(beanName);
+	}
+
+	/**
+	 * Return the names of all beans that may match the given type,
+	 * in registration order.
+	 * @param type the raw type to match
+	 */
+	synchronized List<String> getCandidateBeanNames(Class<?> type) {
+		Set<String> beanNames = this.beanNamesByType.get(type);
+		List<String> candidates = new ArrayList<>(
+				(beanNames != null ? beanNames.size() : 0) + this.unresolvedBeanNames.size());
+		if (beanNames != null) {
+			candidates.addAll(beanNames);
+		}
+		candidates.addAll(this.unresolvedBeanNames);
+		candidates.sort(Comparator.comparing(this.registrationOrder::get));
+		return candidates;
+	}
+
+
+	/**
+	 * Determine the types to index the given bean definition under,
+	 * or {@code null} if its type cannot be determined upfront.
+	 */
+	@Nullable
+	private static Set<Class<?>> determineTypes(RootBeanDefinition mbd) {
+		if (!mbd.hasBeanClass() || mbd.getFactoryMethodName() != null || mbd.getFactoryBeanName() != null ||
+				mbd.getDecoratedDefinition() != null) {
+			return null;
+		}
+		Class<?> beanClass = mbd.getBeanClass();
+		Class<?> targetType = mbd.getTargetType();
+		if (FactoryBean.class.isAssignableFrom(beanClass) ||
+				(targetType != null && FactoryBean.class.isAssignableFrom(targetType))) {
+			return null;
+		}
+		Set<Class<?>> types = new HashSet<>();
+		collectTypeHierarchy(beanClass, types);
+		if (targetType != null) {
+			collectTypeHierarchy(targetType, types);
+		}
+		return types;
+	}
+
+	private static void collectTypeHierarchy(Class<?> type, Set<Class<?>> types) {
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			types.add(current);
+		}
+		types.addAll(ClassUtils.getAllInterfacesForClassAsSet(type));
+	}
+
+	private void addTypeHierarchy(String beanName, Class<?> type) {
+		Set<Class<?>> types = new HashSet<>();
+		collectTypeHierarchy(type, types);
+		for (Class<?> candidate : types) {
+			addType(beanName, candidate);
+		}
+	}
+
+	private void addType(String beanName, Class<?> type) {
+		this.beanNamesByType.computeIfAbsent(type, key -> new HashSet<>()).add(beanName);
+		this.typesByBeanName.computeIfAbsent(beanName, key -> new HashSet<>()).add(type);
+	}
+
+	private void removeTypes(String beanName) {
+		Set<Class<?>> types = this.typesByBeanName.remove(beanName);
+		if (types != null) {
+			for (Class<?> type : types) {
+				Set<String> beanNames = this.beanNamesByType.get(type);
+				if (beanNames != null) {
+					beanNames.remove(beanName);
+					if (beanNames.isEmpty()) {
+						this.beanNamesByType.remove(type);
+					}
+				}
+			}
+		}
+	}
+
+}
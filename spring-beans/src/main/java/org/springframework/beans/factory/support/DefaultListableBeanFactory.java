@@ -25,13 +25,18 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +46,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -48,7 +55,9 @@ import java.util.stream.Stream;
 
 import jakarta.inject.Provider;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -68,8 +77,10 @@ import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.BeanReference;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues.ValueHolder;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.NamedBeanHolder;
 import org.springframework.core.NamedThreadLocal;
@@ -161,6 +172,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Nullable
 	private Executor bootstrapExecutor;
 
+	/** Whether to pre-instantiate independent singletons in parallel on the bootstrap executor. */
+	private boolean parallelPreInstantiation = false;
+
 	/** Optional OrderComparator for dependency Lists and arrays. */
 	@Nullable
 	private Comparator<Object> dependencyComparator;
@@ -186,6 +200,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Map of singleton-only bean names, keyed by dependency type. */
 	private final Map<Class<?>, String[]> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
 
+	/** Index of bean definition names by type, maintained while the configuration is frozen. */
+	@Nullable
+	private volatile BeanTypeIndex beanTypeIndex;
+
 	/** List of bean definition names, in registration order. */
 	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
 
@@ -204,6 +222,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private final NamedThreadLocal<PreInstantiation> preInstantiationThread =
 			new NamedThreadLocal<>("Pre-instantiation thread marker");
 
+	/** Coordination of singleton creation between parallel pre-instantiation threads, if active. */
+	@Nullable
+	private volatile ParallelSingletonCreation parallelSingletonCreation;
+
 
 	/**
 	 * Create a new DefaultListableBeanFactory.
@@ -299,6 +321,41 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.bootstrapExecutor;
 	}
 
+	/**
+	 * Set whether to pre-instantiate non-lazy singletons in parallel on the
+	 * {@link #setBootstrapExecutor bootstrap executor}.
+	 * <p>Default is "false". Turn this flag on to derive a dependency graph from
+	 * the merged bean definitions (depends-on declarations, bean references,
+	 * factory beans and the parameter types of resolved factory methods or
+	 * unique constructors) and to instantiate singletons as soon as all of
+	 * their known dependencies are available, with independent subgraphs
+	 * instantiated concurrently.
+	 * <p>Dependencies which cannot be derived upfront, for example, autowired
+	 * fields or methods, are created on demand by the thread that requests them
+	 * first, with any other thread requesting the same singleton waiting for its
+	 * creation to complete rather than creating it again. Early references to
+	 * singletons that are not fully initialized yet are only handed out to other
+	 * threads for resolving circular references across threads. Any singleton that
+	 * failed in parallel, or whose known dependencies failed or form a cycle,
+	 * is instantiated in the mainline thread afterwards in registration order,
+	 * reporting failures just like the regular sequential pre-instantiation.
+	 * <p>This flag has no effect without a bootstrap executor.
+	 * @since 7.0
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setParallelPreInstantiation(boolean parallelPreInstantiation) {
+		this.parallelPreInstantiation = parallelPreInstantiation;
+	}
+
+	/**
+	 * Return whether to pre-instantiate non-lazy singletons in parallel on the
+	 * bootstrap executor.
+	 * @since 7.0
+	 */
+	public boolean isParallelPreInstantiation() {
+		return this.parallelPreInstantiation;
+	}
+
 	/**
 	 * Set a {@link java.util.Comparator} for dependency Lists and arrays.
 	 * @since 4.0
@@ -346,6 +403,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
+			this.parallelPreInstantiation = otherListableFactory.parallelPreInstantiation;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
@@ -579,8 +637,11 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private String[] doGetBeanNamesForType(ResolvableType type, boolean includeNonSingletons, boolean allowEagerInit) {
 		List<String> result = new ArrayList<>();
 
-		// Check all bean definitions.
-		for (String beanName : this.beanDefinitionNames) {
+		// Check all bean definitions that may match the given type.
+		BeanTypeIndex typeIndex = getBeanTypeIndex(type);
+		Collection<String> beanNamesToCheck =
+				(typeIndex != null ? typeIndex.getCandidateBeanNames(type.toClass()) : this.beanDefinitionNames);
+		for (String beanName : beanNamesToCheck) {
 			// Only consider bean as eligible if the bean name is not defined as alias for some other bean.
 			if (!isAlias(beanName)) {
 				try {
@@ -590,6 +651,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 							(mbd.hasBeanClass() || !mbd.isLazyInit() || isAllowEagerClassLoading()) &&
 									!requiresEagerInitForType(mbd.getFactoryBeanName()))) {
 						boolean isFactoryBean = isFactoryBean(beanName, mbd);
+						if (typeIndex != null) {
+							// Bean class possibly resolved for the factory bean check above
+							typeIndex.resolve(beanName, mbd);
+						}
 						BeanDefinitionHolder dbd = mbd.getDecoratedDefinition();
 						boolean matchFound = false;
 						boolean allowFactoryBeanInit = (allowEagerInit || containsSingleton(beanName));
@@ -667,6 +732,57 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return (dbd != null ? mbd.isSingleton() : isSingleton(beanName));
 	}
 
+	/**
+	 * Return the type index for narrowing the bean definitions to check
+	 * for the given type, if applicable.
+	 * <p>The index is only available while the configuration is frozen, and
+	 * only applies as long as no post-processor may expose beans under types
+	 * other than their bean class before they have been created.
+	 * @param type the type to match
+	 * @return the type index, or {@code null} if all bean definitions need
+	 * to be checked
+	 */
+	@Nullable
+	private BeanTypeIndex getBeanTypeIndex(ResolvableType type) {
+		BeanTypeIndex typeIndex = this.beanTypeIndex;
+		if (typeIndex == null || !isConfigurationFrozen() || getBeanPostProcessorCache().typeExposing) {
+			return null;
+		}
+		Class<?> rawType = type.resolve();
+		return (rawType != null && rawType != Object.class && !rawType.isArray() ? typeIndex : null);
+	}
+
+	/**
+	 * Build a type index for all currently registered bean definitions,
+	 * including the types of their singleton instances, if already created.
+	 */
+	private BeanTypeIndex buildBeanTypeIndex() {
+		BeanTypeIndex typeIndex = new BeanTypeIndex();
+		for (String beanName : this.beanDefinitionNames) {
+			updateBeanTypeIndex(typeIndex, beanName);
+		}
+		return typeIndex;
+	}
+
+	private void updateBeanTypeIndex(BeanTypeIndex typeIndex, String beanName) {
+		if (!containsBeanDefinition(beanName)) {
+			typeIndex.remove(beanName);
+			return;
+		}
+		RootBeanDefinition mbd = null;
+		try {
+			mbd = getMergedLocalBeanDefinition(beanName);
+		}
+		catch (BeansException ex) {
+			// Probably an invalid parent reference: to be checked for every type.
+		}
+		typeIndex.register(beanName, mbd);
+		Object singletonInstance = getSingleton(beanName, false);
+		if (singletonInstance != null) {
+			typeIndex.registerSingleton(beanName, singletonInstance);
+		}
+	}
+
 	/**
 	 * Check whether the specified bean would need to be eagerly initialized
 	 * in order to determine its type.
@@ -946,6 +1062,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		super.clearMetadataCache();
 		this.mergedBeanDefinitionHolders.clear();
 		clearByTypeCache();
+		this.beanTypeIndex = (isConfigurationFrozen() ? buildBeanTypeIndex() : null);
 	}
 
 	@Override
@@ -953,6 +1070,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		clearMetadataCache();
 		this.configurationFrozen = true;
 		this.frozenBeanDefinitionNames = StringUtils.toStringArray(this.beanDefinitionNames);
+		this.beanTypeIndex = buildBeanTypeIndex();
 	}
 
 	@Override
@@ -1005,7 +1123,46 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	@Override
 	@Nullable
 	protected Boolean isCurrentThreadAllowedToHoldSingletonLock() {
-		return (this.preInstantiationPhase ? this.preInstantiationThread.get() != PreInstantiation.BACKGROUND : null);
+		if (!this.preInstantiationPhase) {
+			return null;
+		}
+		PreInstantiation preInstantiation = this.preInstantiationThread.get();
+		return (preInstantiation != PreInstantiation.BACKGROUND && preInstantiation != PreInstantiation.PARALLEL);
+	}
+
+	@Override
+	@Nullable
+	protected Object getSingleton(String beanName, boolean allowEarlyReference) {
+		if (allowEarlyReference) {
+			ParallelSingletonCreation parallelCreation = getParallelSingletonCreation();
+			if (parallelCreation != null && !parallelCreation.isEarlyReferenceAllowed(beanName)) {
+				// Singleton in creation in other parallel thread -> not even an early reference
+				// from a circular reference there, wait for its full creation instead.
+				return (isSingletonCurrentlyInCreation(beanName) ? null : super.getSingleton(beanName, false));
+			}
+		}
+		return super.getSingleton(beanName, allowEarlyReference);
+	}
+
+	@Override
+	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
+		ParallelSingletonCreation parallelCreation = getParallelSingletonCreation();
+		if (parallelCreation != null) {
+			return parallelCreation.getSingleton(beanName,
+					() -> super.getSingleton(beanName, singletonFactory), () -> super.getSingleton(beanName, true));
+		}
+		return super.getSingleton(beanName, singletonFactory);
+	}
+
+	/**
+	 * Return the coordination of singleton creation if the current thread is
+	 * a parallel pre-instantiation thread.
+	 */
+	@Nullable
+	private ParallelSingletonCreation getParallelSingletonCreation() {
+		ParallelSingletonCreation parallelCreation = this.parallelSingletonCreation;
+		return (parallelCreation != null && this.preInstantiationThread.get() == PreInstantiation.PARALLEL ?
+				parallelCreation : null);
 	}
 
 	@Override
@@ -1024,6 +1181,11 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		this.preInstantiationPhase = true;
 		this.preInstantiationThread.set(PreInstantiation.MAIN);
 		try {
+			Executor executor = getBootstrapExecutor();
+			if (this.parallelPreInstantiation && executor != null) {
+				preInstantiateSingletonsInParallel(beanNames, executor);
+			}
+			// Sequential pass: no-op for singletons already instantiated in parallel
 			for (String beanName : beanNames) {
 				RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
 				if (!mbd.isAbstract() && mbd.isSingleton()) {
@@ -1111,6 +1273,161 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 	}
 
+	/**
+	 * Instantiate independent non-lazy singletons concurrently, following the
+	 * dependency graph derived from their merged bean definitions.
+	 * <p>Returns once no further singleton can be scheduled. Singletons that
+	 * failed or whose dependencies failed or form a cycle are left for the
+	 * subsequent sequential pass in the mainline thread.
+	 * @see #getSingleton(String, ObjectFactory)
+	 */
+	private void preInstantiateSingletonsInParallel(List<String> beanNames, Executor executor) {
+		Map<String, RootBeanDefinition> candidates = new LinkedHashMap<>();
+		for (String beanName : beanNames) {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			if (!mbd.isAbstract() && mbd.isSingleton() && !mbd.isLazyInit() && !mbd.isBackgroundInit()) {
+				candidates.put(beanName, mbd);
+			}
+		}
+
+		Map<String, AtomicInteger> pendingDependencies = new HashMap<>();
+		Map<String, List<String>> dependentBeans = new HashMap<>();
+		candidates.forEach((beanName, mbd) -> {
+			Set<String> dependencies = determinePreInstantiationDependencies(beanName, mbd);
+			dependencies.retainAll(candidates.keySet());
+			dependencies.remove(beanName);
+			pendingDependencies.put(beanName, new AtomicInteger(dependencies.size()));
+			for (String dependency : dependencies) {
+				dependentBeans.computeIfAbsent(dependency, key -> new ArrayList<>()).add(beanName);
+			}
+		});
+
+		ParallelSingletonCreation parallelCreation = new ParallelSingletonCreation();
+		this.parallelSingletonCreation = parallelCreation;
+		try {
+			for (String beanName : candidates.keySet()) {
+				if (pendingDependencies.get(beanName).get() == 0) {
+					preInstantiateSingletonInParallel(
+							beanName, executor, parallelCreation, pendingDependencies, dependentBeans);
+				}
+			}
+			parallelCreation.awaitTasks();
+		}
+		finally {
+			this.parallelSingletonCreation = null;
+		}
+	}
+
+	private void preInstantiateSingletonInParallel(String beanName, Executor executor,
+			ParallelSingletonCreation parallelCreation, Map<String, AtomicInteger> pendingDependencies,
+			Map<String, List<String>> dependentBeans) {
+
+		parallelCreation.taskSubmitted();
+		try {
+			executor.execute(() -> {
+				try {
+					if (instantiateSingletonInParallelThread(beanName)) {
+						for (String dependentBean : dependentBeans.getOrDefault(beanName, Collections.emptyList())) {
+							if (pendingDependencies.get(dependentBean).decrementAndGet() == 0) {
+								preInstantiateSingletonInParallel(
+										dependentBean, executor, parallelCreation, pendingDependencies, dependentBeans);
+							}
+						}
+					}
+				}
+				finally {
+					parallelCreation.taskCompleted();
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			parallelCreation.taskCompleted();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Bootstrap executor rejected parallel pre-instantiation of singleton bean '" +
+						beanName + "' - falling back to mainline initialization", ex);
+			}
+		}
+	}
+
+	private boolean instantiateSingletonInParallelThread(String beanName) {
+		// Executor might run the task in the mainline thread -> restore its marker afterwards
+		PreInstantiation previous = this.preInstantiationThread.get();
+		this.preInstantiationThread.set(PreInstantiation.PARALLEL);
+		try {
+			instantiateSingleton(beanName);
+			return true;
+		}
+		catch (RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to pre-instantiate singleton bean '" + beanName + "' in parallel - " +
+						"leaving it to mainline thread: " + ex);
+			}
+			return false;
+		}
+		finally {
+			if (previous != null) {
+				this.preInstantiationThread.set(previous);
+			}
+			else {
+				this.preInstantiationThread.remove();
+			}
+		}
+	}
+
+	/**
+	 * Determine the names of the beans that the given bean is known to depend on
+	 * before its creation, as far as derivable from its merged bean definition.
+	 */
+	private Set<String> determinePreInstantiationDependencies(String beanName, RootBeanDefinition mbd) {
+		Set<String> dependencies = new LinkedHashSet<>();
+		String[] dependsOn = mbd.getDependsOn();
+		if (dependsOn != null) {
+			for (String dep : dependsOn) {
+				dependencies.add(canonicalName(dep));
+			}
+		}
+		String factoryBeanName = mbd.getFactoryBeanName();
+		if (factoryBeanName != null) {
+			dependencies.add(transformedBeanName(factoryBeanName));
+		}
+		if (mbd.hasConstructorArgumentValues()) {
+			for (ValueHolder valueHolder : mbd.getConstructorArgumentValues().getIndexedArgumentValues().values()) {
+				addBeanReference(valueHolder.getValue(), dependencies);
+			}
+			for (ValueHolder valueHolder : mbd.getConstructorArgumentValues().getGenericArgumentValues()) {
+				addBeanReference(valueHolder.getValue(), dependencies);
+			}
+		}
+		if (mbd.hasPropertyValues()) {
+			for (PropertyValue pv : mbd.getPropertyValues().getPropertyValues()) {
+				addBeanReference(pv.getValue(), dependencies);
+			}
+		}
+
+		Executable executable = mbd.getResolvedFactoryMethod();
+		if (executable == null && mbd.getFactoryMethodName() == null && mbd.getInstanceSupplier() == null &&
+				mbd.hasBeanClass()) {
+			Constructor<?>[] ctors = mbd.getBeanClass().getDeclaredConstructors();
+			if (ctors.length == 1) {
+				executable = ctors[0];
+			}
+		}
+		if (executable != null) {
+			for (Class<?> paramType : executable.getParameterTypes()) {
+				if (paramType != Object.class && !BeanUtils.isSimpleProperty(paramType)) {
+					Collections.addAll(dependencies, getBeanNamesForType(paramType, true, false));
+				}
+			}
+		}
+		return dependencies;
+	}
+
+	private void addBeanReference(@Nullable Object value, Set<String> dependencies) {
+		if (value instanceof BeanReference beanReference) {
+			dependencies.add(transformedBeanName(beanReference.getBeanName()));
+		}
+	}
+
 	private void instantiateSingleton(String beanName) {
 		if (isFactoryBean(beanName)) {
 			Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
@@ -1198,6 +1515,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 		else if (isConfigurationFrozen()) {
 			clearByTypeCache();
+			BeanTypeIndex typeIndex = this.beanTypeIndex;
+			if (typeIndex != null) {
+				updateBeanTypeIndex(typeIndex, beanName);
+			}
 		}
 
 		// Cache a primary marker for the given bean.
@@ -1296,6 +1617,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		// Remove a cached primary marker for the given bean.
 		this.primaryBeanNames.remove(beanName);
 
+		// Re-index the given bean by type, or remove it from the index.
+		BeanTypeIndex typeIndex = this.beanTypeIndex;
+		if (typeIndex != null) {
+			updateBeanTypeIndex(typeIndex, beanName);
+		}
+
 		// Notify all post-processors that the specified bean definition has been reset.
 		for (MergedBeanDefinitionPostProcessor processor : getBeanPostProcessorCache().mergedDefinition) {
 			processor.resetBeanDefinition(beanName);
@@ -1351,6 +1678,15 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		clearByTypeCache();
 	}
 
+	@Override
+	protected void addSingleton(String beanName, Object singletonObject) {
+		super.addSingleton(beanName, singletonObject);
+		BeanTypeIndex typeIndex = this.beanTypeIndex;
+		if (typeIndex != null) {
+			typeIndex.registerSingleton(beanName, singletonObject);
+		}
+	}
+
 	@Override
 	public void destroySingletons() {
 		super.destroySingletons();
@@ -2559,7 +2895,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	private enum PreInstantiation {
 
-		MAIN, BACKGROUND
+		MAIN, BACKGROUND, PARALLEL
 	}
 
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.BeanCreationException;
+
+/**
+ * Coordination of singleton creation between the threads that pre-instantiate
+ * singletons in parallel for a {@link DefaultListableBeanFactory}.
+ *
+ * <p>These threads do not hold the singleton lock. Instead, each singleton is
+ * created by the first thread that requests it, while any other thread that
+ * requests the same singleton in the meantime waits until its creation has
+ * completed. A thread only proceeds without waiting, resolving an early
+ * reference for a circular reference if available, if waiting would deadlock:
+ * that is, if the creating thread in turn waits for a singleton that the
+ * current thread is creating. Early references are never handed out to other
+ * threads otherwise, since they refer to singletons that are not fully
+ * initialized yet.
+ *
+ * <p>Also keeps track of the number of pre-instantiation tasks that have not
+ * completed yet, without a limit on the number of concurrent tasks.
+ *
+ * @since 7.0
+ * @see DefaultListableBeanFactory#setParallelPreInstantiation
+ */
+final class ParallelSingletonCreation {
+
+	private final Map<String, Thread> creatingThreads = new HashMap<>();
+
+	private final Map<Thread, String> awaitedBeanNames = new HashMap<>();
+
+	private int pendingTasks;
+
+
+	/**
+	 * Return the given singleton, creating it in the current thread unless
+	 * another thread is creating it already, in which case the current thread
+	 * waits for that creation to complete.
+	 * @param beanName the name of the singleton
+	 * @param singletonCreator callback that returns the singleton, creating
+	 * it in the current thread if necessary
+	 * @param earlySingletonLookup callback that returns the singleton or an
+	 * early reference to it, or {@code null} if not available
+	 * @return the singleton object, or an early reference to it in case of
+	 * a circular reference across threads
+	 */
+	Object getSingleton(String beanName, Supplier<Object> singletonCreator, Supplier<Object> earlySingletonLookup) {
+		if (acquire(beanName)) {
+			try {
+				return singletonCreator.get();
+			}
+			finally {
+				release(beanName);
+			}
+		}
+		// Circular reference -> resolve or fail just like in a single thread
+		Object earlySingleton = earlySingletonLookup.get();
+		return (earlySingleton != null ? earlySingleton : singletonCreator.get());
+	}
+
+	/**
+	 * Determine whether the current thread may obtain an early reference to
+	 * the given singleton: only if the singleton is not being created in another
+	 * thread, or if waiting for that thread would deadlock.
+	 * @param beanName the name of the singleton
+	 */
+	synchronized boolean isEarlyReferenceAllowed(String beanName) {
+		Thread currentThread = Thread.currentThread();
+		Thread creatingThread = this.creatingThreads.get(beanName);
+		return (creatingThread == null || creatingThread == currentThread ||
+				wouldDeadlock(creatingThread, currentThread));
+	}
+
+	/**
+	 * Register a pre-instantiation task that is about to be submitted.
+	 */
+	synchronized void taskSubmitted() {
+		this.pendingTasks++;
+	}
+
+	/**
+	 * Register the completion of a pre-instantiation task, whether it has
+	 * run or has been rejected.
+	 */
+	synchronized void taskCompleted() {
+		this.pendingTasks--;
+		if (this.pendingTasks == 0) {
+			notifyAll();
+		}
+	}
+
+	/**
+	 * Wait until all submitted pre-instantiation tasks have completed,
+	 * including tasks that are submitted by other tasks in the meantime.
+	 * <p>Not interruptible, since tasks may still be running: the interrupt
+	 * status is restored once all tasks have completed.
+	 */
+	synchronized void awaitTasks() {
+		boolean interrupted = false;
+		while (this.pendingTasks > 0) {
+			try {
+				wait();
+			}
+			catch (InterruptedException ex) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Acquire the given singleton for creation in the current thread,
+	 * waiting for its creation in another thread to complete if necessary.
+	 * @return {@code true} if the current thread creates the singleton,
+	 * {@code false} in case of a circular reference
+	 */
+	private synchronized boolean acquire(String beanName) {
+		Thread currentThread = Thread.currentThread();
+		while (true) {
+			Thread creatingThread = this.creatingThreads.putIfAbsent(beanName, currentThread);
+			if (creatingThread == null) {
+				return true;
+			}
+			if (creatingThread == currentThread || wouldDeadlock(creatingThread, currentThread)) {
+				return false;
+			}
+			this.awaitedBeanNames.put(currentThread, beanName);
+			try {
+				wait();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new BeanCreationException(beanName,
+						"Interrupted while waiting for creation of singleton bean in other thread", ex);
+			}
+			finally {
+				this.awaitedBeanNames.remove(currentThread);
+			}
+		}
+	}
+
+	private synchronized void release(String beanName) {
+		this.creatingThreads.remove(beanName);
+		notifyAll();
+	}
+
+	/**
+	 * Determine whether the given creating thread waits, directly or through
+	 * further threads, for a singleton that the current thread is creating.
+	 */
+	private boolean wouldDeadlock(Thread creatingThread, Thread currentThread) {
+		Thread thread = creatingThread;
+		for (int i = 0; i <= this.awaitedBeanNames.size(); i++) {
+			String awaitedBeanName = this.awaitedBeanNames.get(thread);
+			if (awaitedBeanName == null) {
+				return false;
+			}
+			thread = this.creatingThreads.get(awaitedBeanName);
+			if (thread == null) {
+				return false;
+			}
+			if (thread == currentThread) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -23,6 +23,7 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -98,6 +99,10 @@ public class RootBeanDefinition extends AbstractBeanDefinition {
 	@Nullable
 	volatile String resolvedDestroyMethodName;
 
+	/** Package-visible field for caching resolved init methods, keyed by init method name. */
+	@Nullable
+	volatile Map<String, Method> resolvedInitMethods;
+
 	/** Common lock for the four constructor fields below. */
 	final Object constructorArgumentLock = new Object();
 
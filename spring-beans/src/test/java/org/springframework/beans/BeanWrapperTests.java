@@ -93,6 +93,53 @@ class BeanWrapperTests extends AbstractPropertyAccessorTests {
 		assertThat(accessor.getPropertyValue("aliasedName")).isEqualTo("tom");
 	}
 
+	@Test
+	void replaceWrappedInstanceOfDifferentClass() {
+		GetterBean target = new GetterBean();
+		BeanWrapperImpl accessor = createAccessor(target);
+		accessor.setPropertyValue("name", "tom");
+		assertThat(target.getAliasedName()).isEqualTo("tom");
+
+		TestBean other = new TestBean();
+		accessor.setWrappedInstance(other);
+		accessor.setPropertyValue("name", "jerry");
+		assertThat(other.getName()).isEqualTo("jerry");
+		assertThat(accessor.getPropertyValue("name")).isEqualTo("jerry");
+		assertThat(accessor.isWritableProperty("aliasedName")).isFalse();
+	}
+
+	@Test
+	void propertyAccessThroughMethodHandles() {
+		TestBean target = new TestBean();
+		BeanWrapperImpl accessor = createAccessor(target);
+		accessor.setUseMethodHandles(true);
+		accessor.setPropertyValue("age", "42");
+		accessor.setPropertyValue("spouse", new TestBean("kerry"));
+		accessor.setPropertyValue("spouse.name", "tom");
+
+		assertThat(target.getAge()).isEqualTo(42);
+		assertThat(target.getSpouse().getName()).isEqualTo("tom");
+		assertThat(accessor.getPropertyValue("age")).isEqualTo(42);
+		assertThat(accessor.getPropertyValue("spouse.name")).isEqualTo("tom");
+		assertThatExceptionOfType(MethodInvocationException.class)
+				.isThrownBy(() -> accessor.setPropertyValue("touchy", "."))
+				.satisfies(ex -> assertThat(ex.getCause()).hasMessage("Can't contain a ."));
+	}
+
+	@Test
+	void getterExceptionThroughMethodHandles() {
+		GetterBean target = new GetterBean();
+		BeanWrapperImpl accessor = createAccessor(target);
+		accessor.setUseMethodHandles(true);
+
+		assertThatExceptionOfType(InvalidPropertyException.class)
+				.isThrownBy(() -> accessor.getPropertyValue("name"))
+				.withRootCauseInstanceOf(RuntimeException.class)
+				.withMessageContaining("Getter for property 'name' threw exception");
+		accessor.setPropertyValue("name", "tom");
+		assertThat(accessor.getPropertyValue("name")).isEqualTo("tom");
+	}
+
 	@Test
 	void setValidAndInvalidPropertyValuesShouldContainExceptionDetails() {
 		TestBean target = new TestBean();
@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.testfixture.beans.TestBean;
 import org.springframework.core.OverridingClassLoader;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -90,4 +92,28 @@ class CachedIntrospectionResultsTests {
 		assertThat(pd.getWriteMethod()).isEqualTo(C.class.getMethod("setFoo", String.class));
 	}
 
+	@Test
+	void bindingPlanSharedPerClass() {
+		CachedIntrospectionResults results = CachedIntrospectionResults.forClass(TestBean.class);
+		PropertyBindingPlan plan = results.getBindingPlan("age");
+		assertThat(plan).isNotNull();
+		assertThat(plan.isReadable()).isTrue();
+		assertThat(plan.isWritable()).isTrue();
+		assertThat(plan.getTypeDescriptor().getType()).isEqualTo(int.class);
+		assertThat(results.getBindingPlan("age")).isSameAs(plan);
+		assertThat(results.getBindingPlan("unknown")).isNull();
+
+		TypeDescriptor sourceType = plan.getSourceTypeDescriptor(new StringBuilder("1"));
+		assertThat(sourceType.getType()).isEqualTo(StringBuilder.class);
+		assertThat(plan.getSourceTypeDescriptor(new StringBuilder("2"))).isSameAs(sourceType);
+		assertThat(plan.getSourceTypeDescriptor(1L).getType()).isEqualTo(Long.class);
+
+		BeanWrapper bw = new BeanWrapperImpl(new TestBean());
+		bw.setConversionService(new DefaultConversionService());
+		bw.setPropertyValue("name", new StringBuilder("tom"));
+		assertThat(bw.getPropertyValue("name")).isEqualTo("tom");
+		assertThat(results.getBindingPlan("name").getSourceTypeDescriptor(new StringBuilder()).getType())
+				.isEqualTo(StringBuilder.class);
+	}
+
 }
@@ -34,6 +34,11 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -86,6 +91,7 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.testfixture.io.SerializationTestUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringValueResolver;
@@ -1586,6 +1592,135 @@ class DefaultListableBeanFactoryTests {
 				.withMessageContaining("'tb1'");
 	}
 
+	@Test
+	void parallelPreInstantiation() {
+		Map<String, String> creatingThreads = new ConcurrentHashMap<>();
+		List<String> created = new CopyOnWriteArrayList<>();
+		lbf.setBootstrapExecutor(new SimpleAsyncTaskExecutor("bootstrap-"));
+		lbf.setParallelPreInstantiation(true);
+		lbf.registerBeanDefinition("spouse", recordingBeanDefinition("spouse", creatingThreads, created));
+		RootBeanDefinition bd = recordingBeanDefinition("tb", creatingThreads, created);
+		bd.getPropertyValues().add("spouse", new RuntimeBeanReference("spouse"));
+		lbf.registerBeanDefinition("tb", bd);
+		RootBeanDefinition dependent = recordingBeanDefinition("dependent", creatingThreads, created);
+		dependent.setDependsOn("tb");
+		lbf.registerBeanDefinition("dependent", dependent);
+		lbf.registerBeanDefinition("independent", recordingBeanDefinition("independent", creatingThreads, created));
+		RootBeanDefinition lazy = recordingBeanDefinition("lazy", creatingThreads, created);
+		lazy.setLazyInit(true);
+		lbf.registerBeanDefinition("lazy", lazy);
+
+		lbf.preInstantiateSingletons();
+		assertThat(created).containsExactlyInAnyOrder("spouse", "tb", "dependent", "independent");
+		assertThat(creatingThreads.values()).allMatch(threadName -> threadName.startsWith("bootstrap-"));
+		assertThat(created.indexOf("spouse")).isLessThan(created.indexOf("tb"));
+		assertThat(created.indexOf("tb")).isLessThan(created.indexOf("dependent"));
+		assertThat(lbf.getBean("tb", TestBean.class).getSpouse()).isSameAs(lbf.getBean("spouse"));
+	}
+
+	@Test
+	void parallelPreInstantiationWithDependsOnCycle() {
+		Map<String, String> creatingThreads = new ConcurrentHashMap<>();
+		List<String> created = new CopyOnWriteArrayList<>();
+		lbf.setBootstrapExecutor(new SimpleAsyncTaskExecutor("bootstrap-"));
+		lbf.setParallelPreInstantiation(true);
+		RootBeanDefinition bd1 = recordingBeanDefinition("tb1", creatingThreads, created);
+		bd1.setDependsOn("tb2");
+		lbf.registerBeanDefinition("tb1", bd1);
+		RootBeanDefinition bd2 = recordingBeanDefinition("tb2", creatingThreads, created);
+		bd2.setDependsOn("tb1");
+		lbf.registerBeanDefinition("tb2", bd2);
+		lbf.registerBeanDefinition("tb3", recordingBeanDefinition("tb3", creatingThreads, created));
+
+		assertThatExceptionOfType(BeanCreationException.class)
+				.isThrownBy(lbf::preInstantiateSingletons)
+				.withMessageContaining("Circular")
+				.withMessageContaining("'tb2'")
+				.withMessageContaining("'tb1'");
+		assertThat(created).containsExactly("tb3");
+		assertThat(creatingThreads.get("tb3")).startsWith("bootstrap-");
+	}
+
+	@Test
+	void parallelPreInstantiationWithUndeclaredSharedDependency() {
+		Map<String, String> creatingThreads = new ConcurrentHashMap<>();
+		List<String> created = new CopyOnWriteArrayList<>();
+		Map<String, Boolean> sharedInitialized = new ConcurrentHashMap<>();
+		CountDownLatch sharedRequested = new CountDownLatch(2);
+		lbf.setBootstrapExecutor(new SimpleAsyncTaskExecutor("bootstrap-"));
+		lbf.setParallelPreInstantiation(true);
+		RootBeanDefinition shared = new RootBeanDefinition(TestBean.class, () -> {
+			created.add("shared");
+			return new TestBean("shared");
+		});
+		// Keep the shared bean in population, after its early exposure,
+		// until both users have requested it
+		shared.getPropertyValues().add("spouse", new RootBeanDefinition(TestBean.class, () -> {
+			try {
+				assertThat(sharedRequested.await(10, TimeUnit.SECONDS)).isTrue();
+				Thread.sleep(100);
+			}
+			catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+			return new TestBean("inner");
+		}));
+		lbf.registerBeanDefinition("shared", shared);
+		for (String beanName : List.of("user1", "user2")) {
+			// Dependency on the shared bean not derivable from the bean definition
+			lbf.registerBeanDefinition(beanName, new RootBeanDefinition(TestBean.class, () -> {
+				created.add(beanName);
+				creatingThreads.put(beanName, Thread.currentThread().getName());
+				sharedRequested.countDown();
+				TestBean user = new TestBean(beanName);
+				TestBean sharedBean = lbf.getBean("shared", TestBean.class);
+				sharedInitialized.put(beanName, sharedBean.getSpouse() != null);
+				user.setSpouse(sharedBean);
+				return user;
+			}));
+		}
+
+		lbf.preInstantiateSingletons();
+		assertThat(created).containsExactlyInAnyOrder("shared", "user1", "user2");
+		assertThat(creatingThreads.values()).allMatch(threadName -> threadName.startsWith("bootstrap-"));
+		assertThat(sharedInitialized).containsOnly(Map.entry("user1", true), Map.entry("user2", true));
+		assertThat(lbf.getBean("user1", TestBean.class).getSpouse()).isSameAs(lbf.getBean("shared"));
+		assertThat(lbf.getBean("user2", TestBean.class).getSpouse()).isSameAs(lbf.getBean("shared"));
+	}
+
+	@Test
+	void parallelPreInstantiationWithCallerRunsExecutorKeepsMainlineThreadMarker() {
+		AtomicInteger attempts = new AtomicInteger();
+		lbf.setBootstrapExecutor(Runnable::run);
+		lbf.setParallelPreInstantiation(true);
+		// Fails in parallel, then retried in the mainline thread
+		lbf.registerBeanDefinition("retried", new RootBeanDefinition(TestBean.class, () -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new IllegalStateException("expected");
+			}
+			return new TestBean(lbf.getBean("background", TestBean.class).getName());
+		}));
+		RootBeanDefinition background = new RootBeanDefinition(TestBean.class);
+		background.setBackgroundInit(true);
+		lbf.registerBeanDefinition("background", background);
+
+		assertThatExceptionOfType(BeanCreationException.class)
+				.isThrownBy(lbf::preInstantiateSingletons)
+				.withRootCauseInstanceOf(BeanCurrentlyInCreationException.class)
+				.satisfies(ex -> assertThat(ex.getMostSpecificCause()).hasMessageContaining("requested in mainline thread"));
+		assertThat(attempts).hasValue(2);
+	}
+
+	private static RootBeanDefinition recordingBeanDefinition(
+			String beanName, Map<String, String> creatingThreads, List<String> created) {
+
+		return new RootBeanDefinition(TestBean.class, () -> {
+			creatingThreads.put(beanName, Thread.currentThread().getName());
+			created.add(beanName);
+			return new TestBean(beanName);
+		});
+	}
+
 	@Test
 	void getBeanByTypeWithNoneFound() {
 		assertThatExceptionOfType(NoSuchBeanDefinitionException.class).isThrownBy(() ->
@@ -1617,6 +1752,50 @@ class DefaultListableBeanFactoryTests {
 		assertThat(bean.getBeanName()).isEqualTo("bd1");
 	}
 
+	@Test
+	void getBeanNamesForTypeAgainstFrozenWithLateRegistration() {
+		GenericBeanDefinition derived = new GenericBeanDefinition();
+		derived.setBeanClassName(DerivedTestBean.class.getName());
+		lbf.registerBeanDefinition("tb1", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("nested", new RootBeanDefinition(NestedTestBean.class));
+		lbf.registerBeanDefinition("factory", new RootBeanDefinition(DummyFactory.class));
+		lbf.registerBeanDefinition("derived", derived);
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("tb1", "factory", "derived");
+
+		lbf.registerBeanDefinition("tb2", new RootBeanDefinition(TestBean.class));
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("tb1", "factory", "derived", "tb2");
+
+		lbf.registerBeanDefinition("tb1", new RootBeanDefinition(NestedTestBean.class));
+		lbf.removeBeanDefinition("derived");
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("factory", "tb2");
+		assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).containsExactly("tb1", "nested");
+		assertThat(lbf.getBeanNamesForType(Object.class)).containsExactly("tb1", "nested", "factory", "tb2");
+	}
+
+	@Test
+	void getBeanNamesForGenericTypeAgainstFrozenWithLateRegistration() {
+		lbf.registerBeanDefinition("tb", new RootBeanDefinition(TestBean.class));
+		lbf.freezeConfiguration();
+		ResolvableType repositoryType = ResolvableType.forClassWithGenerics(Repository.class, City.class, Long.class);
+		assertThat(lbf.getBeanNamesForType(repositoryType)).isEmpty();
+
+		lbf.registerBeanDefinition("repository", new RootBeanDefinition(CityRepository.class));
+		assertThat(lbf.getBeanNamesForType(repositoryType)).containsExactly("repository");
+		assertThat(lbf.getBeanNamesForType(ResolvableType.forClassWithGenerics(
+				Repository.class, City.class, Integer.class))).isEmpty();
+	}
+
+	@Test
+	void getBeanNamesForTypeAgainstFrozenWithSingletonOfDifferentType() {
+		lbf.registerBeanDefinition("tb", new RootBeanDefinition(TestBean.class, DerivedTestBean::new));
+		lbf.freezeConfiguration();
+		assertThat(lbf.getBeanNamesForType(DerivedTestBean.class, true, false)).isEmpty();
+
+		lbf.getBean("tb");
+		assertThat(lbf.getBeanNamesForType(DerivedTestBean.class, true, false)).containsExactly("tb");
+	}
+
 	@Test
 	void getBeanByTypeDefinedInParent() {
 		DefaultListableBeanFactory parent = new DefaultListableBeanFactory();
@@ -2745,6 +2924,36 @@ class DefaultListableBeanFactoryTests {
 		assertThat(bean.destroyMethods).containsExactly("destroy", "destroy2", "destroy1");
 	}
 
+	@Test
+	void multipleInitMethodsOnPrototypeWithPartialPostProcessors() {
+		RootBeanDefinition bd = new RootBeanDefinition(BeanWithInitAndDestroyMethods.class);
+		bd.setInitMethodNames("init1", "init2");
+		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		lbf.registerBeanDefinition("test", bd);
+		List<String> callbacks = new ArrayList<>();
+		lbf.addBeanPostProcessor(new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				callbacks.add("before:" + beanName);
+				return bean;
+			}
+		});
+		lbf.addBeanPostProcessor(new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				callbacks.add("after:" + beanName);
+				return bean;
+			}
+		});
+
+		BeanWithInitAndDestroyMethods bean1 = lbf.getBean("test", BeanWithInitAndDestroyMethods.class);
+		BeanWithInitAndDestroyMethods bean2 = lbf.getBean("test", BeanWithInitAndDestroyMethods.class);
+		assertThat(bean1).isNotSameAs(bean2);
+		assertThat(bean1.initMethods).containsExactly("init", "init1", "init2");
+		assertThat(bean2.initMethods).containsExactly("init", "init1", "init2");
+		assertThat(callbacks).containsExactly("before:test", "after:test", "before:test", "after:test");
+	}
+
 	@Test
 	void beanPostProcessorWithWrappedObjectAndDisposableBean() {
 		RootBeanDefinition bd = new RootBeanDefinition(BeanWithDisposableBean.class);
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Opcodes;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmark for classpath component scanning of a synthetic package.
+ */
+@BenchmarkMode(Mode.AverageTime)
+public class ClassPathScanningBenchmark {
+
+	private static final String BASE_PACKAGE = "org.springframework.context.annotation.synthetic";
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"10000"})
+		public int classCount;
+
+		@Param({"false", "true"})
+		public boolean parallel;
+
+		public Path directory;
+
+		public URLClassLoader classLoader;
+
+		public ClassPathScanningCandidateComponentProvider provider;
+
+		@Setup(Level.Trial)
+		public void generateClasses() throws IOException {
+			this.directory = Files.createTempDirectory("scanning-benchmark");
+			Path packageDirectory = Files.createDirectories(this.directory.resolve(BASE_PACKAGE.replace('.', '/')));
+			for (int i = 0; i < this.classCount; i++) {
+				String className = "Generated" + i;
+				Path subPackage = Files.createDirectories(packageDirectory.resolve("p" + (i % 100)));
+				Files.write(subPackage.resolve(className + ".class"),
+						generateClass(BASE_PACKAGE.replace('.', '/') + "/p" + (i % 100) + "/" + className, i % 10 == 0));
+			}
+			this.classLoader = new URLClassLoader(new URL[] {this.directory.toUri().toURL()}, getClass().getClassLoader());
+		}
+
+		@Setup(Level.Invocation)
+		public void createProvider() {
+			this.provider = new ClassPathScanningCandidateComponentProvider(true);
+			this.provider.setResourceLoader(new DefaultResourceLoader(this.classLoader));
+			this.provider.setParallelScanning(this.parallel);
+		}
+
+		@TearDown(Level.Trial)
+		public void deleteClasses() throws IOException {
+			this.classLoader.close();
+			FileSystemUtils.deleteRecursively(this.directory);
+		}
+
+		private static byte[] generateClass(String internalName, boolean component) {
+			ClassWriter writer = new ClassWriter(0);
+			writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null,
+					"java/lang/Object", null);
+			if (component) {
+				writer.visitAnnotation("L" + Component.class.getName().replace('.', '/') + ";", true).visitEnd();
+			}
+			writer.visitEnd();
+			return writer.toByteArray();
+		}
+	}
+
+	@Benchmark
+	public Set<BeanDefinition> scan(BenchmarkState state) {
+		return state.provider.findCandidateComponents(BASE_PACKAGE);
+	}
+
+}
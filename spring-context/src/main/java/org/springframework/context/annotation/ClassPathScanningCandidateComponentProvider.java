@@ -24,6 +24,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -107,6 +108,15 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	private static final boolean shouldIgnoreClassFormatException =
 			SpringProperties.getFlag(IGNORE_CLASSFORMAT_PROPERTY_NAME);
 
+	/**
+	 * System property that instructs Spring to read the metadata of candidate
+	 * classes in parallel during classpath scanning, for example, for large
+	 * base packages. Not enabled by default.
+	 * @since 7.0
+	 * @see #setParallelScanning
+	 */
+	public static final String PARALLEL_SCANNING_PROPERTY_NAME = "spring.context.scan.parallel";
+
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -131,6 +141,8 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	@Nullable
 	private CandidateComponentsIndex componentsIndex;
 
+	private boolean parallelScanning = SpringProperties.getFlag(PARALLEL_SCANNING_PROPERTY_NAME);
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -310,6 +322,22 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return this.metadataReaderFactory;
 	}
 
+	/**
+	 * Set whether to read the metadata of the resources found in a base package
+	 * in parallel, using the common fork-join pool.
+	 * <p>Type filters and conditions are still applied in a single thread,
+	 * in resource order, so that the resulting candidates and any failures
+	 * are reported in the same order as with sequential scanning. The
+	 * {@linkplain #setMetadataReaderFactory MetadataReaderFactory} needs to be
+	 * thread-safe, as is the case for the default {@link CachingMetadataReaderFactory}.
+	 * <p>Default is "false", unless the {@value #PARALLEL_SCANNING_PROPERTY_NAME}
+	 * system property is set to "true".
+	 * @since 7.0
+	 */
+	public void setParallelScanning(boolean parallelScanning) {
+		this.parallelScanning = parallelScanning;
+	}
+
 
 	/**
 	 * Scan the component index or class path for candidate components.
@@ -428,11 +456,12 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 			String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
 					resolveBasePackage(basePackage) + '/' + this.resourcePattern;
 			Resource[] resources = getResourcePatternResolver().getResources(packageSearchPath);
+			MetadataReader[] metadataReaders = (this.parallelScanning ? readMetadataInParallel(resources) : null);
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
-			for (Resource resource : resources) {
-				String filename = resource.getFilename();
-				if (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR)) {
+			for (int i = 0; i < resources.length; i++) {
+				Resource resource = resources[i];
+				if (isCglibClassResource(resource)) {
 					// Ignore CGLIB-generated classes in the classpath
 					continue;
 				}
@@ -440,7 +469,8 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 					logger.trace("Scanning " + resource);
 				}
 				try {
-					MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+					MetadataReader metadataReader = (metadataReaders != null && metadataReaders[i] != null ?
+							metadataReaders[i] : getMetadataReaderFactory().getMetadataReader(resource));
 					if (isCandidateComponent(metadataReader)) {
 						ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
 						sbd.setSource(resource);
@@ -490,6 +520,34 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return candidates;
 	}
 
+	/**
+	 * Read the metadata of the given resources in parallel.
+	 * <p>Resources that could not be read are left as {@code null} entries,
+	 * to be read again during sequential processing which then reports the
+	 * failure in resource order.
+	 */
+	private MetadataReader[] readMetadataInParallel(Resource[] resources) {
+		MetadataReaderFactory metadataReaderFactory = getMetadataReaderFactory();
+		MetadataReader[] metadataReaders = new MetadataReader[resources.length];
+		IntStream.range(0, resources.length).parallel().forEach(i -> {
+			Resource resource = resources[i];
+			if (!isCglibClassResource(resource)) {
+				try {
+					metadataReaders[i] = metadataReaderFactory.getMetadataReader(resource);
+				}
+				catch (IOException | RuntimeException ex) {
+					// Ignore here: to be reported by sequential processing
+				}
+			}
+		});
+		return metadataReaders;
+	}
+
+	private static boolean isCglibClassResource(Resource resource) {
+		String filename = resource.getFilename();
+		return (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR));
+	}
+
 
 	/**
 	 * Resolve the specified base package into a pattern specification for
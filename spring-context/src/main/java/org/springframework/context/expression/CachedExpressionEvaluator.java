@@ -16,6 +16,9 @@
 
 package org.springframework.context.expression;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
 import java.util.Map;
 
 import org.springframework.core.DefaultParameterNameDiscoverer;
@@ -24,6 +27,7 @@ import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Shared utility class used to evaluate and cache SpEL expressions that
@@ -37,7 +41,8 @@ public abstract class CachedExpressionEvaluator {
 
 	private final SpelExpressionParser parser;
 
-	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+	private final ParameterNameDiscoverer parameterNameDiscoverer =
+			new CachingParameterNameDiscoverer(new DefaultParameterNameDiscoverer());
 
 
 	/**
@@ -65,6 +70,9 @@ public abstract class CachedExpressionEvaluator {
 
 	/**
 	 * Return a shared parameter name discoverer which caches data internally.
+	 * <p>Parameter names are resolved once per method or constructor, so that
+	 * method-based evaluation contexts created for every invocation do not
+	 * need to introspect the method again.
 	 * @since 4.3
 	 */
 	protected ParameterNameDiscoverer getParameterNameDiscoverer() {
@@ -143,4 +151,42 @@ public abstract class CachedExpressionEvaluator {
 		}
 	}
 
+
+	/**
+	 * {@link ParameterNameDiscoverer} decorator that caches the names resolved
+	 * by its delegate per method or constructor.
+	 */
+	private static final class CachingParameterNameDiscoverer implements ParameterNameDiscoverer {
+
+		private static final String[] UNRESOLVED = new String[0];
+
+		private final ParameterNameDiscoverer delegate;
+
+		private final Map<Executable, String[]> parameterNamesCache = new ConcurrentReferenceHashMap<>(256);
+
+		CachingParameterNameDiscoverer(ParameterNameDiscoverer delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		@Nullable
+		public String[] getParameterNames(Method method) {
+			String[] names = this.parameterNamesCache.computeIfAbsent(method, key -> {
+				String[] resolved = this.delegate.getParameterNames(method);
+				return (resolved != null ? resolved : UNRESOLVED);
+			});
+			return (names != UNRESOLVED ? names : null);
+		}
+
+		@Override
+		@Nullable
+		public String[] getParameterNames(Constructor<?> ctor) {
+			String[] names = this.parameterNamesCache.computeIfAbsent(ctor, key -> {
+				String[] resolved = this.delegate.getParameterNames(ctor);
+				return (resolved != null ? resolved : UNRESOLVED);
+			});
+			return (names != UNRESOLVED ? names : null);
+		}
+	}
+
 }
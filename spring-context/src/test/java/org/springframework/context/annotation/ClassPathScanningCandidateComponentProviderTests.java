@@ -109,6 +109,29 @@ class ClassPathScanningCandidateComponentProviderTests {
 		testDefault(provider, "example", true, true);
 	}
 
+	@Test
+	void defaultsWithParallelScan() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		provider.setParallelScanning(true);
+		testDefault(provider, TEST_BASE_PACKAGE, true, false);
+	}
+
+	@Test
+	void parallelScanRetainsCandidateOrder() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		List<String> sequential = provider.findCandidateComponents(TEST_BASE_PACKAGE).stream()
+				.map(BeanDefinition::getBeanClassName).toList();
+		provider.setParallelScanning(true);
+		provider.clearCache();
+		List<String> parallel = provider.findCandidateComponents(TEST_BASE_PACKAGE).stream()
+				.map(BeanDefinition::getBeanClassName).toList();
+		assertThat(parallel).isNotEmpty().containsExactlyElementsOf(sequential);
+	}
+
 	private void testDefault(ClassPathScanningCandidateComponentProvider provider, String basePackage,
 			boolean includeScannedJakartaComponents, boolean includeIndexedComponents) {
 
@@ -67,10 +67,23 @@ class CachedExpressionEvaluatorTests {
 		assertThat(expressionEvaluator.testCache).as("Cached expression should be based on type").hasSize(2);
 	}
 
+	@Test
+	void parameterNamesResolvedOnce() {
+		Method method = ReflectionUtils.findMethod(getClass(), "sample", String.class);
+		String[] parameterNames = expressionEvaluator.getParameterNameDiscoverer().getParameterNames(method);
+		assertThat(parameterNames).containsExactly("name");
+		assertThat(expressionEvaluator.getParameterNameDiscoverer().getParameterNames(method)).isSameAs(parameterNames);
+	}
+
 	private void hasParsedExpression(String expression) {
 		verify(expressionEvaluator.getParser(), times(1)).parseExpression(expression);
 	}
 
+	@SuppressWarnings("unused")
+	private String sample(String name) {
+		return name;
+	}
+
 	private static class TestExpressionEvaluator extends CachedExpressionEvaluator {
 
 		private final Map<ExpressionKey, Expression> testCache = new ConcurrentHashMap<>();
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * Benchmark for reading class metadata with ASM and with the JDK ClassFile API,
+ * the latter only being used when running on JDK 24 or higher.
+ */
+@BenchmarkMode(Mode.AverageTime)
+public class MetadataReaderBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"asm", "classfile"})
+		public String parser;
+
+		@Param({"classpath*:org/springframework/core/**/*.class"})
+		public String locationPattern;
+
+		public List<Resource> classFiles;
+
+		public MetadataReaderFactory metadataReaderFactory;
+
+		@Setup(Level.Trial)
+		public void loadClassFiles() throws IOException {
+			// Keep class file bytes in memory in order to measure parsing only
+			this.classFiles = new ArrayList<>();
+			for (Resource resource : new PathMatchingResourcePatternResolver().getResources(this.locationPattern)) {
+				try (InputStream is = resource.getInputStream()) {
+					this.classFiles.add(new ByteArrayResource(is.readAllBytes(), resource.getDescription()));
+				}
+			}
+			SpringProperties.setProperty(SimpleMetadataReaderFactory.IGNORE_CLASSFILE_API_PROPERTY_NAME,
+					String.valueOf(!"classfile".equals(this.parser)));
+			this.metadataReaderFactory = new SimpleMetadataReaderFactory();
+		}
+	}
+
+	@Benchmark
+	public void readMetadata(BenchmarkState state, Blackhole blackhole) throws IOException {
+		for (Resource classFile : state.classFiles) {
+			blackhole.consume(state.metadataReaderFactory.getMetadataReader(classFile).getAnnotationMetadata());
+		}
+	}
+
+}
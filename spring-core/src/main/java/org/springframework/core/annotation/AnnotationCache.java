@@ -0,0 +1,229 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Internal cache for annotation metadata, holding up to a configurable number
+ * of entries with strong references and any further entries with soft
+ * references, and optionally recording hit and miss counts per cache name.
+ *
+ * <p>With the default capacity of 0 and no explicitly retained entries, lookups
+ * only consult the softly referenced entries.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @since 7.0
+ * @see AnnotationCaches
+ */
+final class AnnotationCache<K, V> {
+
+	private static final int defaultRetainedCapacity = determineRetainedCapacity();
+
+	private static final Map<String, Counters> countersByName = new ConcurrentHashMap<>(8);
+
+	private static volatile boolean statisticsEnabled =
+			SpringProperties.getFlag(AnnotationCaches.STATISTICS_PROPERTY_NAME);
+
+
+	private final int retainedCapacity;
+
+	private final Map<K, V> retained = new ConcurrentHashMap<>();
+
+	private final Map<K, V> softCache;
+
+	private final Counters counters;
+
+	/** Whether the retained entries need to be consulted on lookup. */
+	private volatile boolean retaining;
+
+
+	/**
+	 * Create a new cache contributing to the statistics for the given name.
+	 * @param name the cache name for statistics purposes
+	 */
+	AnnotationCache(String name) {
+		this(name, 16);
+	}
+
+	/**
+	 * Create a new cache contributing to the statistics for the given name.
+	 * @param name the cache name for statistics purposes
+	 * @param initialCapacity the initial capacity of the softly referenced cache
+	 */
+	AnnotationCache(String name, int initialCapacity) {
+		this(name, initialCapacity, defaultRetainedCapacity);
+	}
+
+	/**
+	 * Create a new cache contributing to the statistics for the given name.
+	 * @param name the cache name for statistics purposes
+	 * @param initialCapacity the initial capacity of the softly referenced cache
+	 * @param retainedCapacity the number of entries to hold with strong references
+	 */
+	AnnotationCache(String name, int initialCapacity, int retainedCapacity) {
+		this.retainedCapacity = retainedCapacity;
+		this.softCache = new ConcurrentReferenceHashMap<>(initialCapacity);
+		this.counters = countersByName.computeIfAbsent(name, key -> new Counters());
+		this.retaining = (retainedCapacity > 0);
+	}
+
+
+	/**
+	 * Return the cached value for the given key, if any.
+	 */
+	@Nullable
+	V get(K key) {
+		V value = (this.retaining ? this.retained.get(key) : null);
+		if (value == null) {
+			value = this.softCache.get(key);
+		}
+		if (statisticsEnabled) {
+			if (value != null) {
+				this.counters.hits.increment();
+			}
+			else {
+				this.counters.misses.increment();
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Cache the given value, retaining it if the capacity for strongly
+	 * referenced entries has not been reached yet.
+	 * @return the value cached in the meantime, or the given value
+	 */
+	V put(K key, V value) {
+		Map<K, V> target = (this.retainedCapacity > 0 && this.retained.size() < this.retainedCapacity ?
+				this.retained : this.softCache);
+		V existing = target.putIfAbsent(key, value);
+		return (existing != null ? existing : value);
+	}
+
+	/**
+	 * Return the cached value for the given key, computing and caching
+	 * it if necessary.
+	 * <p>In contrast to {@link Map#computeIfAbsent}, the given function is not
+	 * invoked under a lock, allowing it to access this cache recursively.
+	 */
+	V computeIfAbsent(K key, Function<? super K, ? extends V> generator) {
+		V value = get(key);
+		return (value != null ? value : put(key, generator.apply(key)));
+	}
+
+	/**
+	 * Return the cached value for the given key, computing it if necessary,
+	 * and retain it regardless of the capacity for strongly referenced entries.
+	 */
+	V retain(K key, Function<? super K, ? extends V> generator) {
+		this.retaining = true;
+		V value = this.retained.get(key);
+		if (value == null) {
+			value = this.softCache.remove(key);
+			if (value == null) {
+				value = generator.apply(key);
+			}
+			V existing = this.retained.putIfAbsent(key, value);
+			value = (existing != null ? existing : value);
+		}
+		return value;
+	}
+
+	/**
+	 * Determine whether the given key is held with a strong reference.
+	 */
+	boolean isRetained(K key) {
+		return this.retained.containsKey(key);
+	}
+
+	/**
+	 * Return the keys of all entries currently cached.
+	 */
+	Set<K> keys() {
+		Set<K> keys = new LinkedHashSet<>(this.retained.keySet());
+		keys.addAll(this.softCache.keySet());
+		return keys;
+	}
+
+	/**
+	 * Clear all entries, including the retained ones.
+	 */
+	void clear() {
+		this.retained.clear();
+		this.softCache.clear();
+		this.retaining = (this.retainedCapacity > 0);
+	}
+
+
+	/**
+	 * Return the hit and miss counters per cache name.
+	 */
+	static Map<String, Counters> getCounters() {
+		return countersByName;
+	}
+
+	/**
+	 * Enable or disable recording of hit and miss counts for all caches.
+	 */
+	static void setStatisticsEnabled(boolean enabled) {
+		statisticsEnabled = enabled;
+	}
+
+	/**
+	 * Return whether hit and miss counts are recorded.
+	 */
+	static boolean isStatisticsEnabled() {
+		return statisticsEnabled;
+	}
+
+	private static int determineRetainedCapacity() {
+		String value = SpringProperties.getProperty(AnnotationCaches.CAPACITY_PROPERTY_NAME);
+		if (value == null) {
+			return 0;
+		}
+		try {
+			return Integer.parseInt(value.trim());
+		}
+		catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid value '" + value + "' for property '" +
+					AnnotationCaches.CAPACITY_PROPERTY_NAME + "': expected number of entries", ex);
+		}
+	}
+
+
+	/**
+	 * Hit and miss counters shared by all caches of the same name.
+	 */
+	static final class Counters {
+
+		final LongAdder hits = new LongAdder();
+
+		final LongAdder misses = new LongAdder();
+	}
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Management of the internal caches that back {@link MergedAnnotations} and
+ * {@link AnnotationUtils}: warm-up, snapshots of the cached annotation types,
+ * and hit/miss statistics.
+ *
+ * <p>Cached annotation metadata is softly referenced by default and may get
+ * flushed under memory pressure, to be recomputed on next access. For more
+ * predictable lookups, a number of entries per cache can be retained through
+ * the {@link #CAPACITY_PROPERTY_NAME} property, and the metadata for specific
+ * annotation types can be retained through {@link #warmUp(Collection)}.
+ * Retained entries are only released by {@link AnnotationUtils#clearCache()}.
+ *
+ * <p><b>NOTE:</b> With a capacity configured, the first entries of each cache
+ * are retained regardless of the class loader of their keys, which include
+ * arbitrary annotated classes and methods. Retained entries therefore prevent
+ * the corresponding class loaders from being garbage-collected until
+ * {@link AnnotationUtils#clearCache()} is called, for example, when
+ * redeploying an application in a shared server environment.
+ *
+ * <p>Hit and miss counts are only recorded once enabled through the
+ * {@link #STATISTICS_PROPERTY_NAME} property or {@link #setStatisticsEnabled}.
+ *
+ * <p>A snapshot of the annotation types used by an application can be
+ * {@linkplain #writeSnapshot(Path) written} after startup and used to
+ * {@linkplain #warmUp(Path, ClassLoader) warm up} the caches on the next start.
+ *
+ * @since 7.0
+ * @see AnnotationUtils#clearCache()
+ */
+public abstract class AnnotationCaches {
+
+	/**
+	 * System property that specifies the number of entries per annotation
+	 * metadata cache to hold with strong references:
+	 * {@value #CAPACITY_PROPERTY_NAME}.
+	 * <p>The default is 0, holding all cached metadata with soft references.
+	 * Beyond the given number of entries, further entries are held with soft
+	 * references as well.
+	 * @see org.springframework.core.SpringProperties
+	 */
+	public static final String CAPACITY_PROPERTY_NAME = "spring.annotation.cache.capacity";
+
+	/**
+	 * System property that enables recording of hit and miss counts for the
+	 * annotation metadata caches on startup: {@value #STATISTICS_PROPERTY_NAME}.
+	 * <p>The default is "false", avoiding the overhead on every lookup.
+	 * @see #setStatisticsEnabled(boolean)
+	 * @see #getStatistics()
+	 * @see org.springframework.core.SpringProperties
+	 */
+	public static final String STATISTICS_PROPERTY_NAME = "spring.annotation.cache.statistics";
+
+
+	/**
+	 * Compute and retain the metadata for the given annotation types, along
+	 * with their meta-annotations, regardless of the configured capacity.
+	 * @param annotationTypes the annotation types to warm up the caches for
+	 */
+	public static void warmUp(Collection<Class<? extends Annotation>> annotationTypes) {
+		for (Class<? extends Annotation> annotationType : annotationTypes) {
+			AttributeMethods.retain(annotationType);
+			AnnotationTypeMappings.retain(annotationType);
+		}
+	}
+
+	/**
+	 * Warm up the caches for the annotation types listed in the given snapshot
+	 * file, as written by {@link #writeSnapshot(Path)}.
+	 * <p>Annotation types that cannot be loaded are ignored.
+	 * @param snapshotFile the snapshot file to read
+	 * @param classLoader the ClassLoader to load annotation types with
+	 * (may be {@code null} to indicate the default class loader)
+	 * @throws IOException if the snapshot file cannot be read
+	 * @see #warmUp(Collection)
+	 */
+	@SuppressWarnings("unchecked")
+	public static void warmUp(Path snapshotFile, @Nullable ClassLoader classLoader) throws IOException {
+		List<Class<? extends Annotation>> annotationTypes = new ArrayList<>();
+		for (String line : Files.readAllLines(snapshotFile)) {
+			String typeName = line.trim();
+			if (!typeName.isEmpty() && !typeName.startsWith("#")) {
+				try {
+					Class<?> type = ClassUtils.forName(typeName, classLoader);
+					if (type.isAnnotation()) {
+						annotationTypes.add((Class<? extends Annotation>) type);
+					}
+				}
+				catch (ClassNotFoundException | LinkageError ex) {
+					// Annotation type not available anymore -> ignore.
+				}
+			}
+		}
+		warmUp(annotationTypes);
+	}
+
+	/**
+	 * Return the names of all annotation types that metadata is currently
+	 * cached for, in alphabetical order.
+	 */
+	public static Set<String> getCachedAnnotationTypeNames() {
+		Set<String> typeNames = new TreeSet<>();
+		for (Class<? extends Annotation> annotationType : AnnotationTypeMappings.getCachedAnnotationTypes()) {
+			typeNames.add(annotationType.getName());
+		}
+		for (Class<? extends Annotation> annotationType : AttributeMethods.cache.keys()) {
+			typeNames.add(annotationType.getName());
+		}
+		return typeNames;
+	}
+
+	/**
+	 * Write the names of all annotation types that metadata is currently
+	 * cached for to the given file, one per line.
+	 * @param snapshotFile the snapshot file to write
+	 * @throws IOException if the snapshot file cannot be written
+	 * @see #getCachedAnnotationTypeNames()
+	 * @see #warmUp(Path, ClassLoader)
+	 */
+	public static void writeSnapshot(Path snapshotFile) throws IOException {
+		Files.write(snapshotFile, getCachedAnnotationTypeNames());
+	}
+
+	/**
+	 * Enable or disable recording of hit and miss counts for the annotation
+	 * metadata caches, overriding the {@link #STATISTICS_PROPERTY_NAME} property.
+	 * @param enabled whether to record hit and miss counts
+	 * @see #getStatistics()
+	 */
+	public static void setStatisticsEnabled(boolean enabled) {
+		AnnotationCache.setStatisticsEnabled(enabled);
+	}
+
+	/**
+	 * Return whether hit and miss counts are recorded for the annotation
+	 * metadata caches.
+	 */
+	public static boolean isStatisticsEnabled() {
+		return AnnotationCache.isStatisticsEnabled();
+	}
+
+	/**
+	 * Return the hit and miss counts per annotation metadata cache, accumulated
+	 * while {@linkplain #setStatisticsEnabled statistics were enabled}.
+	 * @return the statistics, keyed by cache name
+	 */
+	public static Map<String, Statistics> getStatistics() {
+		Map<String, Statistics> statistics = new LinkedHashMap<>();
+		AnnotationCache.getCounters().forEach((name, counters) ->
+				statistics.put(name, new Statistics(counters.hits.sum(), counters.misses.sum())));
+		return statistics;
+	}
+
+
+	/**
+	 * Hit and miss counts for an annotation metadata cache.
+	 * @param hitCount the number of lookups that found a cached entry
+	 * @param missCount the number of lookups that did not find a cached entry
+	 */
+	public record Statistics(long hitCount, long missCount) {
+
+		/**
+		 * Return the ratio of lookups that found a cached entry,
+		 * or 0 if there were no lookups at all.
+		 */
+		public double hitRate() {
+			long lookups = this.hitCount + this.missCount;
+			return (lookups > 0 ? (double) this.hitCount / lookups : 0);
+		}
+	}
+
+}
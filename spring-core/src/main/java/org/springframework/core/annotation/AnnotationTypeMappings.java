@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -50,6 +50,9 @@ final class AnnotationTypeMappings {
 
 	private static final IntrospectionFailureLogger failureLogger = IntrospectionFailureLogger.DEBUG;
 
+	private static final Cache standardRepeatablesPlainCache =
+			new Cache(RepeatableContainers.standardRepeatables(), AnnotationFilter.PLAIN);
+
 	private static final Map<AnnotationFilter, Cache> standardRepeatablesCache = new ConcurrentReferenceHashMap<>();
 
 	private static final Map<AnnotationFilter, Cache> noRepeatablesCache = new ConcurrentReferenceHashMap<>();
@@ -222,6 +225,9 @@ final class AnnotationTypeMappings {
 			Set<Class<? extends Annotation>> visitedAnnotationTypes) {
 
 		if (repeatableContainers == RepeatableContainers.standardRepeatables()) {
+			if (annotationFilter == AnnotationFilter.PLAIN) {
+				return standardRepeatablesPlainCache.get(annotationType, visitedAnnotationTypes);
+			}
 			return standardRepeatablesCache.computeIfAbsent(annotationFilter,
 					key -> new Cache(repeatableContainers, key)).get(annotationType, visitedAnnotationTypes);
 		}
@@ -233,7 +239,27 @@ final class AnnotationTypeMappings {
 				visitedAnnotationTypes);
 	}
 
+	/**
+	 * Create {@link AnnotationTypeMappings} for the specified annotation type
+	 * with the default repeatable containers and annotation filter, retaining
+	 * them until the cache is cleared.
+	 * @param annotationType the source annotation type
+	 * @see AnnotationCaches
+	 */
+	static void retain(Class<? extends Annotation> annotationType) {
+		standardRepeatablesPlainCache.retain(annotationType);
+	}
+
+	/**
+	 * Return the annotation types that {@link AnnotationTypeMappings} with
+	 * the default repeatable containers and annotation filter are cached for.
+	 */
+	static Set<Class<? extends Annotation>> getCachedAnnotationTypes() {
+		return standardRepeatablesPlainCache.mappings.keys();
+	}
+
 	static void clearCache() {
+		standardRepeatablesPlainCache.mappings.clear();
 		standardRepeatablesCache.clear();
 		noRepeatablesCache.clear();
 	}
@@ -248,7 +274,7 @@ final class AnnotationTypeMappings {
 
 		private final AnnotationFilter filter;
 
-		private final Map<Class<? extends Annotation>, AnnotationTypeMappings> mappings;
+		private final AnnotationCache<Class<? extends Annotation>, AnnotationTypeMappings> mappings;
 
 		/**
 		 * Create a cache instance with the specified filter.
@@ -257,7 +283,7 @@ final class AnnotationTypeMappings {
 		Cache(RepeatableContainers repeatableContainers, AnnotationFilter filter) {
 			this.repeatableContainers = repeatableContainers;
 			this.filter = filter;
-			this.mappings = new ConcurrentReferenceHashMap<>();
+			this.mappings = new AnnotationCache<>("annotationTypeMappings");
 		}
 
 		/**
@@ -273,6 +299,15 @@ final class AnnotationTypeMappings {
 			return this.mappings.computeIfAbsent(annotationType, key -> createMappings(key, visitedAnnotationTypes));
 		}
 
+		/**
+		 * Get or create {@link AnnotationTypeMappings} for the specified annotation type,
+		 * retaining them regardless of the configured cache capacity.
+		 * @param annotationType the annotation type
+		 */
+		void retain(Class<? extends Annotation> annotationType) {
+			this.mappings.retain(annotationType, key -> createMappings(key, new HashSet<>()));
+		}
+
 		private AnnotationTypeMappings createMappings(Class<? extends Annotation> annotationType,
 				Set<Class<? extends Annotation>> visitedAnnotationTypes) {
 			return new AnnotationTypeMappings(this.repeatableContainers, this.filter, annotationType,
@@ -22,7 +22,6 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
-import java.util.Map;
 import java.util.function.Predicate;
 
 import org.springframework.core.BridgeMethodResolver;
@@ -31,7 +30,6 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.MergedAnnotations.Search;
 import org.springframework.core.annotation.MergedAnnotations.SearchStrategy;
 import org.springframework.lang.Nullable;
-import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 
@@ -51,11 +49,11 @@ abstract class AnnotationsScanner {
 	private static final Method[] NO_METHODS = {};
 
 
-	private static final Map<AnnotatedElement, Annotation[]> declaredAnnotationCache =
-			new ConcurrentReferenceHashMap<>(256);
+	private static final AnnotationCache<AnnotatedElement, Annotation[]> declaredAnnotationCache =
+			new AnnotationCache<>("declaredAnnotations", 256);
 
-	private static final Map<Class<?>, Method[]> baseTypeMethodsCache =
-			new ConcurrentReferenceHashMap<>(256);
+	private static final AnnotationCache<Class<?>, Method[]> baseTypeMethodsCache =
+			new AnnotationCache<>("baseTypeMethods", 256);
 
 
 	private AnnotationsScanner() {
@@ -20,11 +20,9 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Map;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -39,7 +37,8 @@ final class AttributeMethods {
 
 	static final AttributeMethods NONE = new AttributeMethods(null, new Method[0]);
 
-	static final Map<Class<? extends Annotation>, AttributeMethods> cache = new ConcurrentReferenceHashMap<>();
+	static final AnnotationCache<Class<? extends Annotation>, AttributeMethods> cache =
+			new AnnotationCache<>("attributeMethods");
 
 	private static final Comparator<Method> methodComparator = (m1, m2) -> {
 		if (m1 != null && m2 != null) {
@@ -251,6 +250,16 @@ final class AttributeMethods {
 		return cache.computeIfAbsent(annotationType, AttributeMethods::compute);
 	}
 
+	/**
+	 * Get the attribute methods for the given annotation type, retaining
+	 * them until the cache is cleared.
+	 * @param annotationType the annotation type
+	 * @see AnnotationCaches
+	 */
+	static void retain(Class<? extends Annotation> annotationType) {
+		cache.retain(annotationType, AttributeMethods::compute);
+	}
+
 	private static AttributeMethods compute(Class<? extends Annotation> annotationType) {
 		Method[] methods = annotationType.getDeclaredMethods();
 		int size = methods.length;
@@ -16,6 +16,8 @@
 
 package org.springframework.core.codec;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Map;
 
 import reactor.core.publisher.Flux;
@@ -44,8 +46,17 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	 */
 	public static final int DEFAULT_BUFFER_SIZE = StreamUtils.BUFFER_SIZE;
 
+	/**
+	 * The maximum size of memory-mapped regions, also used by
+	 * {@link ResourceRegionEncoder}.
+	 */
+	static final int MAPPED_BUFFER_SIZE = 1024 * 1024;
+
+
 	private final int bufferSize;
 
+	private long memoryMappedThreshold = -1;
+
 
 	public ResourceEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -58,6 +69,28 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	}
 
 
+	/**
+	 * Set the minimum content length, in bytes, for file resources to be read
+	 * through memory-mapped buffers rather than copied into buffers of the
+	 * configured buffer size. See {@link DataBufferUtils#readMapped} for the
+	 * implications of memory mapping.
+	 * <p>By default this is set to -1, in which case memory mapping is not used.
+	 * @param memoryMappedThreshold the threshold, or -1 to disable memory mapping
+	 * @since 7.0
+	 */
+	public void setMemoryMappedThreshold(long memoryMappedThreshold) {
+		this.memoryMappedThreshold = memoryMappedThreshold;
+	}
+
+	/**
+	 * Return the configured {@link #setMemoryMappedThreshold memory-mapped threshold}.
+	 * @since 7.0
+	 */
+	public long getMemoryMappedThreshold() {
+		return this.memoryMappedThreshold;
+	}
+
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		Class<?> clazz = elementType.toClass();
@@ -72,7 +105,26 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 			String logPrefix = Hints.getLogPrefix(hints);
 			logger.debug(logPrefix + "Writing [" + resource + "]");
 		}
+		Path path = getMemoryMappedPath(resource);
+		if (path != null) {
+			return DataBufferUtils.readMapped(path, 0, -1, bufferFactory, MAPPED_BUFFER_SIZE);
+		}
 		return DataBufferUtils.read(resource, bufferFactory, this.bufferSize);
 	}
 
+	@Nullable
+	private Path getMemoryMappedPath(Resource resource) {
+		if (this.memoryMappedThreshold >= 0 && resource.isFile()) {
+			try {
+				if (resource.contentLength() >= this.memoryMappedThreshold) {
+					return resource.getFile().toPath();
+				}
+			}
+			catch (IOException ex) {
+				// fall back on DataBufferUtils#read
+			}
+		}
+		return null;
+	}
+
 }
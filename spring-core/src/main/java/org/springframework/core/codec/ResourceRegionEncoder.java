@@ -18,6 +18,7 @@ package org.springframework.core.codec;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.OptionalLong;
 
@@ -56,8 +57,11 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 	 */
 	public static final String BOUNDARY_STRING_HINT = ResourceRegionEncoder.class.getName() + ".boundaryString";
 
+
 	private final int bufferSize;
 
+	private long memoryMappedThreshold = -1;
+
 
 	public ResourceRegionEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -69,6 +73,28 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 		this.bufferSize = bufferSize;
 	}
 
+
+	/**
+	 * Set the minimum region size, in bytes, for regions of file resources to
+	 * be read through memory-mapped buffers rather than copied into buffers of
+	 * the configured buffer size. See {@link DataBufferUtils#readMapped} for
+	 * the implications of memory mapping.
+	 * <p>By default this is set to -1, in which case memory mapping is not used.
+	 * @param memoryMappedThreshold the threshold, or -1 to disable memory mapping
+	 * @since 7.0
+	 */
+	public void setMemoryMappedThreshold(long memoryMappedThreshold) {
+		this.memoryMappedThreshold = memoryMappedThreshold;
+	}
+
+	/**
+	 * Return the configured {@link #setMemoryMappedThreshold memory-mapped threshold}.
+	 * @since 7.0
+	 */
+	public long getMemoryMappedThreshold() {
+		return this.memoryMappedThreshold;
+	}
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		return super.canEncode(elementType, mimeType)
@@ -129,11 +155,27 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 					"Writing region " + position + "-" + (position + count) + " of [" + resource + "]");
 		}
 
-		Flux<DataBuffer> in = DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize);
+		Path path = getMemoryMappedPath(resource, count);
+		Flux<DataBuffer> in = (path != null ?
+				DataBufferUtils.readMapped(path, position, count, bufferFactory, ResourceEncoder.MAPPED_BUFFER_SIZE) :
+				DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize));
 		if (logger.isDebugEnabled()) {
 			in = in.doOnNext(buffer -> Hints.touchDataBuffer(buffer, hints, logger));
 		}
-		return DataBufferUtils.takeUntilByteCount(in, count);
+		return (path != null ? in : DataBufferUtils.takeUntilByteCount(in, count));
+	}
+
+	@Nullable
+	private Path getMemoryMappedPath(Resource resource, long count) {
+		if (this.memoryMappedThreshold >= 0 && count >= this.memoryMappedThreshold && resource.isFile()) {
+			try {
+				return resource.getFile().toPath();
+			}
+			catch (IOException ex) {
+				// fall back on DataBufferUtils#read
+			}
+		}
+		return null;
 	}
 
 	private DataBuffer getRegionSuffix(DataBufferFactory bufferFactory, String boundaryString) {
@@ -77,6 +77,46 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private final Map<ConverterCacheKey, GenericConverter> converterCache = new ConcurrentReferenceHashMap<>(64);
 
+	private final Map<Class<?>, Map<Class<?>, ClassPairConverter>> classPairCache =
+			new ConcurrentReferenceHashMap<>(64);
+
+	private boolean classPairCaching;
+
+
+	/**
+	 * Set whether conversions between plain classes, as requested through
+	 * {@link #convert(Object, Class)} and {@link #canConvert(Class, Class)},
+	 * should be served from a cache keyed by source and target class.
+	 * <p>On a cache hit, such conversions invoke the resolved converter directly,
+	 * without creating {@link TypeDescriptor TypeDescriptors} or a cache key
+	 * per call. The converter for a pair of classes is resolved once through
+	 * {@link #getConverter(TypeDescriptor, TypeDescriptor)}, so this should not be
+	 * enabled if that method is overridden to return different converters
+	 * over time. The cache is cleared whenever the converter registry changes.
+	 * <p>Note that only the {@code Class}-based variants above use this cache:
+	 * {@link #convert(Object, TypeDescriptor, TypeDescriptor)} and
+	 * {@link #canConvert(TypeDescriptor, TypeDescriptor)} always resolve the
+	 * converter per call, even for plain non-generic types. Conversely, cache
+	 * hits do not go through {@link #convert(Object, TypeDescriptor, TypeDescriptor)},
+	 * so this should not be enabled if a subclass overrides that method to
+	 * customize conversions as requested through {@link #convert(Object, Class)}.
+	 * <p>Default is {@code false}.
+	 * @since 7.0
+	 */
+	public void setClassPairCaching(boolean classPairCaching) {
+		this.classPairCaching = classPairCaching;
+	}
+
+	/**
+	 * Return whether conversions between plain classes are served from a
+	 * cache keyed by source and target class.
+	 * @since 7.0
+	 * @see #setClassPairCaching(boolean)
+	 */
+	public boolean isClassPairCaching() {
+		return this.classPairCaching;
+	}
+
 
 	// ConverterRegistry implementation
 
@@ -131,6 +171,9 @@ public class GenericConversionService implements ConfigurableConversionService {
 	@Override
 	public boolean canConvert(@Nullable Class<?> sourceType, Class<?> targetType) {
 		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		if (this.classPairCaching && sourceType != null) {
+			return (getClassPairConverter(sourceType, targetType).converter != null);
+		}
 		return canConvert((sourceType != null ? TypeDescriptor.valueOf(sourceType) : null),
 				TypeDescriptor.valueOf(targetType));
 	}
@@ -162,6 +205,9 @@ public class GenericConversionService implements ConfigurableConversionService {
 	@Nullable
 	public <T> T convert(@Nullable Object source, Class<T> targetType) {
 		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		if (this.classPairCaching && source != null) {
+			return (T) getClassPairConverter(source.getClass(), targetType).convert(source);
+		}
 		return (T) convert(source, TypeDescriptor.forObject(source), TypeDescriptor.valueOf(targetType));
 	}
 
@@ -275,8 +321,22 @@ public class GenericConversionService implements ConfigurableConversionService {
 		return generics;
 	}
 
+	private ClassPairConverter getClassPairConverter(Class<?> sourceClass, Class<?> targetClass) {
+		Map<Class<?>, ClassPairConverter> converters =
+				this.classPairCache.computeIfAbsent(sourceClass, key -> new ConcurrentReferenceHashMap<>(8));
+		ClassPairConverter converter = converters.get(targetClass);
+		if (converter == null) {
+			TypeDescriptor sourceType = TypeDescriptor.valueOf(sourceClass);
+			TypeDescriptor targetType = TypeDescriptor.valueOf(targetClass);
+			converter = new ClassPairConverter(sourceType, targetType, getConverter(sourceType, targetType));
+			converters.put(targetClass, converter);
+		}
+		return converter;
+	}
+
 	private void invalidateCache() {
 		this.converterCache.clear();
+		this.classPairCache.clear();
 	}
 
 	@Nullable
@@ -310,6 +370,36 @@ public class GenericConversionService implements ConfigurableConversionService {
 	}
 
 
+	/**
+	 * Converter resolved for a pair of classes, holding the type descriptors
+	 * to pass to it.
+	 */
+	private final class ClassPairConverter {
+
+		private final TypeDescriptor sourceType;
+
+		private final TypeDescriptor targetType;
+
+		@Nullable
+		private final GenericConverter converter;
+
+		ClassPairConverter(TypeDescriptor sourceType, TypeDescriptor targetType, @Nullable GenericConverter converter) {
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+			this.converter = converter;
+		}
+
+		@Nullable
+		Object convert(Object source) {
+			if (this.converter != null) {
+				Object result = ConversionUtils.invokeConverter(this.converter, source, this.sourceType, this.targetType);
+				return handleResult(this.sourceType, this.targetType, result);
+			}
+			return handleConverterNotFound(source, this.sourceType, this.targetType);
+		}
+	}
+
+
 	/**
 	 * Adapts a {@link Converter} to a {@link GenericConverter}.
 	 */
@@ -16,6 +16,9 @@
 
 package org.springframework.core.convert.support;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
@@ -73,7 +76,7 @@ final class ObjectToObjectConverter implements ConditionalGenericConverter {
 
 	// Cache for the latest to-method, static factory method, or factory constructor
 	// resolved on a given Class
-	private static final Map<Class<?>, Executable> conversionExecutableCache =
+	private static final Map<Class<?>, ConversionExecutable> conversionExecutableCache =
 			new ConcurrentReferenceHashMap<>(32);
 
 
@@ -96,28 +99,18 @@ final class ObjectToObjectConverter implements ConditionalGenericConverter {
 		}
 		Class<?> sourceClass = sourceType.getType();
 		Class<?> targetClass = targetType.getType();
-		Executable executable = getValidatedExecutable(targetClass, sourceClass);
+		ConversionExecutable executable = getValidatedExecutable(targetClass, sourceClass);
 
-		try {
-			if (executable instanceof Method method) {
-				ReflectionUtils.makeAccessible(method);
-				if (!Modifier.isStatic(method.getModifiers())) {
-					return method.invoke(source);
-				}
-				else {
-					return method.invoke(null, source);
-				}
+		if (executable != null) {
+			try {
+				return executable.invoke(source);
 			}
-			else if (executable instanceof Constructor<?> constructor) {
-				ReflectionUtils.makeAccessible(constructor);
-				return constructor.newInstance(source);
+			catch (InvocationTargetException ex) {
+				throw new ConversionFailedException(sourceType, targetType, source, ex.getTargetException());
+			}
+			catch (Throwable ex) {
+				throw new ConversionFailedException(sourceType, targetType, source, ex);
 			}
-		}
-		catch (InvocationTargetException ex) {
-			throw new ConversionFailedException(sourceType, targetType, source, ex.getTargetException());
-		}
-		catch (Throwable ex) {
-			throw new ConversionFailedException(sourceType, targetType, source, ex);
 		}
 
 		// If sourceClass is Number and targetClass is Integer, the following message should expand to:
@@ -134,13 +127,13 @@ final class ObjectToObjectConverter implements ConditionalGenericConverter {
 	}
 
 	@Nullable
-	private static Executable getValidatedExecutable(Class<?> targetClass, Class<?> sourceClass) {
-		Executable executable = conversionExecutableCache.get(targetClass);
-		if (executable != null && isApplicable(executable, sourceClass)) {
-			return executable;
+	private static ConversionExecutable getValidatedExecutable(Class<?> targetClass, Class<?> sourceClass) {
+		ConversionExecutable cached = conversionExecutableCache.get(targetClass);
+		if (cached != null && isApplicable(cached.executable(), sourceClass)) {
+			return cached;
 		}
 
-		executable = determineToMethod(targetClass, sourceClass);
+		Executable executable = determineToMethod(targetClass, sourceClass);
 		if (executable == null) {
 			executable = determineFactoryMethod(targetClass, sourceClass);
 			if (executable == null) {
@@ -151,8 +144,9 @@ final class ObjectToObjectConverter implements ConditionalGenericConverter {
 			}
 		}
 
-		conversionExecutableCache.put(targetClass, executable);
-		return executable;
+		ConversionExecutable result = ConversionExecutable.of(executable);
+		conversionExecutableCache.put(targetClass, result);
+		return result;
 	}
 
 	private static boolean isApplicable(Executable executable, Class<?> sourceClass) {
@@ -214,4 +208,45 @@ final class ObjectToObjectConverter implements ConditionalGenericConverter {
 		return ClassUtils.getConstructorIfAvailable(targetClass, sourceClass);
 	}
 
+
+	/**
+	 * A resolved to-method, static factory method, or factory constructor,
+	 * invoked through a {@link MethodHandle} if it is publicly accessible,
+	 * or through reflection otherwise.
+	 */
+	private record ConversionExecutable(Executable executable, @Nullable MethodHandle handle) {
+
+		static ConversionExecutable of(Executable executable) {
+			MethodHandle handle;
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+				handle = (executable instanceof Method method ? lookup.unreflect(method) :
+						lookup.unreflectConstructor((Constructor<?>) executable));
+				handle = handle.asType(MethodType.methodType(Object.class, Object.class));
+			}
+			catch (IllegalAccessException | RuntimeException ex) {
+				// Not publicly accessible: fall back to reflection
+				if (executable instanceof Method method) {
+					ReflectionUtils.makeAccessible(method);
+				}
+				else {
+					ReflectionUtils.makeAccessible((Constructor<?>) executable);
+				}
+				handle = null;
+			}
+			return new ConversionExecutable(executable, handle);
+		}
+
+		@Nullable
+		Object invoke(Object source) throws Throwable {
+			if (this.handle != null) {
+				return (Object) this.handle.invokeExact(source);
+			}
+			if (this.executable instanceof Method method) {
+				return (!Modifier.isStatic(method.getModifiers()) ? method.invoke(source) : method.invoke(null, source));
+			}
+			return ((Constructor<?>) this.executable).newInstance(source);
+		}
+	}
+
 }
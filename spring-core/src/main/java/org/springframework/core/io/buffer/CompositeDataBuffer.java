@@ -0,0 +1,897 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBuffer} interface that presents a sequence
+ * of component buffers as a single buffer, without copying their contents.
+ *
+ * <p>Components are added through {@link #addComponent(DataBuffer)}, which
+ * transfers ownership of the component to the composite: components are
+ * released once the composite is released. Reading methods and
+ * {@link #readableByteBuffers()} operate across component boundaries. Data
+ * written to the composite is appended to a buffer allocated from the
+ * {@linkplain #factory() factory} of the composite.
+ *
+ * <p>Modeled on Netty's {@code CompositeByteBuf}, this type is used by
+ * {@link DataBufferUtils#joinComposite(org.reactivestreams.Publisher, int)} to
+ * aggregate buffers of factories that would otherwise copy them into a single
+ * buffer.
+ *
+ * @since 7.0
+ * @see DataBufferUtils#compose(List)
+ */
+public final class CompositeDataBuffer implements PooledDataBuffer {
+
+	private static final int DEFAULT_WRITABLE_CAPACITY = 256;
+
+
+	private final DataBufferFactory bufferFactory;
+
+	private final List<Component> components;
+
+	/**
+	 * The composite that owns the components and the reference count;
+	 * {@code this}, unless this composite is a slice.
+	 */
+	private final CompositeDataBuffer root;
+
+	private final AtomicInteger refCount;
+
+	/**
+	 * Whether the last component is allocated by this composite and may be
+	 * written to. All other components lie within the written data.
+	 */
+	private boolean writableTail;
+
+	private int readPosition;
+
+	private int writePosition;
+
+	private int capacity;
+
+	private int lastAccessed;
+
+
+	/**
+	 * Create a new, empty {@code CompositeDataBuffer}.
+	 * @param bufferFactory the factory to allocate written data from
+	 */
+	public CompositeDataBuffer(DataBufferFactory bufferFactory) {
+		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
+		this.bufferFactory = bufferFactory;
+		this.components = new ArrayList<>();
+		this.root = this;
+		this.refCount = new AtomicInteger(1);
+	}
+
+	/**
+	 * Create a new, empty {@code CompositeDataBuffer} with the given initial
+	 * capacity for written data.
+	 * @param bufferFactory the factory to allocate written data from
+	 * @param initialCapacity the initial capacity
+	 */
+	public CompositeDataBuffer(DataBufferFactory bufferFactory, int initialCapacity) {
+		this(bufferFactory);
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must be >= 0");
+		if (initialCapacity > 0) {
+			addWritableTail(initialCapacity);
+		}
+	}
+
+	private CompositeDataBuffer(DataBufferFactory bufferFactory, List<Component> components,
+			@Nullable CompositeDataBuffer root, int readPosition, int writePosition, int capacity) {
+
+		this.bufferFactory = bufferFactory;
+		this.components = components;
+		this.root = (root != null ? root : this);
+		this.refCount = (root != null ? root.refCount : new AtomicInteger(1));
+		this.readPosition = readPosition;
+		this.writePosition = writePosition;
+		this.capacity = capacity;
+	}
+
+
+	/**
+	 * Append the readable bytes of the given buffer to the data of this
+	 * composite, without copying them.
+	 * <p>This composite takes ownership of the given buffer, which is released
+	 * once the composite is released. Nested composites are flattened.
+	 * @param buffer the buffer to append
+	 * @return this buffer
+	 */
+	public CompositeDataBuffer addComponent(DataBuffer buffer) {
+		Assert.notNull(buffer, "DataBuffer must not be null");
+		assertNotSlice("Adding components to");
+		sealWritableTail();
+		int length = buffer.readableByteCount();
+		if (length == 0) {
+			DataBufferUtils.release(buffer);
+		}
+		else if (buffer instanceof CompositeDataBuffer composite) {
+			int end = composite.writePosition;
+			for (Component component : composite.components) {
+				int from = Math.max(composite.readPosition, component.offset);
+				int to = Math.min(end, component.offset + component.length);
+				if (from < to) {
+					DataBufferUtils.retain(component.buffer);
+					appendComponent(component.buffer, component.start + from - component.offset, to - from);
+				}
+			}
+			DataBufferUtils.release(composite);
+		}
+		else {
+			appendComponent(buffer, buffer.readPosition(), length);
+		}
+		return this;
+	}
+
+	/**
+	 * Append the readable bytes of the given buffers, in order, to the data of
+	 * this composite, without copying them.
+	 * @param buffers the buffers to append
+	 * @return this buffer
+	 * @see #addComponent(DataBuffer)
+	 */
+	public CompositeDataBuffer addComponents(List<? extends DataBuffer> buffers) {
+		Assert.notNull(buffers, "DataBuffer List must not be null");
+		for (DataBuffer buffer : buffers) {
+			addComponent(buffer);
+		}
+		return this;
+	}
+
+	/**
+	 * Return the number of component buffers.
+	 */
+	public int getComponentCount() {
+		return this.components.size();
+	}
+
+	private void appendComponent(DataBuffer buffer, int start, int length) {
+		this.components.add(new Component(buffer, start, this.writePosition, length));
+		this.writePosition += length;
+		this.capacity = this.writePosition;
+	}
+
+	/**
+	 * Restrict the writable tail, if any, to the data written to it, so that
+	 * further components can be appended after it.
+	 */
+	private void sealWritableTail() {
+		if (this.writableTail) {
+			Component tail = syncWritableTail();
+			tail.length = this.writePosition - tail.offset;
+			if (tail.length == 0) {
+				this.components.remove(this.components.size() - 1);
+				DataBufferUtils.release(tail.buffer);
+			}
+			this.writableTail = false;
+			this.capacity = this.writePosition;
+		}
+	}
+
+
+	@Override
+	public boolean isAllocated() {
+		return this.refCount.get() > 0;
+	}
+
+	@Override
+	public PooledDataBuffer retain() {
+		this.refCount.updateAndGet(c -> {
+			if (c != 0) {
+				return c + 1;
+			}
+			else {
+				throw new IllegalStateException("CompositeDataBuffer already released: " + this);
+			}
+		});
+		return this;
+	}
+
+	@Override
+	public PooledDataBuffer touch(Object hint) {
+		for (Component component : this.root.components) {
+			DataBufferUtils.touch(component.buffer, hint);
+		}
+		return this;
+	}
+
+	@Override
+	public boolean release() {
+		int result = this.refCount.updateAndGet(c -> {
+			if (c != 0) {
+				return c - 1;
+			}
+			else {
+				throw new IllegalStateException("CompositeDataBuffer already released: " + this);
+			}
+		});
+		if (result == 0) {
+			for (Component component : this.root.components) {
+				DataBufferUtils.release(component.buffer);
+			}
+		}
+		return (result == 0);
+	}
+
+	@Override
+	public DataBufferFactory factory() {
+		return this.bufferFactory;
+	}
+
+	@Override
+	public int indexOf(IntPredicate predicate, int fromIndex) {
+		Assert.notNull(predicate, "IntPredicate must not be null");
+		if (fromIndex < 0) {
+			fromIndex = 0;
+		}
+		else if (fromIndex >= this.writePosition) {
+			return -1;
+		}
+		for (int i = componentIndex(fromIndex); i < this.components.size(); i++) {
+			Component component = this.components.get(i);
+			int end = Math.min(component.offset + component.length, this.writePosition);
+			for (int index = Math.max(fromIndex, component.offset); index < end; index++) {
+				if (predicate.test(component.getByte(index))) {
+					return index;
+				}
+			}
+			if (end == this.writePosition) {
+				break;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int lastIndexOf(IntPredicate predicate, int fromIndex) {
+		Assert.notNull(predicate, "IntPredicate must not be null");
+		int index = Math.min(fromIndex, this.writePosition - 1);
+		if (index < 0) {
+			return -1;
+		}
+		for (int i = componentIndex(index); i >= 0; i--) {
+			Component component = this.components.get(i);
+			for (; index >= component.offset; index--) {
+				if (predicate.test(component.getByte(index))) {
+					return index;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int readableByteCount() {
+		return this.writePosition - this.readPosition;
+	}
+
+	@Override
+	public int writableByteCount() {
+		return this.capacity - this.writePosition;
+	}
+
+	@Override
+	public int capacity() {
+		return this.capacity;
+	}
+
+	@Override
+	@Deprecated
+	public CompositeDataBuffer capacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException(String.format("'newCapacity' %d must be 0 or higher", capacity));
+		}
+		if (capacity > this.capacity) {
+			assertNotSlice("Changing the capacity of");
+			if (this.writableTail) {
+				Component tail = syncWritableTail();
+				tail.buffer.capacity(tail.start + capacity - tail.offset);
+				tail.length = tail.buffer.capacity() - tail.start;
+				this.capacity = tail.offset + tail.length;
+			}
+			else {
+				addWritableTail(capacity - this.writePosition);
+			}
+		}
+		else if (capacity < this.capacity) {
+			assertNotSlice("Changing the capacity of");
+			this.readPosition = Math.min(this.readPosition, capacity);
+			this.writePosition = Math.min(this.writePosition, capacity);
+			truncate(capacity);
+		}
+		return this;
+	}
+
+	@Override
+	public CompositeDataBuffer ensureWritable(int length) {
+		if (length <= writableByteCount()) {
+			return this;
+		}
+		assertNotSlice("Changing the capacity of");
+		if (this.writableTail) {
+			Component tail = syncWritableTail();
+			tail.buffer.ensureWritable(length);
+			tail.length = tail.buffer.capacity() - tail.start;
+			this.capacity = tail.offset + tail.length;
+		}
+		else {
+			addWritableTail(Math.max(length, DEFAULT_WRITABLE_CAPACITY));
+		}
+		return this;
+	}
+
+	/**
+	 * Allocate a component for written data with at least the given capacity.
+	 */
+	private void addWritableTail(int length) {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(length);
+		buffer.ensureWritable(length);
+		Component tail = new Component(buffer, buffer.writePosition(), this.writePosition,
+				buffer.capacity() - buffer.writePosition());
+		this.components.add(tail);
+		this.writableTail = true;
+		this.capacity = tail.offset + tail.length;
+	}
+
+	@Override
+	public int readPosition() {
+		return this.readPosition;
+	}
+
+	@Override
+	public CompositeDataBuffer readPosition(int readPosition) {
+		assertIndex(readPosition >= 0, "'readPosition' %d must be >= 0", readPosition);
+		assertIndex(readPosition <= this.writePosition, "'readPosition' %d must be <= %d",
+				readPosition, this.writePosition);
+		this.readPosition = readPosition;
+		return this;
+	}
+
+	@Override
+	public int writePosition() {
+		return this.writePosition;
+	}
+
+	@Override
+	public CompositeDataBuffer writePosition(int writePosition) {
+		assertIndex(writePosition >= this.readPosition, "'writePosition' %d must be >= %d",
+				writePosition, this.readPosition);
+		assertIndex(writePosition <= this.capacity, "'writePosition' %d must be <= %d",
+				writePosition, this.capacity);
+		Component tail = (this.writableTail ? this.components.get(this.components.size() - 1) : null);
+		if (tail == null || writePosition < tail.offset) {
+			truncate(writePosition);
+			this.writePosition = writePosition;
+		}
+		else {
+			this.writePosition = writePosition;
+			syncWritableTail();
+		}
+		return this;
+	}
+
+	/**
+	 * Drop all data and components after the given index.
+	 */
+	private void truncate(int index) {
+		for (int i = this.components.size() - 1; i >= 0; i--) {
+			Component component = this.components.get(i);
+			if (component.offset >= index) {
+				this.components.remove(i);
+				if (this.root == this) {
+					DataBufferUtils.release(component.buffer);
+				}
+			}
+			else {
+				component.length = Math.min(component.length, index - component.offset);
+				break;
+			}
+		}
+		this.writableTail = false;
+		this.capacity = index;
+		this.lastAccessed = 0;
+	}
+
+	@Override
+	public byte getByte(int index) {
+		assertIndex(index >= 0, "index %d must be >= 0", index);
+		assertIndex(index <= this.writePosition - 1, "index %d must be <= %d", index, this.writePosition - 1);
+		return this.components.get(componentIndex(index)).getByte(index);
+	}
+
+	@Override
+	public byte read() {
+		assertIndex(this.readPosition <= this.writePosition - 1, "readPosition %d must be <= %d",
+				this.readPosition, this.writePosition - 1);
+		int index = this.readPosition;
+		byte b = this.components.get(componentIndex(index)).getByte(index);
+		this.readPosition = index + 1;
+		return b;
+	}
+
+	@Override
+	public CompositeDataBuffer read(byte[] destination) {
+		Assert.notNull(destination, "Byte array must not be null");
+		read(destination, 0, destination.length);
+		return this;
+	}
+
+	@Override
+	public CompositeDataBuffer read(byte[] destination, int offset, int length) {
+		Assert.notNull(destination, "Byte array must not be null");
+		assertIndex(this.readPosition <= this.writePosition - length,
+				"readPosition %d and length %d should be smaller than writePosition %d",
+				this.readPosition, length, this.writePosition);
+		copy(this.readPosition, ByteBuffer.wrap(destination), offset, length);
+		this.readPosition += length;
+		return this;
+	}
+
+	@Override
+	public CompositeDataBuffer write(byte b) {
+		ensureWritable(1);
+		syncWritableTail().buffer.write(b);
+		this.writePosition++;
+		return this;
+	}
+
+	@Override
+	public CompositeDataBuffer write(byte[] source) {
+		Assert.notNull(source, "Byte array must not be null");
+		write(source, 0, source.length);
+		return this;
+	}
+
+	@Override
+	public CompositeDataBuffer write(byte[] source, int offset, int length) {
+		Assert.notNull(source, "Byte array must not be null");
+		if (length > 0) {
+			ensureWritable(length);
+			syncWritableTail().buffer.write(source, offset, length);
+			this.writePosition += length;
+		}
+		return this;
+	}
+
+	@Override
+	public CompositeDataBuffer write(DataBuffer... buffers) {
+		if (buffers.length > 0) {
+			int length = 0;
+			for (DataBuffer buffer : buffers) {
+				length += buffer.readableByteCount();
+			}
+			if (length > 0) {
+				ensureWritable(length);
+				syncWritableTail().buffer.write(buffers);
+				this.writePosition += length;
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public CompositeDataBuffer write(ByteBuffer... buffers) {
+		if (buffers.length > 0) {
+			int length = 0;
+			for (ByteBuffer buffer : buffers) {
+				length += buffer.remaining();
+			}
+			if (length > 0) {
+				ensureWritable(length);
+				syncWritableTail().buffer.write(buffers);
+				this.writePosition += length;
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Align the write position of the writable tail with the write position
+	 * of this composite.
+	 */
+	private Component syncWritableTail() {
+		Component tail = this.components.get(this.components.size() - 1);
+		tail.buffer.writePosition(tail.start + this.writePosition - tail.offset);
+		return tail;
+	}
+
+	@Override
+	@Deprecated
+	public CompositeDataBuffer slice(int index, int length) {
+		checkIndex(index, length);
+		List<Component> slice = new ArrayList<>();
+		int end = index + length;
+		for (int i = (length > 0 ? componentIndex(index) : this.components.size());
+				i < this.components.size(); i++) {
+
+			Component component = this.components.get(i);
+			if (component.offset >= end) {
+				break;
+			}
+			int from = Math.max(index, component.offset);
+			int to = Math.min(end, component.offset + component.length);
+			slice.add(new Component(component.buffer, component.start + from - component.offset,
+					from - index, to - from));
+		}
+		return new CompositeDataBuffer(this.bufferFactory, slice, this.root, 0, length, length);
+	}
+
+	@Override
+	public CompositeDataBuffer split(int index) {
+		checkIndex(index);
+		assertNotSlice("Splitting");
+		List<Component> result = new ArrayList<>();
+		int resultWritePosition = Math.min(this.writePosition, index);
+		int i = 0;
+		while (i < this.components.size()) {
+			Component component = this.components.get(i);
+			if (component.offset + component.length <= index) {
+				result.add(component);
+				this.components.remove(i);
+				continue;
+			}
+			if (component.offset < index) {
+				int length = index - component.offset;
+				int resultLength = resultWritePosition - component.offset;
+				if (resultLength > 0) {
+					DataBufferUtils.retain(component.buffer);
+					result.add(new Component(component.buffer, component.start, component.offset, resultLength));
+				}
+				component.start += length;
+				component.length -= length;
+				component.offset = index;
+			}
+			component.offset -= index;
+			i++;
+		}
+		boolean resultWritableTail = (this.writableTail && this.components.isEmpty());
+		this.writableTail = (this.writableTail && !this.components.isEmpty());
+		int resultCapacity = 0;
+		if (!result.isEmpty()) {
+			Component last = result.get(result.size() - 1);
+			resultCapacity = last.offset + last.length;
+		}
+
+		CompositeDataBuffer split = new CompositeDataBuffer(this.bufferFactory, result, null,
+				Math.min(this.readPosition, index), resultWritePosition, resultCapacity);
+		split.writableTail = resultWritableTail;
+
+		this.writePosition = Math.max(this.writePosition, index) - index;
+		this.readPosition = Math.max(this.readPosition, index) - index;
+		this.capacity = (this.components.isEmpty() ? this.writePosition : this.capacity - index);
+		this.lastAccessed = 0;
+		return split;
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer() {
+		return asByteBuffer(this.readPosition, readableByteCount());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>The returned buffer only shares data with this buffer if the
+	 * requested range lies within a single component, and is a copy otherwise.
+	 */
+	@Override
+	@Deprecated
+	public ByteBuffer asByteBuffer(int index, int length) {
+		checkIndex(index, length);
+		if (length > 0) {
+			Component component = this.components.get(componentIndex(index));
+			if (index + length <= component.offset + component.length) {
+				return component.buffer.asByteBuffer(component.start + index - component.offset, length);
+			}
+		}
+		return toByteBuffer(index, length);
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuffer toByteBuffer(int index, int length) {
+		checkIndex(index, length);
+		ByteBuffer copy = (this.bufferFactory.isDirect() ?
+				ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length));
+		copy(index, copy, 0, length);
+		return copy;
+	}
+
+	@Override
+	public void toByteBuffer(int srcPos, ByteBuffer dest, int destPos, int length) {
+		checkIndex(srcPos, length);
+		Assert.notNull(dest, "Dest must not be null");
+		copy(srcPos, dest, destPos, length);
+	}
+
+	private void copy(int srcPos, ByteBuffer dest, int destPos, int length) {
+		int end = srcPos + length;
+		for (int i = (length > 0 ? componentIndex(srcPos) : this.components.size());
+				i < this.components.size() && srcPos < end; i++) {
+
+			Component component = this.components.get(i);
+			int count = Math.min(end, component.offset + component.length) - srcPos;
+			component.buffer.toByteBuffer(component.start + srcPos - component.offset, dest, destPos, count);
+			srcPos += count;
+			destPos += count;
+		}
+	}
+
+	@Override
+	public DataBuffer.ByteBufferIterator readableByteBuffers() {
+		return new CompositeByteBufferIterator(this.readPosition, this.writePosition);
+	}
+
+	@Override
+	public DataBuffer.ByteBufferIterator writableByteBuffers() {
+		if (this.writableTail && writableByteCount() > 0) {
+			return syncWritableTail().buffer.writableByteBuffers();
+		}
+		return new CompositeByteBufferIterator(this.writePosition, this.writePosition);
+	}
+
+	@Override
+	public String toString(int index, int length, Charset charset) {
+		checkIndex(index, length);
+		Assert.notNull(charset, "Charset must not be null");
+		if (length > 0) {
+			Component component = this.components.get(componentIndex(index));
+			if (index + length <= component.offset + component.length) {
+				return component.buffer.toString(component.start + index - component.offset, length, charset);
+			}
+		}
+		byte[] bytes = new byte[length];
+		copy(index, ByteBuffer.wrap(bytes), 0, length);
+		return new String(bytes, charset);
+	}
+
+
+	/**
+	 * Return the index of the component that holds the given index, which must
+	 * be smaller than the capacity.
+	 */
+	private int componentIndex(int index) {
+		int last = this.lastAccessed;
+		if (last < this.components.size() && this.components.get(last).contains(index)) {
+			return last;
+		}
+		if (last + 1 < this.components.size() && this.components.get(last + 1).contains(index)) {
+			this.lastAccessed = last + 1;
+			return last + 1;
+		}
+		int low = 0;
+		int high = this.components.size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			Component component = this.components.get(mid);
+			if (index < component.offset) {
+				high = mid - 1;
+			}
+			else if (index >= component.offset + component.length) {
+				low = mid + 1;
+			}
+			else {
+				this.lastAccessed = mid;
+				return mid;
+			}
+		}
+		throw new IndexOutOfBoundsException("No component for index " + index + " in " + this);
+	}
+
+	private void assertNotSlice(String operation) {
+		if (this.root != this) {
+			throw new UnsupportedOperationException(operation + " a sliced buffer is not supported");
+		}
+	}
+
+	private void checkIndex(int index, int length) {
+		checkIndex(index);
+		assertIndex(length >= 0, "length %d must be >= 0", length);
+		assertIndex(index + length <= this.capacity, "index %d and length %d must be <= %d",
+				index, length, this.capacity);
+	}
+
+	private void checkIndex(int index) {
+		assertIndex(index >= 0, "index %d must be >= 0", index);
+		assertIndex(index <= this.capacity, "index %d must be <= %d", index, this.capacity);
+	}
+
+	private void assertIndex(boolean expression, String format, Object... args) {
+		if (!expression) {
+			String message = String.format(format, args);
+			throw new IndexOutOfBoundsException(message);
+		}
+	}
+
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof CompositeDataBuffer that) || readableByteCount() != that.readableByteCount()) {
+			return false;
+		}
+		for (int i = 0; i < readableByteCount(); i++) {
+			if (getByte(this.readPosition + i) != that.getByte(that.readPosition + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = this.writePosition - 1; i >= this.readPosition; i--) {
+			hash = 31 * hash + getByte(i);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("CompositeDataBuffer (r: %d, w: %d, c: %d, components: %d)",
+				this.readPosition, this.writePosition, this.capacity, this.components.size());
+	}
+
+
+	/**
+	 * A range of bytes of a component buffer, mapped to an offset in the
+	 * composite.
+	 */
+	private static final class Component {
+
+		private final DataBuffer buffer;
+
+		/** The index of the range in the component buffer. */
+		private int start;
+
+		/** The index of the range in the composite. */
+		private int offset;
+
+		private int length;
+
+		Component(DataBuffer buffer, int start, int offset, int length) {
+			this.buffer = buffer;
+			this.start = start;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		boolean contains(int index) {
+			return (index >= this.offset && index < this.offset + this.length);
+		}
+
+		byte getByte(int index) {
+			return this.buffer.getByte(this.start + index - this.offset);
+		}
+	}
+
+
+	/**
+	 * Iterates over the readable byte buffers of each component that overlaps
+	 * with a range of the composite, restricted to that range.
+	 */
+	private final class CompositeByteBufferIterator implements DataBuffer.ByteBufferIterator {
+
+		private final int start;
+
+		private final int end;
+
+		private int componentIndex;
+
+		@Nullable
+		private DataBuffer.ByteBufferIterator current;
+
+		/** The component buffer index of the next byte buffer of {@link #current}. */
+		private int bufferIndex;
+
+		/** The start of the component buffer range to expose. */
+		private int rangeStart;
+
+		/** The end of the component buffer range to expose. */
+		private int rangeEnd;
+
+		@Nullable
+		private ByteBuffer next;
+
+		CompositeByteBufferIterator(int start, int end) {
+			this.start = start;
+			this.end = end;
+			this.componentIndex = (start < end ? componentIndex(start) : components.size());
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (this.next == null) {
+				if (this.current != null && this.bufferIndex < this.rangeEnd && this.current.hasNext()) {
+					ByteBuffer byteBuffer = this.current.next();
+					int bufferStart = this.bufferIndex;
+					this.bufferIndex += byteBuffer.remaining();
+					int sliceStart = Math.max(bufferStart, this.rangeStart);
+					int sliceEnd = Math.min(this.bufferIndex, this.rangeEnd);
+					if (sliceStart < sliceEnd) {
+						this.next = byteBuffer.slice(
+								byteBuffer.position() + sliceStart - bufferStart, sliceEnd - sliceStart);
+					}
+				}
+				else if (!openNextComponent()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean openNextComponent() {
+			closeCurrent();
+			if (this.componentIndex >= components.size()) {
+				return false;
+			}
+			Component component = components.get(this.componentIndex++);
+			if (component.offset >= this.end) {
+				this.componentIndex = components.size();
+				return false;
+			}
+			int from = Math.max(this.start, component.offset);
+			int to = Math.min(this.end, component.offset + component.length);
+			this.rangeStart = component.start + from - component.offset;
+			this.rangeEnd = component.start + to - component.offset;
+			this.bufferIndex = component.buffer.readPosition();
+			this.current = component.buffer.readableByteBuffers();
+			return true;
+		}
+
+		@Override
+		public ByteBuffer next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			ByteBuffer result = this.next;
+			this.next = null;
+			return result;
+		}
+
+		@Override
+		public void close() {
+			closeCurrent();
+			this.componentIndex = components.size();
+		}
+
+		private void closeCurrent() {
+			if (this.current != null) {
+				this.current.close();
+				this.current = null;
+			}
+		}
+	}
+
+}
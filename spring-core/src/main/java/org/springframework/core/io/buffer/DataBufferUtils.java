@@ -21,15 +21,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
@@ -49,6 +54,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.context.Context;
 
 import org.springframework.core.io.Resource;
@@ -236,6 +242,61 @@ public abstract class DataBufferUtils {
 		return position == 0 ? result : skipUntilByteCount(result, position);
 	}
 
+	/**
+	 * Read a region of the given file {@code Path} into a {@code Flux} of
+	 * {@code DataBuffer}s that are backed by memory-mapped regions of the file,
+	 * rather than copying the file contents into newly allocated buffers.
+	 * The method ensures that the file is closed when the flux is terminated.
+	 * <p>Mapped regions are released by the garbage collector, not when the
+	 * data buffers are released. Also note that the file must not be truncated
+	 * while the data buffers are in use, and that on some platforms, a file
+	 * cannot be deleted while a region of it is mapped.
+	 * <p>Opening the file and mapping its regions are blocking operations,
+	 * so the returned flux subscribes, and maps regions on demand, on the
+	 * {@link Schedulers#boundedElastic() bounded elastic} scheduler rather
+	 * than on the subscribing thread, which may be an event loop thread.
+	 * Where the target supports zero-copy transfer, for example through
+	 * {@code ZeroCopyHttpOutputMessage}, that is preferable to mapping.
+	 * @param path the path to read bytes from
+	 * @param position the position to start reading from
+	 * @param count the number of bytes to read, or a negative value to read
+	 * until the end of the file
+	 * @param bufferFactory the factory to wrap the mapped regions with
+	 * @param bufferSize the maximum size of the mapped regions
+	 * @return a Flux of data buffers backed by mapped regions of the file
+	 * @since 7.0
+	 */
+	public static Flux<DataBuffer> readMapped(
+			Path path, long position, long count, DataBufferFactory bufferFactory, int bufferSize) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be > 0");
+
+		return Flux.using(() -> FileChannel.open(path, StandardOpenOption.READ),
+				channel -> Flux.<DataBuffer, Long>generate(() -> position, (current, sink) -> {
+					try {
+						long size = channel.size();
+						long end = (count < 0 || count > size - position ? size : position + count);
+						if (current >= end) {
+							sink.complete();
+							return current;
+						}
+						long length = Math.min(bufferSize, end - current);
+						MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, current, length);
+						sink.next(bufferFactory.wrap(mappedBuffer));
+						return current + length;
+					}
+					catch (IOException ex) {
+						sink.error(ex);
+						return current;
+					}
+				}),
+				DataBufferUtils::closeChannel)
+				.subscribeOn(Schedulers.boundedElastic());
+	}
+
 
 	//---------------------------------------------------------------------
 	// Writing
@@ -680,6 +741,56 @@ public abstract class DataBufferUtils {
 				.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
 	}
 
+	/**
+	 * Variant of {@link #join(Publisher, int)} that always aggregates multiple
+	 * buffers into a {@link CompositeDataBuffer}, rather than relying on the
+	 * {@linkplain DataBufferFactory#join(List) join} implementation of their
+	 * factory, which may copy them into a single buffer.
+	 * <p>This avoids copying at the expense of keeping the full capacity of
+	 * every given buffer in use until the composite is released. Also note
+	 * that the returned buffer must be {@linkplain #release(DataBuffer) released},
+	 * even for factories that do not pool buffers otherwise, and that
+	 * {@link DataBuffer#asByteBuffer(int, int)} copies data whenever the
+	 * requested range spans several of the given buffers.
+	 * @param buffers the data buffers that are to be composed
+	 * @param maxByteCount the max number of bytes to buffer, or -1 for unlimited
+	 * @return a buffer with the aggregated content, possibly an empty Mono if
+	 * the max number of bytes to buffer is exceeded.
+	 * @throws DataBufferLimitException if maxByteCount is exceeded
+	 * @since 7.0
+	 * @see #compose(List)
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public static Mono<DataBuffer> joinComposite(Publisher<? extends DataBuffer> buffers, int maxByteCount) {
+		Assert.notNull(buffers, "'buffers' must not be null");
+
+		if (buffers instanceof Mono mono) {
+			return mono;
+		}
+
+		return Flux.from(buffers)
+				.collect(() -> new LimitedDataBufferList(maxByteCount), LimitedDataBufferList::add)
+				.filter(list -> !list.isEmpty())
+				.map(list -> (list.size() > 1 ? compose(list) : list.get(0)))
+				.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
+	/**
+	 * Return a {@link CompositeDataBuffer} that presents the given buffers as a
+	 * single buffer, without copying them, regardless of whether the
+	 * {@linkplain DataBufferFactory#join(List) join} implementation of their
+	 * factory copies data.
+	 * <p>Note that the given data buffers do <strong>not</strong> have to be
+	 * released. They will be released as part of the returned composite.
+	 * @param dataBuffers the data buffers that are to be composed
+	 * @return a buffer that is composed of the {@code dataBuffers} argument
+	 * @since 7.0
+	 */
+	public static CompositeDataBuffer compose(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "DataBuffer List must not be empty");
+		return new CompositeDataBuffer(dataBuffers.get(0).factory()).addComponents(dataBuffers);
+	}
+
 	/**
 	 * Return a {@link Matcher} for the given delimiter.
 	 * The matcher can be used to find the delimiters in a stream of data buffers.
@@ -1144,9 +1255,20 @@ public abstract class DataBufferUtils {
 		protected void hookOnNext(DataBuffer dataBuffer) {
 			try {
 				try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
-					ByteBuffer byteBuffer = iterator.next();
-					while (byteBuffer.hasRemaining()) {
-						this.channel.write(byteBuffer);
+					if (iterator.hasNext()) {
+						ByteBuffer byteBuffer = iterator.next();
+						if (iterator.hasNext() && this.channel instanceof GatheringByteChannel gatheringChannel) {
+							List<ByteBuffer> byteBuffers = new ArrayList<>();
+							byteBuffers.add(byteBuffer);
+							iterator.forEachRemaining(byteBuffers::add);
+							write(gatheringChannel, byteBuffers.toArray(new ByteBuffer[0]));
+						}
+						else {
+							write(byteBuffer);
+							while (iterator.hasNext()) {
+								write(iterator.next());
+							}
+						}
 					}
 				}
 				this.sink.next(dataBuffer);
@@ -1158,6 +1280,22 @@ public abstract class DataBufferUtils {
 			}
 		}
 
+		private void write(ByteBuffer byteBuffer) throws IOException {
+			while (byteBuffer.hasRemaining()) {
+				this.channel.write(byteBuffer);
+			}
+		}
+
+		private static void write(GatheringByteChannel channel, ByteBuffer[] byteBuffers) throws IOException {
+			int offset = 0;
+			while (offset < byteBuffers.length) {
+				channel.write(byteBuffers, offset, byteBuffers.length - offset);
+				while (offset < byteBuffers.length && !byteBuffers[offset].hasRemaining()) {
+					offset++;
+				}
+			}
+		}
+
 		@Override
 		protected void hookOnError(Throwable throwable) {
 			this.sink.error(throwable);
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBufferFactory} interface that creates
+ * reference counted {@link PoolingDataBuffer} instances, and recycles their
+ * memory once released, for runtimes that do not provide pooled buffers.
+ *
+ * <p>Requested capacities are rounded up to a power-of-two size class, from
+ * {@value #MIN_POOLED_CAPACITY} bytes to the configured maximum pooled
+ * capacity. Each size class keeps a bounded number of released
+ * {@link ByteBuffer ByteBuffers} for reuse. Larger requests, and requests made
+ * while a size class has no free buffer, allocate new memory. Buffers
+ * created via {@link #wrap} are reference counted but not recycled.
+ *
+ * <p>Buffers must be released through {@link DataBufferUtils#release}, or
+ * their memory is left to the garbage collector and not reused. The number of
+ * buffers that were allocated but not yet released is available via
+ * {@link #getAllocatedBufferCount()}, which helps to detect leaks.
+ *
+ * @since 7.0
+ * @see PoolingDataBuffer
+ */
+public class PoolingDataBufferFactory implements DataBufferFactory {
+
+	/**
+	 * The smallest size class, in bytes.
+	 */
+	public static final int MIN_POOLED_CAPACITY = 256;
+
+	/**
+	 * The default largest size class, in bytes.
+	 */
+	public static final int DEFAULT_MAX_POOLED_CAPACITY = 64 * 1024;
+
+	/**
+	 * The default number of released buffers kept per size class.
+	 */
+	public static final int DEFAULT_MAX_POOLED_BUFFERS = 256;
+
+
+	private final DefaultDataBufferFactory delegate;
+
+	private final int maxPooledCapacity;
+
+	private final SizeClass[] sizeClasses;
+
+	private final AtomicInteger allocatedBufferCount = new AtomicInteger();
+
+	private final LongAdder poolHitCount = new LongAdder();
+
+	private final LongAdder poolMissCount = new LongAdder();
+
+
+	/**
+	 * Create a new {@code PoolingDataBufferFactory} with default settings,
+	 * pooling direct buffers.
+	 */
+	public PoolingDataBufferFactory() {
+		this(true);
+	}
+
+	/**
+	 * Create a new {@code PoolingDataBufferFactory}, indicating whether direct
+	 * buffers should be pooled.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	public PoolingDataBufferFactory(boolean preferDirect) {
+		this(preferDirect, DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_MAX_POOLED_BUFFERS);
+	}
+
+	/**
+	 * Create a new {@code PoolingDataBufferFactory}, indicating whether direct
+	 * buffers should be pooled, the capacity of the largest size class, and
+	 * the number of released buffers to keep per size class.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 * @param maxPooledCapacity the capacity of the largest size class, which
+	 * is rounded up to a power of two
+	 * @param maxPooledBuffers the number of released buffers to keep per size class
+	 */
+	public PoolingDataBufferFactory(boolean preferDirect, int maxPooledCapacity, int maxPooledBuffers) {
+		Assert.isTrue(maxPooledCapacity >= MIN_POOLED_CAPACITY,
+				() -> "'maxPooledCapacity' must be at least " + MIN_POOLED_CAPACITY);
+		Assert.isTrue(maxPooledCapacity <= (1 << 30), "'maxPooledCapacity' must be at most 1 GiB");
+		Assert.isTrue(maxPooledBuffers >= 0, "'maxPooledBuffers' must not be negative");
+		this.delegate = new DefaultDataBufferFactory(preferDirect, MIN_POOLED_CAPACITY);
+		this.maxPooledCapacity = roundUpToPowerOfTwo(maxPooledCapacity);
+		int count = sizeClassIndex(this.maxPooledCapacity) + 1;
+		this.sizeClasses = new SizeClass[count];
+		for (int i = 0; i < count; i++) {
+			this.sizeClasses[i] = new SizeClass(MIN_POOLED_CAPACITY << i, maxPooledBuffers);
+		}
+	}
+
+
+	@Override
+	@Deprecated
+	public PoolingDataBuffer allocateBuffer() {
+		return allocateBuffer(MIN_POOLED_CAPACITY);
+	}
+
+	@Override
+	public PoolingDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must not be negative");
+		if (initialCapacity > this.maxPooledCapacity) {
+			this.poolMissCount.increment();
+			DefaultDataBuffer delegate = this.delegate.allocateBuffer(initialCapacity);
+			return new PoolingDataBuffer(this, delegate, null);
+		}
+		SizeClass sizeClass = this.sizeClasses[sizeClassIndex(Math.max(initialCapacity, MIN_POOLED_CAPACITY))];
+		ByteBuffer byteBuffer = sizeClass.poll();
+		if (byteBuffer != null) {
+			this.poolHitCount.increment();
+		}
+		else {
+			this.poolMissCount.increment();
+			byteBuffer = (this.delegate.isDirect() ?
+					ByteBuffer.allocateDirect(sizeClass.capacity) : ByteBuffer.allocate(sizeClass.capacity));
+		}
+		this.allocatedBufferCount.incrementAndGet();
+		DefaultDataBuffer delegate = DefaultDataBuffer.fromEmptyByteBuffer(this.delegate, byteBuffer);
+		return new PoolingDataBuffer(this, delegate, new Segment(byteBuffer, sizeClass));
+	}
+
+	@Override
+	public PoolingDataBuffer wrap(ByteBuffer byteBuffer) {
+		return new PoolingDataBuffer(this, this.delegate.wrap(byteBuffer), null);
+	}
+
+	@Override
+	public PoolingDataBuffer wrap(byte[] bytes) {
+		return new PoolingDataBuffer(this, this.delegate.wrap(bytes), null);
+	}
+
+	@Override
+	public PoolingDataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "DataBuffer List must not be empty");
+		int capacity = dataBuffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+		PoolingDataBuffer result = allocateBuffer(capacity);
+		dataBuffers.forEach(result::write);
+		dataBuffers.forEach(DataBufferUtils::release);
+		return result;
+	}
+
+	@Override
+	public boolean isDirect() {
+		return this.delegate.isDirect();
+	}
+
+
+	/**
+	 * Return the number of pooled buffers that were allocated and not yet
+	 * released. A count that keeps growing indicates buffers that are not
+	 * released.
+	 */
+	public int getAllocatedBufferCount() {
+		return this.allocatedBufferCount.get();
+	}
+
+	/**
+	 * Return the number of released buffers currently kept for reuse.
+	 */
+	public int getPooledBufferCount() {
+		int count = 0;
+		for (SizeClass sizeClass : this.sizeClasses) {
+			count += sizeClass.size();
+		}
+		return count;
+	}
+
+	/**
+	 * Return the number of allocations served with a recycled buffer.
+	 */
+	public long getPoolHitCount() {
+		return this.poolHitCount.sum();
+	}
+
+	/**
+	 * Return the number of allocations that required new memory.
+	 */
+	public long getPoolMissCount() {
+		return this.poolMissCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "PoolingDataBufferFactory (allocated: " + getAllocatedBufferCount() +
+				", pooled: " + getPooledBufferCount() + ", hits: " + getPoolHitCount() +
+				", misses: " + getPoolMissCount() + ")";
+	}
+
+
+	private void recycle(Segment segment) {
+		this.allocatedBufferCount.decrementAndGet();
+		segment.sizeClass.offer(segment.byteBuffer);
+	}
+
+	private static int sizeClassIndex(int capacity) {
+		return Integer.numberOfTrailingZeros(roundUpToPowerOfTwo(capacity)) -
+				Integer.numberOfTrailingZeros(MIN_POOLED_CAPACITY);
+	}
+
+	private static int roundUpToPowerOfTwo(int value) {
+		int highestOneBit = Integer.highestOneBit(value);
+		return (highestOneBit == value ? value : highestOneBit << 1);
+	}
+
+
+	/**
+	 * Bounded queue of released buffers of the same capacity.
+	 */
+	private static final class SizeClass {
+
+		private final int capacity;
+
+		private final int maxSize;
+
+		private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		SizeClass(int capacity, int maxSize) {
+			this.capacity = capacity;
+			this.maxSize = maxSize;
+		}
+
+		@Nullable
+		ByteBuffer poll() {
+			ByteBuffer byteBuffer = this.buffers.poll();
+			if (byteBuffer != null) {
+				this.size.decrementAndGet();
+			}
+			return byteBuffer;
+		}
+
+		void offer(ByteBuffer byteBuffer) {
+			if (this.size.incrementAndGet() <= this.maxSize) {
+				byteBuffer.clear();
+				this.buffers.offer(byteBuffer);
+			}
+			else {
+				// Pool is full: leave the buffer to the garbage collector
+				this.size.decrementAndGet();
+			}
+		}
+
+		int size() {
+			return this.size.get();
+		}
+	}
+
+
+	/**
+	 * Memory taken from the pool, shared by a buffer and its slices, and
+	 * returned to the pool once all of them are released.
+	 */
+	final class Segment {
+
+		private final ByteBuffer byteBuffer;
+
+		private final SizeClass sizeClass;
+
+		private final AtomicInteger refCount = new AtomicInteger(1);
+
+		private Segment(ByteBuffer byteBuffer, SizeClass sizeClass) {
+			this.byteBuffer = byteBuffer;
+			this.sizeClass = sizeClass;
+		}
+
+		void retain() {
+			this.refCount.incrementAndGet();
+		}
+
+		void release() {
+			if (this.refCount.decrementAndGet() == 0) {
+				recycle(this);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,854 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * {@link MetadataReaderFactory} implementation that keeps the class metadata it
+ * reads in a cache file, so that it can be reused across JVM restarts.
+ *
+ * <p>The metadata of each class file is recorded in a compact binary form and
+ * grouped by the jar file or class file that it originates from. A group is
+ * discarded as soon as the size or the last-modified timestamp of its file
+ * changes, as checked once per factory instance, so updated jars are read
+ * again, and groups of files that no longer exist are dropped when the cache
+ * file is loaded. Class files from other kinds of resources are read but not
+ * cached.
+ *
+ * <p>On top of that, {@link MetadataReader} instances are cached in memory
+ * per {@link Resource}, as for any {@link CachingMetadataReaderFactory}, so
+ * that recorded metadata is only restored once per class.
+ *
+ * <p>Annotation types and enum constants referenced by recorded metadata are
+ * resolved against the current {@link ClassLoader} every time, just like for
+ * metadata read from a class file. Call {@link #save()} in order to write the
+ * cache file, for example, once the application has started.
+ *
+ * @since 7.0
+ */
+public class PersistentMetadataReaderFactory extends CachingMetadataReaderFactory {
+
+	private static final int MAGIC = 0x53504D44;
+
+	private static final int FORMAT_VERSION = 1;
+
+	// Recorded class and method events
+	private static final byte END = 0;
+
+	private static final byte VISIT = 1;
+
+	private static final byte OUTER_CLASS = 2;
+
+	private static final byte INNER_CLASS = 3;
+
+	private static final byte ANNOTATION = 4;
+
+	private static final byte METHOD = 5;
+
+	// Recorded annotation events
+	private static final byte VALUE = 6;
+
+	private static final byte ENUM = 7;
+
+	private static final byte NESTED_ANNOTATION = 8;
+
+	private static final byte ARRAY = 9;
+
+	private static final Log logger = LogFactory.getLog(PersistentMetadataReaderFactory.class);
+
+
+	private final Path cacheFile;
+
+	private final Map<String, CachedFile> cachedFiles = new ConcurrentHashMap<>(64);
+
+	private volatile boolean modified;
+
+
+	/**
+	 * Create a new PersistentMetadataReaderFactory for the given cache file
+	 * and the default class loader.
+	 * @param cacheFile the file to load the cache from, if it exists already,
+	 * and to {@linkplain #save() save} it to
+	 */
+	public PersistentMetadataReaderFactory(Path cacheFile) {
+		this(cacheFile, null);
+	}
+
+	/**
+	 * Create a new PersistentMetadataReaderFactory for the given cache file
+	 * and the given resource loader.
+	 * @param cacheFile the file to load the cache from, if it exists already,
+	 * and to {@linkplain #save() save} it to
+	 * @param resourceLoader the Spring ResourceLoader to use
+	 * (also determines the ClassLoader to use)
+	 */
+	public PersistentMetadataReaderFactory(Path cacheFile, @Nullable ResourceLoader resourceLoader) {
+		super(resourceLoader);
+		Assert.notNull(cacheFile, "Cache file must not be null");
+		this.cacheFile = cacheFile;
+		load();
+	}
+
+
+	/**
+	 * Return the file that this factory loads its cache from and saves it to.
+	 */
+	public Path getCacheFile() {
+		return this.cacheFile;
+	}
+
+	@Override
+	protected MetadataReader createMetadataReader(Resource resource) throws IOException {
+		CacheKey key = CacheKey.of(resource);
+		CachedFile cachedFile = (key != null ? getCachedFile(key) : null);
+		if (key == null || cachedFile == null) {
+			return super.createMetadataReader(resource);
+		}
+		byte[] recording = cachedFile.recordings.get(key.entryName);
+		if (recording != null) {
+			try {
+				return new SimpleMetadataReader(resource, replay(recording));
+			}
+			catch (IOException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Discarding corrupt cached metadata for " + resource + ": " + ex);
+				}
+			}
+		}
+		recording = record(resource);
+		if (recording == null) {
+			return super.createMetadataReader(resource);
+		}
+		cachedFile.recordings.put(key.entryName, recording);
+		this.modified = true;
+		return new SimpleMetadataReader(resource, replay(recording));
+	}
+
+	/**
+	 * Write the cache file, if any metadata has been read from class files
+	 * since the cache file has been loaded or saved.
+	 * @throws IOException in case of I/O errors
+	 */
+	public void save() throws IOException {
+		if (!this.modified) {
+			return;
+		}
+		this.modified = false;
+		Path targetFile = this.cacheFile.toAbsolutePath();
+		Path directory = targetFile.getParent();
+		Files.createDirectories(directory);
+		Path tempFile = Files.createTempFile(directory, targetFile.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				writeCache(out);
+			}
+			try {
+				Files.move(tempFile, targetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			this.modified = true;
+			Files.deleteIfExists(tempFile);
+			throw ex;
+		}
+	}
+
+
+	private void load() {
+		if (!Files.isRegularFile(this.cacheFile)) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(this.cacheFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring metadata cache file in unsupported format: " + this.cacheFile);
+				}
+				return;
+			}
+			int fileCount = in.readInt();
+			for (int i = 0; i < fileCount; i++) {
+				String path = in.readUTF();
+				CachedFile cachedFile = new CachedFile(in.readLong(), in.readLong(), false);
+				int recordingCount = in.readInt();
+				for (int j = 0; j < recordingCount; j++) {
+					String entryName = in.readUTF();
+					byte[] recording = new byte[in.readInt()];
+					in.readFully(recording);
+					cachedFile.recordings.put(entryName, recording);
+				}
+				if (new File(path).exists()) {
+					this.cachedFiles.put(path, cachedFile);
+				}
+				else {
+					// Deleted jar file or class file -> drop on next save
+					this.modified = true;
+				}
+			}
+		}
+		catch (IOException ex) {
+			this.cachedFiles.clear();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ignoring unreadable metadata cache file: " + this.cacheFile, ex);
+			}
+		}
+	}
+
+	private void writeCache(DataOutput out) throws IOException {
+		List<Map.Entry<String, CachedFile>> files = new ArrayList<>(this.cachedFiles.entrySet());
+		out.writeInt(MAGIC);
+		out.writeInt(FORMAT_VERSION);
+		out.writeInt(files.size());
+		for (Map.Entry<String, CachedFile> file : files) {
+			CachedFile cachedFile = file.getValue();
+			List<Map.Entry<String, byte[]>> recordings = new ArrayList<>(cachedFile.recordings.entrySet());
+			out.writeUTF(file.getKey());
+			out.writeLong(cachedFile.length);
+			out.writeLong(cachedFile.lastModified);
+			out.writeInt(recordings.size());
+			for (Map.Entry<String, byte[]> recording : recordings) {
+				out.writeUTF(recording.getKey());
+				out.writeInt(recording.getValue().length);
+				out.write(recording.getValue());
+			}
+		}
+	}
+
+	@Nullable
+	private CachedFile getCachedFile(CacheKey key) {
+		CachedFile cachedFile = this.cachedFiles.get(key.path);
+		if (cachedFile != null && cachedFile.validated) {
+			return cachedFile;
+		}
+		long length = key.file.length();
+		long lastModified = key.file.lastModified();
+		if (lastModified == 0L) {
+			return null;
+		}
+		if (cachedFile == null || cachedFile.length != length || cachedFile.lastModified != lastModified) {
+			cachedFile = new CachedFile(length, lastModified, true);
+			this.cachedFiles.put(key.path, cachedFile);
+			this.modified = true;
+		}
+		else {
+			cachedFile.validated = true;
+		}
+		return cachedFile;
+	}
+
+	@Nullable
+	private static byte[] record(Resource resource) throws IOException {
+		ClassReader classReader = SimpleMetadataReader.getClassReader(resource);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try {
+			classReader.accept(new RecordingClassVisitor(new DataOutputStream(bytes)),
+					SimpleMetadataReader.PARSING_OPTIONS);
+		}
+		catch (UncheckedIOException ex) {
+			// For example, a string constant exceeding the supported length
+			return null;
+		}
+		return bytes.toByteArray();
+	}
+
+	private AnnotationMetadata replay(byte[] recording) throws IOException {
+		SimpleAnnotationMetadataReadingVisitor visitor =
+				new SimpleAnnotationMetadataReadingVisitor(getResourceLoader().getClassLoader());
+		DataInput in = new DataInputStream(new ByteArrayInputStream(recording));
+		for (byte event = in.readByte(); event != END; event = in.readByte()) {
+			switch (event) {
+				case VISIT -> {
+					int access = in.readInt();
+					String name = in.readUTF();
+					String superName = readNullableString(in);
+					String[] interfaces = new String[in.readInt()];
+					for (int i = 0; i < interfaces.length; i++) {
+						interfaces[i] = in.readUTF();
+					}
+					visitor.visit(0, access, name, null, superName, interfaces);
+				}
+				case OUTER_CLASS -> {
+					String owner = in.readUTF();
+					visitor.visitOuterClass(owner, readNullableString(in), readNullableString(in));
+				}
+				case INNER_CLASS -> {
+					String name = in.readUTF();
+					String outerName = readNullableString(in);
+					String innerName = readNullableString(in);
+					visitor.visitInnerClass(name, outerName, innerName, in.readInt());
+				}
+				case ANNOTATION -> replayAnnotation(in, visitor.visitAnnotation(in.readUTF(), true));
+				case METHOD -> {
+					int access = in.readInt();
+					String name = in.readUTF();
+					String descriptor = in.readUTF();
+					replayMethod(in, visitor.visitMethod(access, name, descriptor, null, null));
+				}
+				default -> throw new IOException("Unexpected class event " + event);
+			}
+		}
+		visitor.visitEnd();
+		return visitor.getMetadata();
+	}
+
+	private static void replayMethod(DataInput in, @Nullable MethodVisitor visitor) throws IOException {
+		for (byte event = in.readByte(); event != END; event = in.readByte()) {
+			if (event != ANNOTATION) {
+				throw new IOException("Unexpected method event " + event);
+			}
+			String descriptor = in.readUTF();
+			replayAnnotation(in, (visitor != null ? visitor.visitAnnotation(descriptor, true) : null));
+		}
+		if (visitor != null) {
+			visitor.visitEnd();
+		}
+	}
+
+	private static void replayAnnotation(DataInput in, @Nullable AnnotationVisitor visitor) throws IOException {
+		for (byte event = in.readByte(); event != END; event = in.readByte()) {
+			String name = readNullableString(in);
+			switch (event) {
+				case VALUE -> {
+					Object value = readValue(in);
+					if (visitor != null) {
+						visitor.visit(name, value);
+					}
+				}
+				case ENUM -> {
+					String descriptor = in.readUTF();
+					String value = in.readUTF();
+					if (visitor != null) {
+						visitor.visitEnum(name, descriptor, value);
+					}
+				}
+				case NESTED_ANNOTATION -> {
+					String descriptor = in.readUTF();
+					replayAnnotation(in, (visitor != null ? visitor.visitAnnotation(name, descriptor) : null));
+				}
+				case ARRAY -> replayAnnotation(in, (visitor != null ? visitor.visitArray(name) : null));
+				default -> throw new IOException("Unexpected annotation event " + event);
+			}
+		}
+		if (visitor != null) {
+			visitor.visitEnd();
+		}
+	}
+
+	private static void writeNullableString(DataOutput out, @Nullable String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	@Nullable
+	private static String readNullableString(DataInput in) throws IOException {
+		return (in.readBoolean() ? in.readUTF() : null);
+	}
+
+	private static void writeValue(DataOutput out, Object value) throws IOException {
+		if (value instanceof String string) {
+			out.writeByte('s');
+			out.writeUTF(string);
+		}
+		else if (value instanceof Type type) {
+			out.writeByte('c');
+			out.writeUTF(type.getDescriptor());
+		}
+		else if (value instanceof Integer number) {
+			out.writeByte('I');
+			out.writeInt(number);
+		}
+		else if (value instanceof Long number) {
+			out.writeByte('J');
+			out.writeLong(number);
+		}
+		else if (value instanceof Boolean bool) {
+			out.writeByte('Z');
+			out.writeBoolean(bool);
+		}
+		else if (value instanceof Byte number) {
+			out.writeByte('B');
+			out.writeByte(number);
+		}
+		else if (value instanceof Short number) {
+			out.writeByte('S');
+			out.writeShort(number);
+		}
+		else if (value instanceof Character character) {
+			out.writeByte('C');
+			out.writeChar(character);
+		}
+		else if (value instanceof Float number) {
+			out.writeByte('F');
+			out.writeFloat(number);
+		}
+		else if (value instanceof Double number) {
+			out.writeByte('D');
+			out.writeDouble(number);
+		}
+		else if (value instanceof boolean[] array) {
+			out.writeByte('z');
+			out.writeInt(array.length);
+			for (boolean element : array) {
+				out.writeBoolean(element);
+			}
+		}
+		else if (value instanceof byte[] array) {
+			out.writeByte('b');
+			out.writeInt(array.length);
+			out.write(array);
+		}
+		else if (value instanceof short[] array) {
+			out.writeByte('h');
+			out.writeInt(array.length);
+			for (short element : array) {
+				out.writeShort(element);
+			}
+		}
+		else if (value instanceof char[] array) {
+			out.writeByte('a');
+			out.writeInt(array.length);
+			for (char element : array) {
+				out.writeChar(element);
+			}
+		}
+		else if (value instanceof int[] array) {
+			out.writeByte('i');
+			out.writeInt(array.length);
+			for (int element : array) {
+				out.writeInt(element);
+			}
+		}
+		else if (value instanceof long[] array) {
+			out.writeByte('j');
+			out.writeInt(array.length);
+			for (long element : array) {
+				out.writeLong(element);
+			}
+		}
+		else if (value instanceof float[] array) {
+			out.writeByte('f');
+			out.writeInt(array.length);
+			for (float element : array) {
+				out.writeFloat(element);
+			}
+		}
+		else if (value instanceof double[] array) {
+			out.writeByte('d');
+			out.writeInt(array.length);
+			for (double element : array) {
+				out.writeDouble(element);
+			}
+		}
+		else {
+			throw new IOException("Unsupported annotation value type: " + value.getClass().getName());
+		}
+	}
+
+	private static Object readValue(DataInput in) throws IOException {
+		byte type = in.readByte();
+		return switch (type) {
+			case 's' -> in.readUTF();
+			case 'c' -> Type.getType(in.readUTF());
+			case 'I' -> in.readInt();
+			case 'J' -> in.readLong();
+			case 'Z' -> in.readBoolean();
+			case 'B' -> in.readByte();
+			case 'S' -> in.readShort();
+			case 'C' -> in.readChar();
+			case 'F' -> in.readFloat();
+			case 'D' -> in.readDouble();
+			case 'z' -> {
+				boolean[] array = new boolean[in.readInt()];
+				for (int i = 0; i < array.length; i++) {
+					array[i] = in.readBoolean();
+				}
+				yield array;
+			}
+			case 'b' -> {
+				byte[] array = new byte[in.readInt()];
+				in.readFully(array);
+				yield array;
+			}
+			case 'h' -> {
+				short[] array = new short[in.readInt()];
+				for (int i = 0; i < array.length; i++) {
+					array[i] = in.readShort();
+				}
+				yield array;
+			}
+			case 'a' -> {
+				char[] array = new char[in.readInt()];
+				for (int i = 0; i < array.length; i++) {
+					array[i] = in.readChar();
+				}
+				yield array;
+			}
+			case 'i' -> {
+				int[] array = new int[in.readInt()];
+				for (int i = 0; i < array.length; i++) {
+					array[i] = in.readInt();
+				}
+				yield array;
+			}
+			case 'j' -> {
+				long[] array = new long[in.readInt()];
+				for (int i = 0; i < array.length; i++) {
+					array[i] = in.readLong();
+				}
+				yield array;
+			}
+			case 'f' -> {
+				float[] array = new float[in.readInt()];
+				for (int i = 0; i < array.length; i++) {
+					array[i] = in.readFloat();
+				}
+				yield array;
+			}
+			case 'd' -> {
+				double[] array = new double[in.readInt()];
+				for (int i = 0; i < array.length; i++) {
+					array[i] = in.readDouble();
+				}
+				yield array;
+			}
+			default -> throw new IOException("Unexpected annotation value type " + type);
+		};
+	}
+
+
+	/**
+	 * Cache key for a class file resource: the jar file or class file to
+	 * validate, and the name of the entry within a jar file.
+	 */
+	private record CacheKey(File file, String path, String entryName) {
+
+		@Nullable
+		static CacheKey of(Resource resource) {
+			try {
+				URL url = resource.getURL();
+				if (ResourceUtils.isJarURL(url)) {
+					String urlString = url.toString();
+					int separatorIndex = urlString.indexOf(ResourceUtils.JAR_URL_SEPARATOR);
+					if (separatorIndex != -1 && urlString.indexOf(ResourceUtils.JAR_URL_SEPARATOR,
+							separatorIndex + ResourceUtils.JAR_URL_SEPARATOR.length()) == -1) {
+						URL jarFileUrl = ResourceUtils.extractJarFileURL(url);
+						if (ResourceUtils.URL_PROTOCOL_FILE.equals(jarFileUrl.getProtocol())) {
+							File file = ResourceUtils.getFile(jarFileUrl);
+							String entryName = urlString.substring(
+									separatorIndex + ResourceUtils.JAR_URL_SEPARATOR.length());
+							return new CacheKey(file, file.getAbsolutePath(), entryName);
+						}
+					}
+				}
+				else if (ResourceUtils.URL_PROTOCOL_FILE.equals(url.getProtocol())) {
+					File file = ResourceUtils.getFile(url);
+					return new CacheKey(file, file.getAbsolutePath(), "");
+				}
+			}
+			catch (IOException ex) {
+				// Not resolvable as a jar file or class file -> not cacheable
+			}
+			return null;
+		}
+	}
+
+
+	/**
+	 * Recorded metadata for the class files within a jar file, or for a
+	 * single class file, along with the size and timestamp to validate.
+	 */
+	private static final class CachedFile {
+
+		final long length;
+
+		final long lastModified;
+
+		volatile boolean validated;
+
+		final Map<String, byte[]> recordings = new ConcurrentHashMap<>();
+
+		CachedFile(long length, long lastModified, boolean validated) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.validated = validated;
+		}
+	}
+
+
+	/**
+	 * {@link ClassVisitor} that records the events relevant for
+	 * {@link SimpleAnnotationMetadataReadingVisitor}.
+	 */
+	private static final class RecordingClassVisitor extends ClassVisitor {
+
+		private final DataOutputStream out;
+
+		RecordingClassVisitor(DataOutputStream out) {
+			super(SpringAsmInfo.ASM_VERSION);
+			this.out = out;
+		}
+
+		@Override
+		public void visit(int version, int access, String name, String signature,
+				@Nullable String supername, @Nullable String[] interfaces) {
+
+			try {
+				this.out.writeByte(VISIT);
+				this.out.writeInt(access);
+				this.out.writeUTF(name);
+				writeNullableString(this.out, supername);
+				this.out.writeInt(interfaces != null ? interfaces.length : 0);
+				if (interfaces != null) {
+					for (String element : interfaces) {
+						this.out.writeUTF(element);
+					}
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		@Override
+		public void visitOuterClass(String owner, @Nullable String name, @Nullable String descriptor) {
+			try {
+				this.out.writeByte(OUTER_CLASS);
+				this.out.writeUTF(owner);
+				writeNullableString(this.out, name);
+				writeNullableString(this.out, descriptor);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		@Override
+		public void visitInnerClass(String name, @Nullable String outerName, @Nullable String innerName, int access) {
+			try {
+				this.out.writeByte(INNER_CLASS);
+				this.out.writeUTF(name);
+				writeNullableString(this.out, outerName);
+				writeNullableString(this.out, innerName);
+				this.out.writeInt(access);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			if (!visible) {
+				return null;
+			}
+			try {
+				this.out.writeByte(ANNOTATION);
+				this.out.writeUTF(descriptor);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+			return new RecordingAnnotationVisitor(this.out);
+		}
+
+		@Override
+		public MethodVisitor visitMethod(int access, String name, String descriptor,
+				String signature, String[] exceptions) {
+
+			try {
+				this.out.writeByte(METHOD);
+				this.out.writeInt(access);
+				this.out.writeUTF(name);
+				this.out.writeUTF(descriptor);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+			return new RecordingMethodVisitor(this.out);
+		}
+
+		@Override
+		public void visitEnd() {
+			try {
+				this.out.writeByte(END);
+				this.out.flush();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+	}
+
+
+	/**
+	 * {@link MethodVisitor} that records visible method annotations.
+	 */
+	private static final class RecordingMethodVisitor extends MethodVisitor {
+
+		private final DataOutputStream out;
+
+		RecordingMethodVisitor(DataOutputStream out) {
+			super(SpringAsmInfo.ASM_VERSION);
+			this.out = out;
+		}
+
+		@Override
+		@Nullable
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			if (!visible) {
+				return null;
+			}
+			try {
+				this.out.writeByte(ANNOTATION);
+				this.out.writeUTF(descriptor);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+			return new RecordingAnnotationVisitor(this.out);
+		}
+
+		@Override
+		public void visitEnd() {
+			try {
+				this.out.writeByte(END);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+	}
+
+
+	/**
+	 * {@link AnnotationVisitor} that records annotation attributes, including
+	 * nested annotations and arrays.
+	 */
+	private static final class RecordingAnnotationVisitor extends AnnotationVisitor {
+
+		private final DataOutputStream out;
+
+		RecordingAnnotationVisitor(DataOutputStream out) {
+			super(SpringAsmInfo.ASM_VERSION);
+			this.out = out;
+		}
+
+		@Override
+		public void visit(@Nullable String name, Object value) {
+			try {
+				this.out.writeByte(VALUE);
+				writeNullableString(this.out, name);
+				writeValue(this.out, value);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		@Override
+		public void visitEnum(@Nullable String name, String descriptor, String value) {
+			try {
+				this.out.writeByte(ENUM);
+				writeNullableString(this.out, name);
+				this.out.writeUTF(descriptor);
+				this.out.writeUTF(value);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(@Nullable String name, String descriptor) {
+			try {
+				this.out.writeByte(NESTED_ANNOTATION);
+				writeNullableString(this.out, name);
+				this.out.writeUTF(descriptor);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+			return new RecordingAnnotationVisitor(this.out);
+		}
+
+		@Override
+		public AnnotationVisitor visitArray(@Nullable String name) {
+			try {
+				this.out.writeByte(ARRAY);
+				writeNullableString(this.out, name);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+			return new RecordingAnnotationVisitor(this.out);
+		}
+
+		@Override
+		public void visitEnd() {
+			try {
+				this.out.writeByte(END);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2018 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package org.springframework.core.type.classreading;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
@@ -29,13 +30,29 @@ import org.springframework.util.ClassUtils;
  * Simple implementation of the {@link MetadataReaderFactory} interface,
  * creating a new ASM {@link org.springframework.asm.ClassReader} for every request.
  *
+ * <p>As of 7.0, class files are parsed with the JDK ClassFile API instead
+ * when running on JDK 24 or higher, unless the {@link #IGNORE_CLASSFILE_API_PROPERTY_NAME}
+ * property has been set to "true".
+ *
  * @author Juergen Hoeller
  * @since 2.5
  */
 public class SimpleMetadataReaderFactory implements MetadataReaderFactory {
 
+	/**
+	 * System property that instructs Spring to read class files with ASM
+	 * even when the JDK ClassFile API is available: {@code spring.classfile.ignore}.
+	 * <p>The default is "false", using the ClassFile API on JDK 24 or higher.
+	 * @since 7.0
+	 */
+	public static final String IGNORE_CLASSFILE_API_PROPERTY_NAME = "spring.classfile.ignore";
+
+
 	private final ResourceLoader resourceLoader;
 
+	private final boolean classFileApi = (ClassFileMetadataReaderDelegate.isSupported() &&
+			!SpringProperties.getFlag(IGNORE_CLASSFILE_API_PROPERTY_NAME));
+
 
 	/**
 	 * Create a new SimpleMetadataReaderFactory for the default class loader.
@@ -100,7 +117,11 @@ public class SimpleMetadataReaderFactory implements MetadataReaderFactory {
 
 	@Override
 	public MetadataReader getMetadataReader(Resource resource) throws IOException {
-		return new SimpleMetadataReader(resource, this.resourceLoader.getClassLoader());
+		ClassLoader classLoader = this.resourceLoader.getClassLoader();
+		if (this.classFileApi) {
+			return ClassFileMetadataReaderDelegate.getMetadataReader(resource, classLoader);
+		}
+		return new SimpleMetadataReader(resource, classLoader);
 	}
 
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.classfile.Annotation;
+import java.lang.classfile.AnnotationElement;
+import java.lang.classfile.AnnotationValue;
+import java.lang.classfile.Attributes;
+import java.lang.classfile.ClassFile;
+import java.lang.classfile.ClassModel;
+import java.lang.classfile.MethodModel;
+import java.lang.classfile.attribute.InnerClassInfo;
+import java.lang.classfile.constantpool.ClassEntry;
+import java.lang.classfile.constantpool.Utf8Entry;
+import java.util.List;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Type;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link MetadataReader} implementation based on the JDK ClassFile API.
+ *
+ * <p>Only the class header, the inner classes and enclosing method attributes,
+ * the method headers and the runtime-visible annotations are read from the
+ * parsed {@link ClassModel}, which resolves attributes lazily. These elements
+ * are passed to a {@link SimpleAnnotationMetadataReadingVisitor} in the same
+ * order and form as the ASM {@link org.springframework.asm.ClassReader} does,
+ * so the resulting metadata is equivalent to that of {@link SimpleMetadataReader}.
+ *
+ * @since 7.0
+ * @see ClassFileMetadataReaderDelegate
+ */
+final class ClassFileMetadataReader implements MetadataReader {
+
+	private final Resource resource;
+
+	private final AnnotationMetadata annotationMetadata;
+
+
+	ClassFileMetadataReader(Resource resource, @Nullable ClassLoader classLoader) throws IOException {
+		SimpleAnnotationMetadataReadingVisitor visitor = new SimpleAnnotationMetadataReadingVisitor(classLoader);
+		accept(parseClassModel(resource), visitor);
+		this.resource = resource;
+		this.annotationMetadata = visitor.getMetadata();
+	}
+
+	private static ClassModel parseClassModel(Resource resource) throws IOException {
+		byte[] bytes;
+		try (InputStream is = resource.getInputStream()) {
+			bytes = is.readAllBytes();
+		}
+		try {
+			return ClassFile.of().parse(bytes);
+		}
+		catch (IllegalArgumentException ex) {
+			throw new ClassFormatException("ClassFile API failed to parse class file - " +
+					"probably due to a new Java class file version that is not supported yet. " +
+					"Consider compiling with a lower '-target' or upgrade your JDK. " +
+					"Affected class: " + resource, ex);
+		}
+	}
+
+
+	@Override
+	public Resource getResource() {
+		return this.resource;
+	}
+
+	@Override
+	public ClassMetadata getClassMetadata() {
+		return this.annotationMetadata;
+	}
+
+	@Override
+	public AnnotationMetadata getAnnotationMetadata() {
+		return this.annotationMetadata;
+	}
+
+
+	private static void accept(ClassModel classModel, SimpleAnnotationMetadataReadingVisitor visitor) {
+		String superName = classModel.superclass().map(ClassEntry::asInternalName).orElse(null);
+		String[] interfaces = classModel.interfaces().stream().map(ClassEntry::asInternalName).toArray(String[]::new);
+		visitor.visit(classModel.majorVersion(), classModel.flags().flagsMask(),
+				classModel.thisClass().asInternalName(), null, superName, interfaces);
+
+		classModel.findAttribute(Attributes.enclosingMethod()).ifPresent(enclosingMethod ->
+				visitor.visitOuterClass(enclosingMethod.enclosingClass().asInternalName(),
+						enclosingMethod.enclosingMethodName().map(Utf8Entry::stringValue).orElse(null),
+						enclosingMethod.enclosingMethodType().map(Utf8Entry::stringValue).orElse(null)));
+
+		classModel.findAttribute(Attributes.runtimeVisibleAnnotations()).ifPresent(attribute -> {
+			for (Annotation annotation : attribute.annotations()) {
+				accept(annotation, visitor.visitAnnotation(annotation.className().stringValue(), true));
+			}
+		});
+
+		classModel.findAttribute(Attributes.innerClasses()).ifPresent(attribute -> {
+			for (InnerClassInfo innerClass : attribute.classes()) {
+				visitor.visitInnerClass(innerClass.innerClass().asInternalName(),
+						innerClass.outerClass().map(ClassEntry::asInternalName).orElse(null),
+						innerClass.innerName().map(Utf8Entry::stringValue).orElse(null),
+						innerClass.flagsMask());
+			}
+		});
+
+		for (MethodModel method : classModel.methods()) {
+			MethodVisitor methodVisitor = visitor.visitMethod(method.flags().flagsMask(),
+					method.methodName().stringValue(), method.methodType().stringValue(), null, null);
+			if (methodVisitor != null) {
+				method.findAttribute(Attributes.runtimeVisibleAnnotations()).ifPresent(attribute -> {
+					for (Annotation annotation : attribute.annotations()) {
+						accept(annotation, methodVisitor.visitAnnotation(annotation.className().stringValue(), true));
+					}
+				});
+				methodVisitor.visitEnd();
+			}
+		}
+
+		visitor.visitEnd();
+	}
+
+	private static void accept(Annotation annotation, @Nullable AnnotationVisitor visitor) {
+		if (visitor != null) {
+			for (AnnotationElement element : annotation.elements()) {
+				accept(element.name().stringValue(), element.value(), visitor);
+			}
+			visitor.visitEnd();
+		}
+	}
+
+	private static void accept(@Nullable String name, AnnotationValue value, AnnotationVisitor visitor) {
+		switch (value) {
+			case AnnotationValue.OfString string -> visitor.visit(name, string.stringValue());
+			case AnnotationValue.OfInt number -> visitor.visit(name, number.intValue());
+			case AnnotationValue.OfLong number -> visitor.visit(name, number.longValue());
+			case AnnotationValue.OfBoolean bool -> visitor.visit(name, bool.booleanValue());
+			case AnnotationValue.OfByte number -> visitor.visit(name, number.byteValue());
+			case AnnotationValue.OfShort number -> visitor.visit(name, number.shortValue());
+			case AnnotationValue.OfChar character -> visitor.visit(name, character.charValue());
+			case AnnotationValue.OfFloat number -> visitor.visit(name, number.floatValue());
+			case AnnotationValue.OfDouble number -> visitor.visit(name, number.doubleValue());
+			case AnnotationValue.OfClass type -> visitor.visit(name, Type.getType(type.className().stringValue()));
+			case AnnotationValue.OfEnum enumeration -> visitor.visitEnum(name,
+					enumeration.className().stringValue(), enumeration.constantName().stringValue());
+			case AnnotationValue.OfAnnotation nested -> accept(nested.annotation(),
+					visitor.visitAnnotation(name, nested.annotation().className().stringValue()));
+			case AnnotationValue.OfArray array -> acceptArray(name, array.values(), visitor);
+		}
+	}
+
+	/**
+	 * Pass the given array value on like ASM does: non-empty arrays of primitive
+	 * values as a primitive array, any other arrays element by element.
+	 */
+	private static void acceptArray(@Nullable String name, List<AnnotationValue> values, AnnotationVisitor visitor) {
+		int size = values.size();
+		switch (size > 0 ? values.getFirst() : null) {
+			case AnnotationValue.OfInt ignored -> {
+				int[] array = new int[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = ((AnnotationValue.OfInt) values.get(i)).intValue();
+				}
+				visitor.visit(name, array);
+			}
+			case AnnotationValue.OfLong ignored -> {
+				long[] array = new long[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = ((AnnotationValue.OfLong) values.get(i)).longValue();
+				}
+				visitor.visit(name, array);
+			}
+			case AnnotationValue.OfBoolean ignored -> {
+				boolean[] array = new boolean[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = ((AnnotationValue.OfBoolean) values.get(i)).booleanValue();
+				}
+				visitor.visit(name, array);
+			}
+			case AnnotationValue.OfByte ignored -> {
+				byte[] array = new byte[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = ((AnnotationValue.OfByte) values.get(i)).byteValue();
+				}
+				visitor.visit(name, array);
+			}
+			case AnnotationValue.OfShort ignored -> {
+				short[] array = new short[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = ((AnnotationValue.OfShort) values.get(i)).shortValue();
+				}
+				visitor.visit(name, array);
+			}
+			case AnnotationValue.OfChar ignored -> {
+				char[] array = new char[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = ((AnnotationValue.OfChar) values.get(i)).charValue();
+				}
+				visitor.visit(name, array);
+			}
+			case AnnotationValue.OfFloat ignored -> {
+				float[] array = new float[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = ((AnnotationValue.OfFloat) values.get(i)).floatValue();
+				}
+				visitor.visit(name, array);
+			}
+			case AnnotationValue.OfDouble ignored -> {
+				double[] array = new double[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = ((AnnotationValue.OfDouble) values.get(i)).doubleValue();
+				}
+				visitor.visit(name, array);
+			}
+			case null, default -> {
+				AnnotationVisitor arrayVisitor = visitor.visitArray(name);
+				for (AnnotationValue value : values) {
+					accept(null, value, arrayVisitor);
+				}
+				arrayVisitor.visitEnd();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Internal delegate for reading class files with the ClassFile API on JDK 24.
+ * This is the actual version compiled against JDK 24.
+ *
+ * @since 7.0
+ * @see SimpleMetadataReaderFactory
+ */
+final class ClassFileMetadataReaderDelegate {
+
+	private ClassFileMetadataReaderDelegate() {
+	}
+
+	public static boolean isSupported() {
+		return true;
+	}
+
+	public static MetadataReader getMetadataReader(Resource resource, @Nullable ClassLoader classLoader)
+			throws IOException {
+
+		return new ClassFileMetadataReader(resource, classLoader);
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AnnotationCache}.
+ */
+class AnnotationCacheTests {
+
+	@Test
+	void retainsEntriesUpToCapacity() {
+		AnnotationCache<String, String> cache = new AnnotationCache<>("test", 16, 2);
+		cache.put("a", "A");
+		cache.put("b", "B");
+		cache.put("c", "C");
+
+		assertThat(cache.isRetained("a")).isTrue();
+		assertThat(cache.isRetained("b")).isTrue();
+		assertThat(cache.isRetained("c")).isFalse();
+		assertThat(cache.get("a")).isEqualTo("A");
+		assertThat(cache.get("c")).isEqualTo("C");
+		assertThat(cache.keys()).containsExactlyInAnyOrder("a", "b", "c");
+	}
+
+	@Test
+	void clearReleasesRetainedEntries() {
+		AnnotationCache<String, String> cache = new AnnotationCache<>("test", 16, 1);
+		cache.put("a", "A");
+		cache.clear();
+		assertThat(cache.get("a")).isNull();
+
+		cache.put("b", "B");
+		assertThat(cache.isRetained("b")).isTrue();
+	}
+
+	@Test
+	void retainsNothingWithoutCapacity() {
+		AnnotationCache<String, String> cache = new AnnotationCache<>("test", 16, 0);
+		cache.put("a", "A");
+		assertThat(cache.isRetained("a")).isFalse();
+		assertThat(cache.get("a")).isEqualTo("A");
+	}
+
+	@Test
+	void retainsExplicitlyWithoutCapacity() {
+		AnnotationCache<String, String> cache = new AnnotationCache<>("test", 16, 0);
+		cache.put("a", "A");
+		assertThat(cache.retain("a", key -> "other")).isEqualTo("A");
+		assertThat(cache.retain("b", key -> "B")).isEqualTo("B");
+
+		assertThat(cache.isRetained("a")).isTrue();
+		assertThat(cache.isRetained("b")).isTrue();
+		assertThat(cache.get("a")).isEqualTo("A");
+		assertThat(cache.get("b")).isEqualTo("B");
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.annotation.AnnotationCaches.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AnnotationCaches}.
+ */
+class AnnotationCachesTests {
+
+	@TempDir
+	Path tempDir;
+
+
+	@AfterEach
+	void clearCache() {
+		AnnotationCaches.setStatisticsEnabled(false);
+		AnnotationUtils.clearCache();
+	}
+
+	@Test
+	void warmUpFromSnapshot() throws Exception {
+		AnnotationCaches.warmUp(List.of(Order.class));
+		assertThat(AnnotationCaches.getCachedAnnotationTypeNames()).contains(Order.class.getName());
+
+		Path snapshotFile = this.tempDir.resolve("annotations.txt");
+		AnnotationCaches.writeSnapshot(snapshotFile);
+		assertThat(Files.readAllLines(snapshotFile)).contains(Order.class.getName());
+		Files.writeString(snapshotFile, "com.example.MissingAnnotation\n", StandardOpenOption.APPEND);
+
+		AnnotationUtils.clearCache();
+		AnnotationCaches.warmUp(snapshotFile, getClass().getClassLoader());
+		assertThat(AnnotationCaches.getCachedAnnotationTypeNames()).contains(Order.class.getName());
+	}
+
+	@Test
+	void statisticsRecordCacheHits() {
+		AnnotationCaches.setStatisticsEnabled(true);
+		MergedAnnotations.from(OrderedClass.class).get(Order.class);
+		Statistics before = AnnotationCaches.getStatistics().get("annotationTypeMappings");
+		MergedAnnotations.from(OrderedClass.class).get(Order.class);
+		Statistics after = AnnotationCaches.getStatistics().get("annotationTypeMappings");
+
+		assertThat(after.hitCount()).isGreaterThan(before.hitCount());
+		assertThat(after.hitRate()).isGreaterThan(0).isLessThanOrEqualTo(1);
+	}
+
+	@Test
+	void statisticsNotRecordedByDefault() {
+		assertThat(AnnotationCaches.isStatisticsEnabled()).isFalse();
+		Statistics before = AnnotationCaches.getStatistics().get("annotationTypeMappings");
+		MergedAnnotations.from(OrderedClass.class).get(Order.class);
+		MergedAnnotations.from(OrderedClass.class).get(Order.class);
+		Statistics after = AnnotationCaches.getStatistics().get("annotationTypeMappings");
+
+		assertThat(after).isEqualTo(before);
+	}
+
+
+	@Order(1)
+	static class OrderedClass {
+	}
+
+}
@@ -410,6 +410,23 @@ class GenericConversionServiceTests {
 		assertThat(conversionService.canConvert(String.class, Color.class)).isFalse();
 	}
 
+	@Test
+	void classPairCaching() {
+		conversionService.setClassPairCaching(true);
+		assertThat(conversionService.canConvert(String.class, Color.class)).isFalse();
+		assertThatExceptionOfType(ConverterNotFoundException.class).isThrownBy(() ->
+				conversionService.convert("#000000", Color.class));
+
+		conversionService.addConverter(new ColorConverter());
+		assertThat(conversionService.canConvert(String.class, Color.class)).isTrue();
+		assertThat(conversionService.convert("#000000", Color.class)).isEqualTo(Color.BLACK);
+		assertThat(conversionService.convert("#000000", Color.class)).isEqualTo(Color.BLACK);
+		assertThat(conversionService.convert(null, Color.class)).isNull();
+
+		conversionService.removeConvertible(String.class, Color.class);
+		assertThat(conversionService.canConvert(String.class, Color.class)).isFalse();
+	}
+
 	@Test
 	void conditionalConverter() {
 		MyConditionalConverter converter = new MyConditionalConverter();
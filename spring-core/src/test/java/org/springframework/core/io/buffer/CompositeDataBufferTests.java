@@ -0,0 +1,210 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link CompositeDataBuffer}.
+ */
+class CompositeDataBufferTests {
+
+	private final PoolingDataBufferFactory bufferFactory = new PoolingDataBufferFactory(false);
+
+
+	@Test
+	void readAcrossComponents() {
+		CompositeDataBuffer composite = compose("foo", "bar", "baz");
+
+		assertThat(composite.getComponentCount()).isEqualTo(3);
+		assertThat(composite.readableByteCount()).isEqualTo(9);
+		assertThat(composite.getByte(3)).isEqualTo((byte) 'b');
+		assertThat(composite.indexOf(b -> b == 'z', 0)).isEqualTo(8);
+		assertThat(composite.lastIndexOf(b -> b == 'a', 8)).isEqualTo(7);
+		assertThat(composite.toString(2, 5, StandardCharsets.UTF_8)).isEqualTo("obarb");
+		assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> composite.getByte(9));
+
+		assertThat(composite.read()).isEqualTo((byte) 'f');
+		byte[] bytes = new byte[6];
+		composite.read(bytes);
+		assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("oobarb");
+		assertThat(composite.toString(StandardCharsets.UTF_8)).isEqualTo("az");
+
+		release(composite);
+	}
+
+	@Test
+	void readableByteBuffersAreNotCopied() {
+		CompositeDataBuffer composite = compose("foo", "bar", "baz");
+		composite.readPosition(2);
+
+		List<String> result = new ArrayList<>();
+		try (DataBuffer.ByteBufferIterator iterator = composite.readableByteBuffers()) {
+			iterator.forEachRemaining(byteBuffer -> result.add(StandardCharsets.UTF_8.decode(byteBuffer).toString()));
+		}
+		assertThat(result).containsExactly("o", "bar", "baz");
+
+		release(composite);
+	}
+
+	@Test
+	void writeAppendsToAllocatedComponent() {
+		CompositeDataBuffer composite = compose("foo");
+		composite.write("bar", StandardCharsets.UTF_8);
+		composite.write((byte) '!');
+
+		assertThat(composite.getComponentCount()).isEqualTo(2);
+		assertThat(composite.toString(StandardCharsets.UTF_8)).isEqualTo("foobar!");
+
+		composite.addComponent(stringBuffer("baz"));
+		assertThat(composite.getComponentCount()).isEqualTo(3);
+		assertThat(composite.writableByteCount()).isEqualTo(0);
+		assertThat(composite.toString(StandardCharsets.UTF_8)).isEqualTo("foobar!baz");
+
+		release(composite);
+	}
+
+	@Test
+	void split() {
+		CompositeDataBuffer composite = compose("foo", "bar", "baz");
+
+		DataBuffer split = composite.split(4);
+		assertThat(split.toString(StandardCharsets.UTF_8)).isEqualTo("foob");
+		assertThat(composite.toString(StandardCharsets.UTF_8)).isEqualTo("arbaz");
+		assertThat(composite.readPosition()).isEqualTo(0);
+		assertThat(composite.writePosition()).isEqualTo(5);
+
+		release(split);
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(2);
+		release(composite);
+	}
+
+	@Test
+	void nestedCompositesAreFlattened() {
+		CompositeDataBuffer nested = compose("foo", "bar");
+		nested.readPosition(1);
+		CompositeDataBuffer composite = compose("baz").addComponent(nested);
+
+		assertThat(composite.getComponentCount()).isEqualTo(3);
+		assertThat(composite.toString(StandardCharsets.UTF_8)).isEqualTo("bazoobar");
+
+		release(composite);
+	}
+
+	@Test
+	void componentsReleasedWithComposite() {
+		CompositeDataBuffer composite = compose("foo", "bar");
+		composite.retain();
+		assertThat(composite.release()).isFalse();
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(2);
+
+		assertThat(composite.release()).isTrue();
+		assertThat(composite.isAllocated()).isFalse();
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(0);
+	}
+
+	@Test
+	void joinCopiesDefaultDataBuffers() {
+		DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+		Flux<DataBuffer> buffers = Flux.just("foo", "bar")
+				.map(s -> factory.wrap(s.getBytes(StandardCharsets.UTF_8)));
+
+		StepVerifier.create(DataBufferUtils.join(buffers))
+				.consumeNextWith(buffer -> {
+					assertThat(buffer).isInstanceOf(DefaultDataBuffer.class);
+					assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("foobar");
+				})
+				.expectComplete()
+				.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void joinCompositeComposesDefaultDataBuffers() {
+		DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+		Flux<DataBuffer> buffers = Flux.just("foo", "bar")
+				.map(s -> factory.wrap(s.getBytes(StandardCharsets.UTF_8)));
+
+		StepVerifier.create(DataBufferUtils.joinComposite(buffers, -1))
+				.consumeNextWith(buffer -> {
+					assertThat(buffer).isInstanceOf(CompositeDataBuffer.class);
+					assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("foobar");
+					DataBufferUtils.release(buffer);
+				})
+				.expectComplete()
+				.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void joinCompositeWithSingleBuffer() {
+		DataBuffer foo = stringBuffer("foo");
+
+		StepVerifier.create(DataBufferUtils.joinComposite(Flux.just(foo), -1))
+				.consumeNextWith(buffer -> {
+					assertThat(buffer).isSameAs(foo);
+					DataBufferUtils.release(buffer);
+				})
+				.expectComplete()
+				.verify(Duration.ofSeconds(5));
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(0);
+	}
+
+	@Test
+	void writeToChannelUsesAllByteBuffers() {
+		CompositeDataBuffer composite = compose("foo", "bar", "baz");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		StepVerifier.create(DataBufferUtils.write(Flux.just(composite), Channels.newChannel(out)))
+				.consumeNextWith(DataBufferUtils::release)
+				.expectComplete()
+				.verify(Duration.ofSeconds(5));
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("foobarbaz");
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(0);
+	}
+
+
+	private CompositeDataBuffer compose(String... values) {
+		List<DataBuffer> buffers = new ArrayList<>();
+		for (String value : values) {
+			buffers.add(stringBuffer(value));
+		}
+		return DataBufferUtils.compose(buffers);
+	}
+
+	private DataBuffer stringBuffer(String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		return this.bufferFactory.allocateBuffer(bytes.length).write(ByteBuffer.wrap(bytes));
+	}
+
+	private static void release(DataBuffer buffer) {
+		DataBufferUtils.release(buffer);
+	}
+
+}
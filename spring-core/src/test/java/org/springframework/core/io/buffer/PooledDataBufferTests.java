@@ -78,6 +78,15 @@ class PooledDataBufferTests {
 		}
 	}
 
+	@Nested
+	class Pooling implements PooledDataBufferTestingTrait {
+
+		@Override
+		public DataBufferFactory createDataBufferFactory() {
+			return new PoolingDataBufferFactory();
+		}
+	}
+
 
 	interface PooledDataBufferTestingTrait {
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PoolingDataBufferFactory}.
+ */
+class PoolingDataBufferFactoryTests {
+
+	private final PoolingDataBufferFactory bufferFactory = new PoolingDataBufferFactory(false, 1024, 2);
+
+
+	@Test
+	void capacityRoundedUpToSizeClass() {
+		PoolingDataBuffer buffer = this.bufferFactory.allocateBuffer(300);
+		assertThat(buffer.capacity()).isEqualTo(512);
+		release(buffer);
+
+		buffer = this.bufferFactory.allocateBuffer(0);
+		assertThat(buffer.capacity()).isEqualTo(PoolingDataBufferFactory.MIN_POOLED_CAPACITY);
+		release(buffer);
+	}
+
+	@Test
+	void releasedBufferIsReused() {
+		PoolingDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		buffer.write("foo", StandardCharsets.UTF_8);
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(1);
+		release(buffer);
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(0);
+		assertThat(this.bufferFactory.getPooledBufferCount()).isEqualTo(1);
+
+		PoolingDataBuffer reused = this.bufferFactory.allocateBuffer(200);
+		assertThat(reused.readableByteCount()).isEqualTo(0);
+		assertThat(reused.writableByteCount()).isEqualTo(256);
+		assertThat(this.bufferFactory.getPoolHitCount()).isEqualTo(1);
+		assertThat(this.bufferFactory.getPoolMissCount()).isEqualTo(1);
+		release(reused);
+	}
+
+	@Test
+	void memoryReturnedAfterAllSlicesReleased() {
+		PoolingDataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.write("foobar", StandardCharsets.UTF_8);
+		DataBuffer split = buffer.split(3);
+
+		release(buffer);
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(1);
+		assertThat(split.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+
+		release(split);
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(0);
+		assertThat(this.bufferFactory.getPooledBufferCount()).isEqualTo(1);
+	}
+
+	@Test
+	void poolSizeIsBounded() {
+		List<PoolingDataBuffer> buffers = List.of(this.bufferFactory.allocateBuffer(10),
+				this.bufferFactory.allocateBuffer(10), this.bufferFactory.allocateBuffer(10));
+		buffers.forEach(this::release);
+
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(0);
+		assertThat(this.bufferFactory.getPooledBufferCount()).isEqualTo(2);
+	}
+
+	@Test
+	void largeBuffersAreNotPooled() {
+		PoolingDataBuffer buffer = this.bufferFactory.allocateBuffer(2048);
+		assertThat(buffer.capacity()).isEqualTo(2048);
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(0);
+		assertThat(buffer.release()).isTrue();
+		assertThat(this.bufferFactory.getPooledBufferCount()).isEqualTo(0);
+	}
+
+	@Test
+	void join() {
+		PoolingDataBuffer foo = this.bufferFactory.allocateBuffer(3);
+		foo.write("foo", StandardCharsets.UTF_8);
+		PoolingDataBuffer bar = this.bufferFactory.allocateBuffer(3);
+		bar.write("bar", StandardCharsets.UTF_8);
+
+		PoolingDataBuffer result = this.bufferFactory.join(List.of(foo, bar));
+		assertThat(result.toString(StandardCharsets.UTF_8)).isEqualTo("foobar");
+		assertThat(foo.isAllocated()).isFalse();
+		assertThat(bar.isAllocated()).isFalse();
+		release(result);
+		assertThat(this.bufferFactory.getAllocatedBufferCount()).isEqualTo(0);
+	}
+
+
+	private void release(DataBuffer buffer) {
+		assertThat(DataBufferUtils.release(buffer)).isTrue();
+	}
+
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.type.AbstractAnnotationMetadataTests;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentMetadataReaderFactory}, running the common
+ * {@link AnnotationMetadata} tests against metadata restored from a cache file.
+ */
+class PersistentMetadataReaderFactoryTests extends AbstractAnnotationMetadataTests {
+
+	@TempDir
+	Path tempDir;
+
+
+	@Override
+	protected AnnotationMetadata get(Class<?> source) {
+		try {
+			return restore(source.getName(), source.getClassLoader()).getAnnotationMetadata();
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Test
+	void cachedMetadataReusedUntilClassFileChanges() throws Exception {
+		Path classFile = this.tempDir.resolve("TestClass.class");
+		try (InputStream in = getClass().getResourceAsStream(getClass().getSimpleName() + ".class")) {
+			Files.write(classFile, in.readAllBytes());
+		}
+		FileTime lastModified = Files.getLastModifiedTime(classFile);
+		Resource resource = new FileSystemResource(classFile);
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(cacheFile);
+		assertThat(factory.getMetadataReader(resource).getClassMetadata().getClassName())
+				.isEqualTo(getClass().getName());
+		factory.save();
+		assertThat(cacheFile).isRegularFile();
+
+		// Same size and timestamp: metadata restored without reading the class file
+		Files.write(classFile, new byte[(int) Files.size(classFile)]);
+		Files.setLastModifiedTime(classFile, lastModified);
+		factory = new PersistentMetadataReaderFactory(cacheFile);
+		assertThat(factory.getMetadataReader(resource).getClassMetadata().getClassName())
+				.isEqualTo(getClass().getName());
+
+		// Changed class file: cached metadata discarded
+		try (InputStream in = getClass().getResourceAsStream("SimpleAnnotationMetadataTests.class")) {
+			Files.write(classFile, in.readAllBytes());
+		}
+		Files.setLastModifiedTime(classFile, FileTime.fromMillis(lastModified.toMillis() + 10_000));
+		factory = new PersistentMetadataReaderFactory(cacheFile);
+		assertThat(factory.getMetadataReader(resource).getClassMetadata().getClassName())
+				.isEqualTo(SimpleAnnotationMetadataTests.class.getName());
+	}
+
+	@Test
+	void cachedMetadataMatchesClassFileMetadata() throws Exception {
+		String className = AttributesClass.class.getName();
+		AnnotationMetadata expected = new SimpleMetadataReaderFactory(getClass().getClassLoader())
+				.getMetadataReader(className).getAnnotationMetadata();
+		AnnotationMetadata actual = restore(className, getClass().getClassLoader()).getAnnotationMetadata();
+
+		assertThat(actual.getClassName()).isEqualTo(expected.getClassName());
+		assertThat(actual.getAnnotationTypes()).isEqualTo(expected.getAnnotationTypes());
+		for (boolean classValuesAsString : new boolean[] {false, true}) {
+			assertThat(actual.getAnnotationAttributes(Attributes.class.getName(), classValuesAsString))
+					.usingRecursiveComparison()
+					.isEqualTo(expected.getAnnotationAttributes(Attributes.class.getName(), classValuesAsString));
+		}
+		assertThat(actual.getAnnotationAttributes(Attributes.class.getName()))
+				.containsEntry("type", Thread.State.class)
+				.containsEntry("color", Color.GREEN);
+
+		MethodMetadata expectedMethod = expected.getAnnotatedMethods(Attributes.class.getName()).iterator().next();
+		MethodMetadata actualMethod = actual.getAnnotatedMethods(Attributes.class.getName()).iterator().next();
+		assertThat(actualMethod.getMethodName()).isEqualTo(expectedMethod.getMethodName());
+		assertThat(actualMethod.getAnnotationAttributes(Attributes.class.getName()))
+				.usingRecursiveComparison()
+				.isEqualTo(expectedMethod.getAnnotationAttributes(Attributes.class.getName()));
+	}
+
+	@Test
+	void cachedMetadataForJarEntries() throws Exception {
+		String entryName = getClass().getName().replace('.', '/') + ".class";
+		byte[] classBytes;
+		try (InputStream in = getClass().getResourceAsStream(getClass().getSimpleName() + ".class")) {
+			classBytes = in.readAllBytes();
+		}
+		Path jarFile = this.tempDir.resolve("test.jar");
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			out.putNextEntry(new JarEntry(entryName));
+			out.write(classBytes);
+			out.closeEntry();
+		}
+		FileTime lastModified = Files.getLastModifiedTime(jarFile);
+		Resource resource = new UrlResource("jar:" + jarFile.toUri() + "!/" + entryName);
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(cacheFile);
+		assertThat(factory.getMetadataReader(resource).getClassMetadata().getClassName())
+				.isEqualTo(getClass().getName());
+		factory.save();
+
+		// Same size and timestamp: metadata restored without reading the jar file
+		Files.write(jarFile, new byte[(int) Files.size(jarFile)]);
+		Files.setLastModifiedTime(jarFile, lastModified);
+		factory = new PersistentMetadataReaderFactory(cacheFile);
+		assertThat(factory.getMetadataReader(resource).getClassMetadata().getClassName())
+				.isEqualTo(getClass().getName());
+	}
+
+	@Test
+	void cachedMetadataDroppedForDeletedClassFile() throws Exception {
+		Path classFile = this.tempDir.resolve("TestClass.class");
+		try (InputStream in = getClass().getResourceAsStream(getClass().getSimpleName() + ".class")) {
+			Files.write(classFile, in.readAllBytes());
+		}
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(cacheFile);
+		factory.getMetadataReader(new FileSystemResource(classFile));
+		factory.save();
+		String path = classFile.toAbsolutePath().toString();
+		assertThat(new String(Files.readAllBytes(cacheFile), StandardCharsets.ISO_8859_1)).contains(path);
+
+		Files.delete(classFile);
+		new PersistentMetadataReaderFactory(cacheFile).save();
+		assertThat(new String(Files.readAllBytes(cacheFile), StandardCharsets.ISO_8859_1)).doesNotContain(path);
+	}
+
+	@Test
+	void metadataReaderCachedInMemory() throws Exception {
+		PersistentMetadataReaderFactory factory =
+				new PersistentMetadataReaderFactory(this.tempDir.resolve("metadata.cache"));
+		MetadataReader metadataReader = factory.getMetadataReader(getClass().getName());
+		assertThat(factory.getMetadataReader(getClass().getName())).isSameAs(metadataReader);
+	}
+
+	@Test
+	void unreadableCacheFileIgnored() throws Exception {
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+		Files.writeString(cacheFile, "not a metadata cache");
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(cacheFile);
+		assertThat(factory.getMetadataReader(getClass().getName()).getClassMetadata().getClassName())
+				.isEqualTo(getClass().getName());
+	}
+
+
+	/**
+	 * Record the metadata of the given class in a cache file, and restore it
+	 * through a new factory, using separate resource loaders so that the
+	 * restored metadata does not come from a shared in-memory cache.
+	 */
+	private MetadataReader restore(String className, ClassLoader classLoader) throws IOException {
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+		PersistentMetadataReaderFactory factory =
+				new PersistentMetadataReaderFactory(cacheFile, new DefaultResourceLoader(classLoader));
+		factory.getMetadataReader(className);
+		factory.save();
+		return new PersistentMetadataReaderFactory(cacheFile, new DefaultResourceLoader(classLoader))
+				.getMetadataReader(className);
+	}
+
+
+	enum Color {
+
+		RED, GREEN, BLUE
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Nested {
+
+		String value();
+
+		Color color() default Color.RED;
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Attributes {
+
+		Color color();
+
+		Color[] colors();
+
+		Class<?> type();
+
+		Class<?>[] types();
+
+		Nested nested();
+
+		Nested[] nestedArray();
+
+		String[] names();
+
+		int[] numbers();
+
+		long longValue();
+
+		char charValue();
+
+		double doubleValue();
+
+		boolean[] flags();
+	}
+
+
+	@Attributes(color = Color.GREEN, colors = {Color.BLUE, Color.RED}, type = Thread.State.class,
+			types = {String.class, int[].class}, nested = @Nested(value = "n", color = Color.BLUE),
+			nestedArray = {@Nested("a"), @Nested(value = "b", color = Color.GREEN)}, names = {"x", "y"},
+			numbers = {1, 2, 3}, longValue = 42L, charValue = 'c', doubleValue = 1.5, flags = {true, false})
+	static class AttributesClass {
+
+		@Attributes(color = Color.RED, colors = {}, type = void.class, types = {}, nested = @Nested("m"),
+				nestedArray = {}, names = {}, numbers = {}, longValue = -1L, charValue = 'm', doubleValue = 0,
+				flags = {})
+		public void annotatedMethod() {
+		}
+	}
+
+}
@@ -225,7 +225,12 @@ public abstract class AbstractDataBufferAllocatingTests {
 			argumentSet("DefaultDataBufferFactory - preferDirect = true",
 					new DefaultDataBufferFactory(true)),
 			argumentSet("DefaultDataBufferFactory - preferDirect = false",
-					new DefaultDataBufferFactory(false))
+					new DefaultDataBufferFactory(false)),
+			// Composite
+			argumentSet("CompositeDataBufferFactory - DefaultDataBufferFactory - preferDirect = true",
+					new CompositeDataBufferFactory(new DefaultDataBufferFactory(true))),
+			argumentSet("CompositeDataBufferFactory - DefaultDataBufferFactory - preferDirect = false",
+					new CompositeDataBufferFactory(new DefaultDataBufferFactory(false)))
 		);
 	}
 
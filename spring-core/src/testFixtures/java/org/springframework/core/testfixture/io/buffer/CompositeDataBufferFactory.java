@@ -0,0 +1,89 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.testfixture.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.springframework.core.io.buffer.CompositeDataBuffer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBufferFactory} interface that creates
+ * {@link CompositeDataBuffer CompositeDataBuffers} over buffers of a delegate
+ * factory, so that data buffer tests also run against composites.
+ * <p>Wrapped data is split into two components, so that reads cross a
+ * component boundary.
+ *
+ * @see AbstractDataBufferAllocatingTests#dataBufferFactories()
+ */
+public class CompositeDataBufferFactory implements DataBufferFactory {
+
+	private final DataBufferFactory delegate;
+
+
+	/**
+	 * Create a new {@code CompositeDataBufferFactory} with the given delegate.
+	 * @param delegate the factory to allocate and wrap components with
+	 */
+	public CompositeDataBufferFactory(DataBufferFactory delegate) {
+		Assert.notNull(delegate, "Delegate must not be null");
+		this.delegate = delegate;
+	}
+
+
+	@Override
+	@Deprecated
+	public DataBuffer allocateBuffer() {
+		return allocateBuffer(256);
+	}
+
+	@Override
+	public DataBuffer allocateBuffer(int initialCapacity) {
+		return new CompositeDataBuffer(this.delegate, initialCapacity);
+	}
+
+	@Override
+	public DataBuffer wrap(ByteBuffer byteBuffer) {
+		int length = byteBuffer.remaining() / 2;
+		if (length == 0) {
+			return new CompositeDataBuffer(this.delegate).addComponent(this.delegate.wrap(byteBuffer));
+		}
+		ByteBuffer first = byteBuffer.slice(byteBuffer.position(), length);
+		ByteBuffer second = byteBuffer.slice(byteBuffer.position() + length, byteBuffer.remaining() - length);
+		return DataBufferUtils.compose(List.of(this.delegate.wrap(first), this.delegate.wrap(second)));
+	}
+
+	@Override
+	public DataBuffer wrap(byte[] bytes) {
+		return wrap(ByteBuffer.wrap(bytes));
+	}
+
+	@Override
+	public DataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		return DataBufferUtils.compose(dataBuffers);
+	}
+
+	@Override
+	public boolean isDirect() {
+		return this.delegate.isDirect();
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.expression.spel;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -103,4 +104,31 @@ public class SpelBenchmark {
 		return data.expression.getValue(data.context);
 	}
 
+	@State(Scope.Benchmark)
+	public static class SelectionBenchmarkData {
+
+		public EvaluationContext context = new StandardEvaluationContext(List.of("one", "two", "three", "four"));
+
+		public Expression interpretedExpression;
+
+		public Expression compiledExpression;
+
+		public SelectionBenchmarkData() {
+			String expression = "#root.?[length() > 3].size() + #root.size()";
+			this.interpretedExpression = new SpelExpressionParser().parseExpression(expression);
+			SpelParserConfiguration configuration = new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, null);
+			this.compiledExpression = new SpelExpressionParser(configuration).parseExpression(expression);
+		}
+	}
+
+	@Benchmark
+	public Object interpretedSelection(SelectionBenchmarkData data) {
+		return data.interpretedExpression.getValue(data.context);
+	}
+
+	@Benchmark
+	public Object compiledSelection(SelectionBenchmarkData data) {
+		return data.compiledExpression.getValue(data.context);
+	}
+
 }
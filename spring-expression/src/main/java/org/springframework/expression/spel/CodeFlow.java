@@ -20,6 +20,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 
@@ -93,6 +94,13 @@ public class CodeFlow implements Opcodes {
 	 */
 	private int nextFreeVariableId = 1;
 
+	/**
+	 * AST nodes that the generated code evaluates through the interpreter,
+	 * indexed in the order of their registration.
+	 */
+	@Nullable
+	private List<SpelNode> interpretedNodes;
+
 
 	/**
 	 * Construct a new {@code CodeFlow} for the given class.
@@ -233,6 +241,31 @@ public class CodeFlow implements Opcodes {
 		return this.className;
 	}
 
+	/**
+	 * Register an AST node that the generated code evaluates through the
+	 * interpreter, typically because the node cannot be compiled itself.
+	 * @param node the node to register
+	 * @return the index of the node, to be passed to
+	 * {@link CompiledExpression#interpret} by the generated code
+	 * @since 7.0
+	 */
+	public int registerInterpretedNode(SpelNode node) {
+		if (this.interpretedNodes == null) {
+			this.interpretedNodes = new ArrayList<>();
+		}
+		this.interpretedNodes.add(node);
+		return this.interpretedNodes.size() - 1;
+	}
+
+	/**
+	 * Return the AST nodes registered through {@link #registerInterpretedNode},
+	 * in the order of their registration.
+	 * @since 7.0
+	 */
+	public List<SpelNode> getInterpretedNodes() {
+		return (this.interpretedNodes != null ? this.interpretedNodes : Collections.emptyList());
+	}
+
 	/**
 	 * Generate bytecode that loads the supplied argument onto the stack.
 	 * <p>Delegates to {@link #generateCodeForArgument(MethodVisitor, SpelNode, String)}
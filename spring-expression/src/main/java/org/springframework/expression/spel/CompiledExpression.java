@@ -16,9 +16,13 @@
 
 package org.springframework.expression.spel;
 
+import java.util.List;
+
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
+import org.springframework.expression.TypedValue;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Base superclass for compiled expressions. Each generated compiled expression class
@@ -30,6 +34,13 @@ import org.springframework.lang.Nullable;
  */
 public abstract class CompiledExpression {
 
+	@Nullable
+	private SpelNode[] interpretedNodes;
+
+	@Nullable
+	private SpelParserConfiguration configuration;
+
+
 	/**
 	 * Subclasses of CompiledExpression generated by SpelCompiler will provide an
 	 * implementation of this method.
@@ -37,4 +48,41 @@ public abstract class CompiledExpression {
 	public abstract Object getValue(@Nullable Object target, @Nullable EvaluationContext context)
 			throws EvaluationException;
 
+	/**
+	 * Initialize the AST nodes that the generated code evaluates through the
+	 * interpreter, along with the parser configuration to evaluate them with.
+	 * <p>Called by SpelCompiler once the compiled expression has been instantiated.
+	 * @param interpretedNodes the nodes registered through
+	 * {@link CodeFlow#registerInterpretedNode}, in the order of their registration
+	 * @param configuration the parser configuration of the expression
+	 * @since 7.0
+	 */
+	public final void initInterpretedNodes(List<SpelNode> interpretedNodes, SpelParserConfiguration configuration) {
+		this.interpretedNodes = interpretedNodes.toArray(new SpelNode[0]);
+		this.configuration = configuration;
+	}
+
+	/**
+	 * Evaluate a registered AST node through the interpreter. Invoked by the
+	 * generated code for nodes that cannot be compiled themselves.
+	 * @param activeContextObject the active context object to evaluate the node against
+	 * @param index the index of the node, as returned on registration
+	 * @param rootObject the root object passed to {@link #getValue}
+	 * @param context the evaluation context passed to {@link #getValue}
+	 * @return the value of the node
+	 * @since 7.0
+	 */
+	@Nullable
+	public final Object interpret(@Nullable Object activeContextObject, int index,
+			@Nullable Object rootObject, @Nullable EvaluationContext context) throws EvaluationException {
+
+		SpelNode[] interpretedNodes = this.interpretedNodes;
+		SpelParserConfiguration configuration = this.configuration;
+		Assert.state(interpretedNodes != null && configuration != null, "Interpreted nodes not initialized");
+		Assert.state(context != null, "No EvaluationContext available for interpreted node");
+		ExpressionState state = new ExpressionState(context, new TypedValue(rootObject), configuration);
+		state.pushActiveContextObject(new TypedValue(activeContextObject));
+		return interpretedNodes[index].getValue(state);
+	}
+
 }
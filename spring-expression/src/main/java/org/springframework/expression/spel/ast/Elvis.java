@@ -54,6 +54,10 @@ public class Elvis extends SpelNodeImpl {
 		TypedValue value = this.children[0].getValueInternal(state);
 		// If this check is changed, the generateCode method will need changing too
 		if (value.getValue() != null && !"".equals(value.getValue())) {
+			if (this.exitTypeDescriptor == null && this.children[1].exitTypeDescriptor != null) {
+				// For example, a literal if-null value: no need to wait for its evaluation
+				computeExitTypeDescriptor();
+			}
 			return value;
 		}
 		else {
@@ -70,10 +74,10 @@ public class Elvis extends SpelNodeImpl {
 
 	@Override
 	public boolean isCompilable() {
+		// The if-null value is evaluated through the interpreter if it cannot be compiled
 		SpelNodeImpl condition = this.children[0];
-		SpelNodeImpl ifNullValue = this.children[1];
-		return (condition.isCompilable() && ifNullValue.isCompilable() &&
-				condition.exitTypeDescriptor != null && ifNullValue.exitTypeDescriptor != null);
+		return (condition.isCompilable() && condition.exitTypeDescriptor != null &&
+				(isIfNullValueCompilable() || !CodeFlow.isPrimitive(this.exitTypeDescriptor)));
 	}
 
 	@Override
@@ -99,25 +103,42 @@ public class Elvis extends SpelNodeImpl {
 		mv.visitLabel(elseTarget);
 		mv.visitInsn(POP);
 		cf.enterCompilationScope();
-		this.children[1].generateCode(mv, cf);
-		if (!CodeFlow.isPrimitive(this.exitTypeDescriptor)) {
-			lastDesc = cf.lastDescriptor();
-			Assert.state(lastDesc != null, "No last descriptor");
-			CodeFlow.insertBoxIfNecessary(mv, lastDesc.charAt(0));
+		if (isIfNullValueCompilable()) {
+			this.children[1].generateCode(mv, cf);
+			if (!CodeFlow.isPrimitive(this.exitTypeDescriptor)) {
+				lastDesc = cf.lastDescriptor();
+				Assert.state(lastDesc != null, "No last descriptor");
+				CodeFlow.insertBoxIfNecessary(mv, lastDesc.charAt(0));
+			}
+		}
+		else {
+			this.children[1].generateInterpretedCode(mv, cf);
+			CodeFlow.insertCheckCast(mv, this.exitTypeDescriptor);
 		}
 		cf.exitCompilationScope();
 		mv.visitLabel(endOfIf);
 		cf.pushDescriptor(this.exitTypeDescriptor);
 	}
 
+	private boolean isIfNullValueCompilable() {
+		SpelNodeImpl ifNullValue = this.children[1];
+		return (ifNullValue.isCompilable() && ifNullValue.exitTypeDescriptor != null);
+	}
+
 	private void computeExitTypeDescriptor() {
-		if (this.exitTypeDescriptor == null && this.children[0].exitTypeDescriptor != null &&
-				this.children[1].exitTypeDescriptor != null) {
+		if (this.exitTypeDescriptor == null && this.children[0].exitTypeDescriptor != null) {
 			String conditionDescriptor = this.children[0].exitTypeDescriptor;
-			String ifNullValueDescriptor = this.children[1].exitTypeDescriptor;
+			// An if-null value that is not compiled is evaluated to a plain Object
+			String ifNullValueDescriptor = (isIfNullValueCompilable() ?
+					this.children[1].exitTypeDescriptor : "Ljava/lang/Object");
 			if (ObjectUtils.nullSafeEquals(conditionDescriptor, ifNullValueDescriptor)) {
 				this.exitTypeDescriptor = conditionDescriptor;
 			}
+			else if (CodeFlow.areBoxingCompatible(conditionDescriptor, ifNullValueDescriptor)) {
+				// Boxed and primitive variant of the same type: the result is always boxed
+				this.exitTypeDescriptor = (CodeFlow.isPrimitive(conditionDescriptor) ?
+						CodeFlow.toBoxedDescriptor(conditionDescriptor) : conditionDescriptor);
+			}
 			else {
 				// Use the easiest to compute common supertype
 				this.exitTypeDescriptor = "Ljava/lang/Object";
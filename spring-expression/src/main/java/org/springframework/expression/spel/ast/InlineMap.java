@@ -20,8 +20,10 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelNode;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
@@ -46,6 +48,7 @@ public class InlineMap extends SpelNodeImpl {
 	public InlineMap(int startPos, int endPos, SpelNodeImpl... args) {
 		super(startPos, endPos, args);
 		this.constant = computeConstantValue();
+		this.exitTypeDescriptor = "Ljava/util/Map";
 	}
 
 
@@ -169,4 +172,113 @@ public class InlineMap extends SpelNodeImpl {
 		return (Map<Object, Object>) this.constant.getValue();
 	}
 
+	@Override
+	public boolean isCompilable() {
+		// Map entries that cannot be compiled are evaluated through the interpreter
+		return true;
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow codeflow) {
+		if (isConstant()) {
+			final String constantFieldName = "inlineMap$" + codeflow.nextFieldId();
+			final String className = codeflow.getClassName();
+
+			codeflow.registerNewField((cw, cflow) ->
+					cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, constantFieldName, "Ljava/util/Map;", null, null));
+
+			codeflow.registerNewClinit((mVisitor, cflow) ->
+					generateClinitCode(className, constantFieldName, mVisitor, cflow, false));
+
+			mv.visitFieldInsn(GETSTATIC, className, constantFieldName, "Ljava/util/Map;");
+		}
+		else if (codeflow.lastDescriptor() == null && areEntriesCompilable()) {
+			mv.visitTypeInsn(NEW, "java/util/LinkedHashMap");
+			mv.visitInsn(DUP);
+			mv.visitMethodInsn(INVOKESPECIAL, "java/util/LinkedHashMap", "<init>", "()V", false);
+			int childCount = getChildCount();
+			for (int c = 0; c < childCount; c++) {
+				mv.visitInsn(DUP);
+				generateEntryCode(mv, codeflow, this.children[c++], true);
+				generateEntryCode(mv, codeflow, this.children[c], false);
+				mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put",
+						"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+				mv.visitInsn(POP);
+			}
+		}
+		else {
+			generateInterpretedCode(mv, codeflow);
+			CodeFlow.insertCheckCast(mv, "Ljava/util/Map");
+		}
+		codeflow.pushDescriptor("Ljava/util/Map");
+	}
+
+	/**
+	 * Determine whether all keys and values of this map can be compiled,
+	 * with keys given as plain names not requiring compilation.
+	 */
+	private boolean areEntriesCompilable() {
+		for (int c = 0, max = getChildCount(); c < max; c++) {
+			SpelNodeImpl child = this.children[c];
+			boolean key = (c % 2 == 0);
+			if (!(key && child instanceof PropertyOrFieldReference) &&
+					(!child.isCompilable() || child.exitTypeDescriptor == null)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void generateEntryCode(MethodVisitor mv, CodeFlow codeflow, SpelNodeImpl child, boolean key) {
+		if (key && child instanceof PropertyOrFieldReference reference) {
+			mv.visitLdcInsn(reference.getName());
+		}
+		else {
+			codeflow.enterCompilationScope();
+			child.generateCode(mv, codeflow);
+			CodeFlow.insertBoxIfNecessary(mv, codeflow.lastDescriptor());
+			codeflow.exitCompilationScope();
+		}
+	}
+
+	void generateClinitCode(String clazzname, String constantFieldName, MethodVisitor mv, CodeFlow codeflow, boolean nested) {
+		mv.visitTypeInsn(NEW, "java/util/LinkedHashMap");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/LinkedHashMap", "<init>", "()V", false);
+		int childCount = getChildCount();
+		for (int c = 0; c < childCount; c++) {
+			mv.visitInsn(DUP);
+			SpelNodeImpl keyChild = this.children[c++];
+			if (keyChild instanceof PropertyOrFieldReference reference) {
+				mv.visitLdcInsn(reference.getName());
+			}
+			else {
+				keyChild.generateCode(mv, codeflow);
+				CodeFlow.insertBoxIfNecessary(mv, codeflow.lastDescriptor());
+			}
+			// Nested lists and maps are built directly here rather than through
+			// generateCode(), which would register another clinit adder
+			SpelNodeImpl valueChild = this.children[c];
+			if (valueChild instanceof InlineList inlineList) {
+				inlineList.generateClinitCode(clazzname, constantFieldName, mv, codeflow, true);
+			}
+			else if (valueChild instanceof InlineMap inlineMap) {
+				inlineMap.generateClinitCode(clazzname, constantFieldName, mv, codeflow, true);
+			}
+			else {
+				valueChild.generateCode(mv, codeflow);
+				CodeFlow.insertBoxIfNecessary(mv, codeflow.lastDescriptor());
+			}
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put",
+					"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+			mv.visitInsn(POP);
+		}
+		// The map is shared across evaluations, just like the interpreter's constant
+		mv.visitMethodInsn(INVOKESTATIC, "java/util/Collections", "unmodifiableMap",
+				"(Ljava/util/Map;)Ljava/util/Map;", false);
+		if (!nested) {
+			mv.visitFieldInsn(PUTSTATIC, clazzname, constantFieldName, "Ljava/util/Map;");
+		}
+	}
+
 }
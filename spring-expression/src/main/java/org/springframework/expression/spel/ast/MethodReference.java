@@ -268,6 +268,11 @@ public class MethodReference extends SpelNodeImpl {
 				this.exitTypeDescriptor = descriptor;
 			}
 		}
+		else if (executorToCheck != null) {
+			// Custom MethodExecutor: evaluated through the interpreter within compiled code
+			this.originalPrimitiveExitTypeDescriptor = null;
+			this.exitTypeDescriptor = "Ljava/lang/Object";
+		}
 	}
 
 	@Override
@@ -286,10 +291,13 @@ public class MethodReference extends SpelNodeImpl {
 	@Override
 	public boolean isCompilable() {
 		CachedMethodExecutor executorToCheck = this.cachedExecutor;
-		if (executorToCheck == null || executorToCheck.hasProxyTarget() ||
-				!(executorToCheck.get() instanceof ReflectiveMethodExecutor executor)) {
+		if (executorToCheck == null || executorToCheck.hasProxyTarget()) {
 			return false;
 		}
+		if (!(executorToCheck.get() instanceof ReflectiveMethodExecutor executor)) {
+			// Resolved through a custom MethodResolver: evaluated through the interpreter
+			return (this.exitTypeDescriptor != null);
+		}
 
 		for (SpelNodeImpl child : this.children) {
 			if (!child.isCompilable()) {
@@ -307,8 +315,12 @@ public class MethodReference extends SpelNodeImpl {
 	@Override
 	public void generateCode(MethodVisitor mv, CodeFlow cf) {
 		CachedMethodExecutor executorToCheck = this.cachedExecutor;
-		if (executorToCheck == null || !(executorToCheck.get() instanceof ReflectiveMethodExecutor methodExecutor)) {
-			throw new IllegalStateException("No applicable cached executor found: " + executorToCheck);
+		if (executorToCheck == null) {
+			throw new IllegalStateException("No cached executor found");
+		}
+		if (!(executorToCheck.get() instanceof ReflectiveMethodExecutor methodExecutor)) {
+			generateInterpretedCode(mv, cf);
+			return;
 		}
 		Method method = methodExecutor.getMethod();
 
@@ -23,9 +23,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
@@ -75,6 +77,8 @@ public class Selection extends SpelNodeImpl {
 		super(startPos, endPos, expression);
 		this.nullSafe = nullSafe;
 		this.variant = variant;
+		// Evaluated through the interpreter when part of a compiled expression
+		this.exitTypeDescriptor = "Ljava/lang/Object";
 	}
 
 
@@ -209,6 +213,16 @@ public class Selection extends SpelNodeImpl {
 				operand.getClass().getName());
 	}
 
+	@Override
+	public boolean isCompilable() {
+		return true;
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		generateInterpretedCode(mv, cf);
+	}
+
 	@Override
 	public String toStringAST() {
 		return prefix() + getChild(0).toStringAST() + "]";
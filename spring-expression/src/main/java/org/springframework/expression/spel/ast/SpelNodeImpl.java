@@ -209,6 +209,38 @@ public abstract class SpelNodeImpl implements SpelNode, Opcodes {
 
 	public abstract TypedValue getValueInternal(ExpressionState expressionState) throws EvaluationException;
 
+	/**
+	 * Generate code that evaluates this node through the interpreter, so that
+	 * a node which cannot be compiled itself does not prevent compilation of
+	 * the enclosing expression.
+	 * <p>The value on top of the stack, if any, is used as the active context
+	 * object; otherwise, the root object is used. The result is left on the
+	 * stack as a {@code java.lang.Object}.
+	 * @param mv the method visitor where code should be generated
+	 * @param cf the current {@link CodeFlow}
+	 * @since 7.0
+	 * @see org.springframework.expression.spel.CompiledExpression#interpret
+	 */
+	protected void generateInterpretedCode(MethodVisitor mv, CodeFlow cf) {
+		String descriptor = cf.lastDescriptor();
+		if (descriptor == null) {
+			cf.loadTarget(mv);
+		}
+		else {
+			CodeFlow.insertBoxIfNecessary(mv, descriptor);
+		}
+		// Invoke interpret(activeContextObject, index, rootObject, context) on the compiled expression
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitInsn(SWAP);
+		CodeFlow.insertOptimalLoad(mv, cf.registerInterpretedNode(this));
+		cf.loadTarget(mv);
+		cf.loadEvaluationContext(mv);
+		mv.visitMethodInsn(INVOKEVIRTUAL, "org/springframework/expression/spel/CompiledExpression", "interpret",
+				"(Ljava/lang/Object;ILjava/lang/Object;Lorg/springframework/expression/EvaluationContext;)Ljava/lang/Object;",
+				false);
+		cf.pushDescriptor("Ljava/lang/Object");
+	}
+
 
 	/**
 	 * Generate code that handles building the argument values for the specified
@@ -18,6 +18,8 @@ package org.springframework.expression.spel.standard;
 
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -30,6 +32,7 @@ import org.springframework.asm.Opcodes;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.CompiledExpression;
+import org.springframework.expression.spel.SpelNode;
 import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.ast.SpelNodeImpl;
 import org.springframework.lang.Nullable;
@@ -100,14 +103,33 @@ public final class SpelCompiler implements Opcodes {
 	 */
 	@Nullable
 	public CompiledExpression compile(SpelNodeImpl expression) {
+		return compile(expression, new SpelParserConfiguration());
+	}
+
+	/**
+	 * Attempt compilation of the supplied expression, evaluating any parts of
+	 * it that cannot be compiled themselves through the interpreter with the
+	 * given parser configuration.
+	 * @param expression the expression to compile
+	 * @param configuration the parser configuration of the expression
+	 * @return an instance of the class implementing the compiled expression,
+	 * or {@code null} if compilation is not possible
+	 * @since 7.0
+	 * @see #compile(SpelNodeImpl)
+	 */
+	@Nullable
+	public CompiledExpression compile(SpelNodeImpl expression, SpelParserConfiguration configuration) {
 		if (expression.isCompilable()) {
 			if (logger.isDebugEnabled()) {
 				logger.debug("SpEL: compiling " + expression.toStringAST());
 			}
-			Class<? extends CompiledExpression> clazz = createExpressionClass(expression);
+			List<SpelNode> interpretedNodes = new ArrayList<>();
+			Class<? extends CompiledExpression> clazz = createExpressionClass(expression, interpretedNodes);
 			if (clazz != null) {
 				try {
-					return ReflectionUtils.accessibleConstructor(clazz).newInstance();
+					CompiledExpression compiledExpression = ReflectionUtils.accessibleConstructor(clazz).newInstance();
+					compiledExpression.initInterpretedNodes(interpretedNodes, configuration);
+					return compiledExpression;
 				}
 				catch (Throwable ex) {
 					throw new IllegalStateException("Failed to instantiate CompiledExpression for expression: " +
@@ -130,11 +152,14 @@ public final class SpelCompiler implements Opcodes {
 	 * Generate the class that encapsulates the compiled expression and define it.
 	 * <p>The generated class will be a subtype of {@link CompiledExpression}.
 	 * @param expressionToCompile the expression to be compiled
+	 * @param interpretedNodes the list to add the nodes to that the generated
+	 * code evaluates through the interpreter
 	 * @return the expression call, or {@code null} if the decision was to opt out of
 	 * compilation during code generation
 	 */
 	@Nullable
-	private Class<? extends CompiledExpression> createExpressionClass(SpelNodeImpl expressionToCompile) {
+	private Class<? extends CompiledExpression> createExpressionClass(
+			SpelNodeImpl expressionToCompile, List<SpelNode> interpretedNodes) {
 		// Create class outline:
 		// org.springframework.expression.spel.generated.CompiledExpression##### extends org.springframework.expression.spel.CompiledExpression
 		String className = "org/springframework/expression/spel/generated/CompiledExpression" + getNextSuffix();
@@ -183,6 +208,7 @@ public final class SpelCompiler implements Opcodes {
 		cw.visitEnd();
 
 		cf.finish();
+		interpretedNodes.addAll(cf.getInterpretedNodes());
 
 		byte[] data = cw.toByteArray();
 		// TODO Save generated class files conditionally based on a flag.
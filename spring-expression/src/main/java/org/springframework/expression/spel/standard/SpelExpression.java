@@ -525,7 +525,7 @@ public class SpelExpression implements Expression {
 			}
 			try {
 				SpelCompiler compiler = SpelCompiler.getCompiler(this.configuration.getCompilerClassLoader());
-				compiledAst = compiler.compile(this.ast);
+				compiledAst = compiler.compile(this.ast, this.configuration);
 				if (compiledAst != null) {
 					// Successfully compiled
 					this.compiledAst = compiledAst;
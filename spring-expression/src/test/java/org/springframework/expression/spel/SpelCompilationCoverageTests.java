@@ -1831,6 +1831,106 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertThat(o).isEqualTo("op");
 	}
 
+	@Test
+	void inlineMap() {
+		expression = parser.parseExpression("{a:'abc',b:{1,2},c:{d:-1}}");
+		Object o = expression.getValue();
+		assertThat(o.toString()).isEqualTo("{a=abc, b=[1, 2], c={d=-1}}");
+		assertCanCompile(expression);
+		o = expression.getValue();
+		assertThat(o.toString()).isEqualTo("{a=abc, b=[1, 2], c={d=-1}}");
+
+		expression = parser.parseExpression("{'key':'abcde'}['key'].substring(1)");
+		o = expression.getValue();
+		assertThat(o).isEqualTo("bcde");
+		assertCanCompile(expression);
+		o = expression.getValue();
+		assertThat(o).isEqualTo("bcde");
+
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setVariable("name", "abc");
+		expression = parser.parseExpression("{name:#name,length:#name.length()}");
+		o = expression.getValue(context);
+		assertThat(o.toString()).isEqualTo("{name=abc, length=3}");
+		assertCanCompile(expression);
+		context.setVariable("name", "defg");
+		o = expression.getValue(context);
+		assertThat(o.toString()).isEqualTo("{name=defg, length=4}");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void constantInlineMapIsUnmodifiableWhenCompiled() {
+		expression = parser.parseExpression("{a:'abc',c:{d:-1}}");
+		assertCanCompile(expression);
+		Map<String, Object> map = (Map<String, Object>) expression.getValue();
+		assertThat(map).containsEntry("a", "abc");
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> map.put("b", "def"));
+		Map<String, Object> nested = (Map<String, Object>) map.get("c");
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> nested.put("e", 1));
+		assertThat(expression.getValue()).isSameAs(map);
+	}
+
+	@Test
+	void selectionAndProjectionInterpretedWithinCompiledExpression() {
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setVariable("numbers", List.of(1, 2, 3, 4, 5));
+
+		expression = parser.parseExpression("#numbers.?[#this > 2].size()");
+		assertThat(expression.getValue(context)).isEqualTo(3);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo(3);
+		context.setVariable("numbers", List.of(3, 4));
+		assertThat(expression.getValue(context)).isEqualTo(2);
+
+		expression = parser.parseExpression("#numbers.![#this * 2].contains(8)");
+		assertThat(expression.getValue(context)).isEqualTo(true);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo(true);
+		context.setVariable("numbers", List.of(1, 2));
+		assertThat(expression.getValue(context)).isEqualTo(false);
+	}
+
+	@Test
+	void elvisWithBoxedConditionAndLiteralIfNullValue() {
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setVariable("value", 21);
+
+		expression = parser.parseExpression("(#value?:0) * 2");
+		assertThat(expression.getValue(context)).isEqualTo(42);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo(42);
+		context.setVariable("value", null);
+		assertThat(expression.getValue(context)).isEqualTo(0);
+	}
+
+	@Test
+	void elvisWithInterpretedIfNullValue() {
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setVariable("name", "abc");
+		context.setVariable("names", List.of("def", "ghi"));
+
+		expression = parser.parseExpression("#name?:#names.^[#this.startsWith('g')]");
+		assertThat(expression.getValue(context)).isEqualTo("abc");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo("abc");
+		context.setVariable("name", null);
+		assertThat(expression.getValue(context)).isEqualTo("ghi");
+	}
+
+	@Test
+	void methodResolvedThroughCustomMethodResolverInterpretedWithinCompiledExpression() {
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.addMethodResolver((evaluationContext, targetObject, name, argumentTypes) ->
+				("shout".equals(name) && targetObject instanceof String ?
+						(ctx, target, arguments) -> new TypedValue(((String) target).toUpperCase()) : null));
+
+		expression = parser.parseExpression("'abc'.shout().concat('!')");
+		assertThat(expression.getValue(context)).isEqualTo("ABC!");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo("ABC!");
+	}
+
 	@Test
 	void intLiteral() {
 		expression = parser.parseExpression("42");
@@ -2521,8 +2621,9 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 
 		expression = parser.parseExpression("#negate(#ints.?[#this<2][0])");
 		assertThat(expression.getValue(context, Integer.class).toString()).isEqualTo("-1");
-		// Selection isn't compilable.
-		assertThat(((SpelExpression) expression).getAST().isCompilable()).isFalse();
+		// Selection is evaluated through the interpreter within the compiled expression.
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context, Integer.class).toString()).isEqualTo("-1");
 	}
 
 	@Test
@@ -40,7 +40,7 @@ public class DefaultSubscriptionRegistryBenchmark {
 
 	@State(Scope.Benchmark)
 	public static class ServerState {
-		@Param("1000")
+		@Param({"1000", "50000"})
 		public int sessions;
 
 		@Param("10")
@@ -54,6 +54,11 @@ import org.springframework.util.StringUtils;
  * in memory and uses a {@link org.springframework.util.PathMatcher PathMatcher}
  * for matching destinations.
  *
+ * <p>Subscriptions are indexed by destination, and pattern-based subscriptions
+ * by pattern, so that resolving the subscriptions for a destination that is not
+ * in the cache involves one lookup plus one match per distinct pattern, rather
+ * than one match per subscription.
+ *
  * <p>This class also supports an optional <em>selector</em> header on subscription
  * messages with Spring Expression Language (SpEL) expressions evaluated against
  * the headers to filter out messages in addition to destination matching. As of
@@ -91,6 +96,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 	private final SessionRegistry sessionRegistry = new SessionRegistry();
 
+	private final SubscriptionIndex subscriptionIndex = new SubscriptionIndex();
+
 
 	/**
 	 * Specify the {@link PathMatcher} to use.
@@ -161,8 +168,16 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		Expression expression = getSelectorExpression(message.getHeaders());
 		Subscription subscription = new Subscription(subscriptionId, destination, isPattern, expression);
 
-		this.sessionRegistry.addSubscription(sessionId, subscription);
+		SessionInfo info = this.sessionRegistry.addSubscription(sessionId, subscription);
+		if (info != null) {
+			this.subscriptionIndex.addSubscription(sessionId, subscription);
+		}
 		this.destinationCache.updateAfterNewSubscription(sessionId, subscription);
+		if (info != null && this.sessionRegistry.getSession(sessionId) != info) {
+			// Session unregistered concurrently, possibly before the subscription got indexed
+			this.subscriptionIndex.removeSubscription(sessionId, subscription);
+			this.destinationCache.updateAfterRemovedSubscription(sessionId, subscription);
+		}
 	}
 
 	@Nullable
@@ -196,6 +211,7 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		if (info != null) {
 			Subscription subscription = info.removeSubscription(subscriptionId);
 			if (subscription != null) {
+				this.subscriptionIndex.removeSubscription(sessionId, subscription);
 				this.destinationCache.updateAfterRemovedSubscription(sessionId, subscription);
 			}
 		}
@@ -205,6 +221,9 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 	public void unregisterAllSubscriptions(String sessionId) {
 		SessionInfo info = this.sessionRegistry.removeSubscriptions(sessionId);
 		if (info != null) {
+			for (Subscription subscription : info.getSubscriptions()) {
+				this.subscriptionIndex.removeSubscription(sessionId, subscription);
+			}
 			this.destinationCache.updateAfterRemovedSession(sessionId, info);
 		}
 	}
@@ -283,14 +302,9 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 		private LinkedMultiValueMap<String, String> computeMatchingSubscriptions(String destination) {
 			LinkedMultiValueMap<String, String> sessionIdToSubscriptionIds = new LinkedMultiValueMap<>();
-			DefaultSubscriptionRegistry.this.sessionRegistry.forEachSubscription((sessionId, subscription) -> {
-				if (subscription.isPattern()) {
-					if (pathMatcher.match(subscription.getDestination(), destination)) {
-						addMatchedSubscriptionId(sessionIdToSubscriptionIds, sessionId, subscription.getId());
-					}
-				}
-				else if (destination.equals(subscription.getDestination())) {
-					addMatchedSubscriptionId(sessionIdToSubscriptionIds, sessionId, subscription.getId());
+			DefaultSubscriptionRegistry.this.subscriptionIndex.forEachMatch(destination, (sessionId, subscriptionIds) -> {
+				for (String subscriptionId : subscriptionIds) {
+					addMatchedSubscriptionId(sessionIdToSubscriptionIds, sessionId, subscriptionId);
 				}
 			});
 			return sessionIdToSubscriptionIds;
@@ -400,14 +414,15 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 			return this.sessions.get(sessionId);
 		}
 
-		public void forEachSubscription(BiConsumer<String, Subscription> consumer) {
-			this.sessions.forEach((sessionId, info) ->
-				info.getSubscriptions().forEach(subscription -> consumer.accept(sessionId, subscription)));
-		}
-
-		public void addSubscription(String sessionId, Subscription subscription) {
+		/**
+		 * Add the given subscription to the session.
+		 * @return the session that the subscription was added to, or
+		 * {@code null} if the session had a subscription with the same id
+		 */
+		@Nullable
+		public SessionInfo addSubscription(String sessionId, Subscription subscription) {
 			SessionInfo info = this.sessions.computeIfAbsent(sessionId, _sessionId -> new SessionInfo());
-			info.addSubscription(subscription);
+			return (info.addSubscription(subscription) ? info : null);
 		}
 
 		@Nullable
@@ -416,6 +431,74 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		}
 	}
 
+	/**
+	 * Index of all subscriptions by destination, for non-pattern subscriptions,
+	 * and by pattern, for pattern-based subscriptions.
+	 */
+	private final class SubscriptionIndex {
+
+		// destination -> [sessionId -> subscriptionId's]
+		private final Map<String, Map<String, List<String>>> destinations = new ConcurrentHashMap<>();
+
+		// pattern -> [sessionId -> subscriptionId's]
+		private final Map<String, Map<String, List<String>>> patterns = new ConcurrentHashMap<>();
+
+		public void forEachMatch(String destination, BiConsumer<String, List<String>> consumer) {
+			Map<String, List<String>> sessionIdToSubscriptionIds = this.destinations.get(destination);
+			if (sessionIdToSubscriptionIds != null) {
+				sessionIdToSubscriptionIds.forEach(consumer);
+			}
+			this.patterns.forEach((pattern, patternSessionIdToSubscriptionIds) -> {
+				if (pathMatcher.match(pattern, destination)) {
+					patternSessionIdToSubscriptionIds.forEach(consumer);
+				}
+			});
+		}
+
+		public void addSubscription(String sessionId, Subscription subscription) {
+			String subscriptionId = subscription.getId();
+			Map<String, Map<String, List<String>>> index = getIndex(subscription);
+			index.compute(subscription.getDestination(), (_destination, sessionIdToSubscriptionIds) -> {
+				if (sessionIdToSubscriptionIds == null) {
+					sessionIdToSubscriptionIds = new ConcurrentHashMap<>();
+				}
+				sessionIdToSubscriptionIds.compute(sessionId, (_sessionId, subscriptionIds) -> {
+					if (subscriptionIds == null) {
+						return Collections.singletonList(subscriptionId);
+					}
+					if (subscriptionIds.contains(subscriptionId)) {
+						return subscriptionIds;
+					}
+					List<String> result = new ArrayList<>(subscriptionIds.size() + 1);
+					result.addAll(subscriptionIds);
+					result.add(subscriptionId);
+					return result;
+				});
+				return sessionIdToSubscriptionIds;
+			});
+		}
+
+		public void removeSubscription(String sessionId, Subscription subscription) {
+			String subscriptionId = subscription.getId();
+			Map<String, Map<String, List<String>>> index = getIndex(subscription);
+			index.computeIfPresent(subscription.getDestination(), (_destination, sessionIdToSubscriptionIds) -> {
+				sessionIdToSubscriptionIds.computeIfPresent(sessionId, (_sessionId, subscriptionIds) -> {
+					if (subscriptionIds.size() == 1 && subscriptionId.equals(subscriptionIds.get(0))) {
+						return null;
+					}
+					List<String> result = new ArrayList<>(subscriptionIds);
+					result.remove(subscriptionId);
+					return (result.isEmpty() ? null : result);
+				});
+				return (sessionIdToSubscriptionIds.isEmpty() ? null : sessionIdToSubscriptionIds);
+			});
+		}
+
+		private Map<String, Map<String, List<String>>> getIndex(Subscription subscription) {
+			return (subscription.isPattern() ? this.patterns : this.destinations);
+		}
+	}
+
 	/**
 	 * Container for the subscriptions of a session.
 	 */
@@ -433,8 +516,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 			return this.subscriptionMap.get(subscriptionId);
 		}
 
-		public void addSubscription(Subscription subscription) {
-			this.subscriptionMap.putIfAbsent(subscription.getId(), subscription);
+		public boolean addSubscription(Subscription subscription) {
+			return (this.subscriptionMap.putIfAbsent(subscription.getId(), subscription) == null);
 		}
 
 		@Nullable
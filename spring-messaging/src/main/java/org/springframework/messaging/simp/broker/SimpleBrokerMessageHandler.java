@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,8 +20,10 @@ import java.security.Principal;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledFuture;
 
 import org.springframework.lang.Nullable;
@@ -34,6 +36,7 @@ import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.messaging.support.MessageHeaderInitializer;
+import org.springframework.messaging.support.OrderedTaskLane;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.util.MultiValueMap;
@@ -44,6 +47,13 @@ import org.springframework.util.PathMatcher;
  * {@link SimpMessageType}, keeps track of subscriptions with the help of a
  * {@link SubscriptionRegistry}, and sends messages to subscribers.
  *
+ * <p>By default, messages are sent to subscribers on the thread that handles
+ * the published message. A {@linkplain #setDeliveryExecutor delivery executor}
+ * can be configured to spread the fan-out over a number of delivery lanes,
+ * each of which serves a subset of the sessions, one message at a time, so
+ * that messages, heartbeats and the DISCONNECT_ACK to any given session remain
+ * in order.
+ *
  * @author Rossen Stoyanchev
  * @author Juergen Hoeller
  * @author Sam Brannen
@@ -72,6 +82,13 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 	@Nullable
 	private MessageHeaderInitializer headerInitializer;
 
+	@Nullable
+	private Executor deliveryExecutor;
+
+	private int deliveryLaneCount = Runtime.getRuntime().availableProcessors();
+
+	private int deliveryBatchSize = 64;
+
 
 	private SubscriptionRegistry subscriptionRegistry;
 
@@ -80,6 +97,9 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 	@Nullable
 	private ScheduledFuture<?> heartbeatFuture;
 
+	@Nullable
+	private volatile OrderedTaskLane[] deliveryLanes;
+
 
 	/**
 	 * Create a SimpleBrokerMessageHandler instance with the given message channels
@@ -261,9 +281,122 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 		return this.headerInitializer;
 	}
 
+	/**
+	 * Configure an {@link Executor} to send messages to subscribers with,
+	 * instead of sending them on the thread that handles the published message.
+	 * <p>Sessions are assigned to one of a fixed number of
+	 * {@linkplain #setDeliveryLaneCount delivery lanes} by session id. Each lane
+	 * has a queue of pending messages that is drained by at most one task on
+	 * the executor at a time, which preserves the order of messages per session
+	 * and sends up to a {@linkplain #setDeliveryBatchSize batch} of messages
+	 * queued up for a lane in a single task.
+	 * <p>Heartbeats and the DISCONNECT_ACK for a session are sent through its
+	 * lane as well, after any messages queued for the session before. The
+	 * CONNECT_ACK is sent directly, since no messages can be queued for a
+	 * session before it is connected.
+	 * <p>Messages still queued when the broker is stopped are sent on the
+	 * stopping thread, unless a task on the executor is about to send them.
+	 * <p>By default this is not set.
+	 * @since 7.0
+	 * @see #getDeliveryQueueSize()
+	 */
+	public void setDeliveryExecutor(@Nullable Executor deliveryExecutor) {
+		this.deliveryExecutor = deliveryExecutor;
+	}
+
+	/**
+	 * Return the configured delivery executor.
+	 * @since 7.0
+	 */
+	@Nullable
+	public Executor getDeliveryExecutor() {
+		return this.deliveryExecutor;
+	}
+
+	/**
+	 * Configure the number of delivery lanes to use with a
+	 * {@link #setDeliveryExecutor delivery executor}. The number of lanes
+	 * limits how many tasks send messages to subscribers concurrently.
+	 * <p>By default this is set to the number of available processors.
+	 * @since 7.0
+	 */
+	public void setDeliveryLaneCount(int deliveryLaneCount) {
+		Assert.isTrue(deliveryLaneCount > 0, "Delivery lane count must be greater than 0");
+		this.deliveryLaneCount = deliveryLaneCount;
+	}
+
+	/**
+	 * Return the configured number of delivery lanes.
+	 * @since 7.0
+	 */
+	public int getDeliveryLaneCount() {
+		return this.deliveryLaneCount;
+	}
+
+	/**
+	 * Configure the maximum number of messages that a delivery lane sends in
+	 * a single task, before it yields and re-submits itself to the executor,
+	 * so that busy lanes do not hold up other lanes if the executor has fewer
+	 * threads than there are lanes.
+	 * <p>By default this is set to 64.
+	 * @since 7.0
+	 */
+	public void setDeliveryBatchSize(int deliveryBatchSize) {
+		Assert.isTrue(deliveryBatchSize > 0, "Delivery batch size must be greater than 0");
+		this.deliveryBatchSize = deliveryBatchSize;
+	}
+
+	/**
+	 * Return the configured maximum number of messages per delivery task.
+	 * @since 7.0
+	 */
+	public int getDeliveryBatchSize() {
+		return this.deliveryBatchSize;
+	}
+
+	/**
+	 * Return the number of messages waiting to be sent to subscribers across
+	 * all delivery lanes, or 0 if no delivery executor is used.
+	 * @since 7.0
+	 */
+	public int getDeliveryQueueSize() {
+		int size = 0;
+		for (int laneSize : getDeliveryQueueSizes()) {
+			size += laneSize;
+		}
+		return size;
+	}
+
+	/**
+	 * Return the number of messages waiting to be sent to subscribers for each
+	 * delivery lane, or an empty array if no delivery executor is used.
+	 * @since 7.0
+	 */
+	public int[] getDeliveryQueueSizes() {
+		OrderedTaskLane[] lanes = this.deliveryLanes;
+		if (lanes == null) {
+			return new int[0];
+		}
+		int[] sizes = new int[lanes.length];
+		for (int i = 0; i < lanes.length; i++) {
+			sizes[i] = lanes[i].getQueueSize();
+		}
+		return sizes;
+	}
+
 
 	@Override
 	public void startInternal() {
+		if (this.deliveryExecutor != null) {
+			OrderedTaskLane[] lanes = new OrderedTaskLane[this.deliveryLaneCount];
+			for (int i = 0; i < lanes.length; i++) {
+				lanes[i] = new OrderedTaskLane(this.deliveryExecutor, this.deliveryBatchSize, logger);
+			}
+			this.deliveryLanes = lanes;
+		}
+		else {
+			this.deliveryLanes = null;
+		}
 		publishBrokerAvailableEvent();
 		if (this.taskScheduler != null) {
 			Duration interval = initHeartbeatTaskDelay();
@@ -296,6 +429,13 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 		if (this.heartbeatFuture != null) {
 			this.heartbeatFuture.cancel(true);
 		}
+		OrderedTaskLane[] lanes = this.deliveryLanes;
+		if (lanes != null) {
+			this.deliveryLanes = null;
+			for (OrderedTaskLane lane : lanes) {
+				lane.drain();
+			}
+		}
 	}
 
 	@Override
@@ -382,8 +522,13 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 	}
 
 	private void handleDisconnect(String sessionId, @Nullable Principal user, @Nullable Message<?> origMessage) {
-		this.sessions.remove(sessionId);
 		this.subscriptionRegistry.unregisterAllSubscriptions(sessionId);
+		// Let messages queued for the session before go out first
+		sendToSession(sessionId, () -> sendDisconnectAck(sessionId, user, origMessage));
+	}
+
+	private void sendDisconnectAck(String sessionId, @Nullable Principal user, @Nullable Message<?> origMessage) {
+		this.sessions.remove(sessionId);
 		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT_ACK);
 		accessor.setSessionId(sessionId);
 		if (user != null) {
@@ -403,32 +548,49 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 			logger.debug("Broadcasting to " + subscriptions.size() + " sessions.");
 		}
 		long now = System.currentTimeMillis();
-		subscriptions.forEach((sessionId, subscriptionIds) -> {
-			for (String subscriptionId : subscriptionIds) {
-				SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
-				initHeaders(headerAccessor);
-				headerAccessor.setSessionId(sessionId);
-				headerAccessor.setSubscriptionId(subscriptionId);
-				headerAccessor.copyHeadersIfAbsent(message.getHeaders());
-				headerAccessor.setLeaveMutable(true);
-				Object payload = message.getPayload();
-				Message<?> reply = MessageBuilder.createMessage(payload, headerAccessor.getMessageHeaders());
-				SessionInfo info = this.sessions.get(sessionId);
-				if (info != null) {
-					try {
-						info.getClientOutboundChannel().send(reply);
-					}
-					catch (Throwable ex) {
-						if (logger.isErrorEnabled()) {
-							logger.error("Failed to send " + message, ex);
-						}
-					}
-					finally {
-						info.setLastWriteTime(now);
+		subscriptions.forEach((sessionId, subscriptionIds) ->
+				sendToSession(sessionId, () -> sendMessageToSession(sessionId, subscriptionIds, message, now)));
+	}
+
+	/**
+	 * Run the given send through the delivery lane for the given session,
+	 * if a delivery executor is used, or right away otherwise.
+	 */
+	private void sendToSession(String sessionId, Runnable send) {
+		OrderedTaskLane[] lanes = this.deliveryLanes;
+		if (lanes != null) {
+			lanes[Math.floorMod(sessionId.hashCode(), lanes.length)].add(send);
+		}
+		else {
+			send.run();
+		}
+	}
+
+	private void sendMessageToSession(String sessionId, List<String> subscriptionIds, Message<?> message, long now) {
+		for (String subscriptionId : subscriptionIds) {
+			SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+			initHeaders(headerAccessor);
+			headerAccessor.setSessionId(sessionId);
+			headerAccessor.setSubscriptionId(subscriptionId);
+			headerAccessor.copyHeadersIfAbsent(message.getHeaders());
+			headerAccessor.setLeaveMutable(true);
+			Object payload = message.getPayload();
+			Message<?> reply = MessageBuilder.createMessage(payload, headerAccessor.getMessageHeaders());
+			SessionInfo info = this.sessions.get(sessionId);
+			if (info != null) {
+				try {
+					info.getClientOutboundChannel().send(reply);
+				}
+				catch (Throwable ex) {
+					if (logger.isErrorEnabled()) {
+						logger.error("Failed to send " + message, ex);
 					}
 				}
+				finally {
+					info.setLastWriteTime(now);
+				}
 			}
-		});
+		}
 	}
 
 	@Override
@@ -526,19 +688,23 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 					handleDisconnect(info.getSessionId(), info.getUser(), null);
 				}
 				if (info.getWriteInterval() > 0 && (now - info.getLastWriteTime()) > info.getWriteInterval()) {
-					SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.HEARTBEAT);
-					accessor.setSessionId(info.getSessionId());
-					Principal user = info.getUser();
-					if (user != null) {
-						accessor.setUser(user);
-					}
-					initHeaders(accessor);
-					accessor.setLeaveMutable(true);
-					MessageHeaders headers = accessor.getMessageHeaders();
-					info.getClientOutboundChannel().send(MessageBuilder.createMessage(EMPTY_PAYLOAD, headers));
+					sendToSession(info.getSessionId(), () -> sendHeartbeat(info));
 				}
 			}
 		}
+
+		private void sendHeartbeat(SessionInfo info) {
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.HEARTBEAT);
+			accessor.setSessionId(info.getSessionId());
+			Principal user = info.getUser();
+			if (user != null) {
+				accessor.setUser(user);
+			}
+			initHeaders(accessor);
+			accessor.setLeaveMutable(true);
+			MessageHeaders headers = accessor.getMessageHeaders();
+			info.getClientOutboundChannel().send(MessageBuilder.createMessage(EMPTY_PAYLOAD, headers));
+		}
 	}
 
 }
@@ -16,7 +16,6 @@
 
 package org.springframework.messaging.simp.stomp;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -32,7 +31,6 @@ import org.springframework.messaging.support.MessageHeaderInitializer;
 import org.springframework.messaging.support.NativeMessageHeaderAccessor;
 import org.springframework.util.InvalidMimeTypeException;
 import org.springframework.util.MultiValueMap;
-import org.springframework.util.StreamUtils;
 
 /**
  * Decodes one or more STOMP frames contained in a {@link ByteBuffer}.
@@ -43,6 +41,10 @@ import org.springframework.util.StreamUtils;
  * partial content. The caller is then responsible for dealing with that
  * incomplete content by buffering until there is more input available.
  *
+ * <p>Commands, header names and values, and payloads are decoded directly
+ * from the input buffer, without intermediate copies. Well-known STOMP header
+ * names are matched against their bytes and shared rather than decoded.
+ *
  * @author Andy Wilkinson
  * @author Rossen Stoyanchev
  * @since 4.0
@@ -53,6 +55,33 @@ public class StompDecoder {
 
 	private static final Log logger = SimpLogging.forLogName(StompDecoder.class);
 
+	private static final String[] KNOWN_HEADER_NAMES = {
+			StompHeaderAccessor.STOMP_ID_HEADER,
+			StompHeaderAccessor.STOMP_HOST_HEADER,
+			StompHeaderAccessor.STOMP_ACCEPT_VERSION_HEADER,
+			StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER,
+			StompHeaderAccessor.STOMP_RECEIPT_HEADER,
+			StompHeaderAccessor.STOMP_RECEIPT_ID_HEADER,
+			StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER,
+			StompHeaderAccessor.STOMP_VERSION_HEADER,
+			StompHeaderAccessor.STOMP_MESSAGE_HEADER,
+			StompHeaderAccessor.STOMP_ACK_HEADER,
+			StompHeaderAccessor.STOMP_LOGIN_HEADER,
+			StompHeaderAccessor.STOMP_PASSCODE_HEADER,
+			StompHeaderAccessor.STOMP_DESTINATION_HEADER,
+			StompHeaderAccessor.STOMP_CONTENT_TYPE_HEADER,
+			StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER,
+			StompHeaderAccessor.STOMP_HEARTBEAT_HEADER,
+			"transaction", "session", "server"};
+
+	private static final byte[][] KNOWN_HEADER_NAME_BYTES = new byte[KNOWN_HEADER_NAMES.length][];
+
+	static {
+		for (int i = 0; i < KNOWN_HEADER_NAMES.length; i++) {
+			KNOWN_HEADER_NAME_BYTES[i] = KNOWN_HEADER_NAMES[i].getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
 	@Nullable
 	private MessageHeaderInitializer headerInitializer;
 
@@ -209,11 +238,9 @@ public class StompDecoder {
 	}
 
 	private String readCommand(ByteBuffer byteBuffer) {
-		ByteArrayOutputStream command = new ByteArrayOutputStream(256);
-		while (byteBuffer.remaining() > 0 && !tryConsumeEndOfLine(byteBuffer)) {
-			command.write(byteBuffer.get());
-		}
-		return StreamUtils.copyToString(command, StandardCharsets.UTF_8);
+		int start = byteBuffer.position();
+		int end = findEndOfLine(byteBuffer);
+		return decodeString(byteBuffer, start, (end != -1 ? end : byteBuffer.position()));
 	}
 
 	private void readHeaders(ByteBuffer byteBuffer, StompHeaderAccessor headerAccessor, StompCommand command) {
@@ -223,41 +250,45 @@ public class StompDecoder {
 				command != StompCommand.STOMP);
 
 		while (true) {
-			ByteArrayOutputStream headerStream = new ByteArrayOutputStream(256);
-			boolean headerComplete = false;
-			while (byteBuffer.hasRemaining()) {
-				if (tryConsumeEndOfLine(byteBuffer)) {
-					headerComplete = true;
-					break;
+			int start = byteBuffer.position();
+			int end = findEndOfLine(byteBuffer);
+			if (end <= start) {
+				// Incomplete header line, or the empty line that ends the headers
+				break;
+			}
+			int colonIndex = indexOf(byteBuffer, start, end, (byte) ':');
+			if (colonIndex <= start) {
+				if (byteBuffer.remaining() > 0) {
+					throw new StompConversionException("Illegal header: '" + decodeString(byteBuffer, start, end) +
+							"'. A header must be of the form <name>:[<value>].");
 				}
-				headerStream.write(byteBuffer.get());
 			}
-			if (headerStream.size() > 0 && headerComplete) {
-				String header = StreamUtils.copyToString(headerStream, StandardCharsets.UTF_8);
-				int colonIndex = header.indexOf(':');
-				if (colonIndex <= 0) {
-					if (byteBuffer.remaining() > 0) {
-						throw new StompConversionException("Illegal header: '" + header +
-								"'. A header must be of the form <name>:[<value>].");
-					}
+			else {
+				String headerName = readHeaderName(byteBuffer, start, colonIndex, shouldUnescape);
+				String headerValue = decodeString(byteBuffer, colonIndex + 1, end);
+				headerValue = (shouldUnescape ? unescape(headerValue) : headerValue);
+				try {
+					headerAccessor.addNativeHeader(headerName, headerValue);
 				}
-				else {
-					String headerName = shouldUnescape ? unescape(header.substring(0, colonIndex)) : header.substring(0, colonIndex);
-					String headerValue = shouldUnescape ? unescape(header.substring(colonIndex + 1)) : header.substring(colonIndex + 1);
-					try {
-						headerAccessor.addNativeHeader(headerName, headerValue);
-					}
-					catch (InvalidMimeTypeException ex) {
-						if (byteBuffer.remaining() > 0) {
-							throw ex;
-						}
+				catch (InvalidMimeTypeException ex) {
+					if (byteBuffer.remaining() > 0) {
+						throw ex;
 					}
 				}
 			}
-			else {
-				break;
+		}
+	}
+
+	private String readHeaderName(ByteBuffer byteBuffer, int start, int end, boolean shouldUnescape) {
+		int length = end - start;
+		for (int i = 0; i < KNOWN_HEADER_NAME_BYTES.length; i++) {
+			byte[] name = KNOWN_HEADER_NAME_BYTES[i];
+			if (name.length == length && startsWith(byteBuffer, start, name)) {
+				return KNOWN_HEADER_NAMES[i];
 			}
 		}
+		String headerName = decodeString(byteBuffer, start, end);
+		return (shouldUnescape ? unescape(headerName) : headerName);
 	}
 
 	/**
@@ -329,20 +360,62 @@ public class StompDecoder {
 			}
 		}
 		else {
-			ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
-			while (byteBuffer.remaining() > 0) {
-				byte b = byteBuffer.get();
-				if (b == 0) {
-					return payload.toByteArray();
-				}
-				else {
-					payload.write(b);
-				}
+			int start = byteBuffer.position();
+			int end = indexOf(byteBuffer, start, byteBuffer.limit(), (byte) 0);
+			if (end != -1) {
+				byte[] payload = new byte[end - start];
+				byteBuffer.get(payload);
+				byteBuffer.get();
+				return payload;
 			}
+			byteBuffer.position(byteBuffer.limit());
 		}
 		return null;
 	}
 
+	/**
+	 * Advance the buffer position past the next EOL.
+	 * @return the index at which the EOL starts, or -1 if the buffer has
+	 * no EOL, in which case all remaining content is consumed
+	 */
+	private int findEndOfLine(ByteBuffer byteBuffer) {
+		while (byteBuffer.hasRemaining()) {
+			int index = byteBuffer.position();
+			if (tryConsumeEndOfLine(byteBuffer)) {
+				return index;
+			}
+			byteBuffer.position(index + 1);
+		}
+		return -1;
+	}
+
+	private static int indexOf(ByteBuffer byteBuffer, int start, int end, byte value) {
+		for (int i = start; i < end; i++) {
+			if (byteBuffer.get(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean startsWith(ByteBuffer byteBuffer, int start, byte[] bytes) {
+		for (int i = 0; i < bytes.length; i++) {
+			if (byteBuffer.get(start + i) != bytes[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String decodeString(ByteBuffer byteBuffer, int start, int end) {
+		if (byteBuffer.hasArray()) {
+			return new String(byteBuffer.array(), byteBuffer.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+		}
+		byte[] bytes = new byte[end - start];
+		byteBuffer.get(start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
 	/**
 	 * Try to read an EOL incrementing the buffer position if successful.
 	 * @return whether an EOL was consumed
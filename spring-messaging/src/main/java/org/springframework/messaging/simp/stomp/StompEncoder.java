@@ -27,6 +27,9 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpLogging;
@@ -38,6 +41,11 @@ import org.springframework.util.Assert;
 /**
  * An encoder for STOMP frames.
  *
+ * <p>Frames can be encoded into a {@code byte[]}, or written directly into a
+ * {@link DataBuffer} obtained from a {@link DataBufferFactory}, which avoids
+ * an intermediate array when the transport writes buffers, and lets a pooled
+ * factory recycle the memory of frames once they have been written.
+ *
  * @author Andy Wilkinson
  * @author Rossen Stoyanchev
  * @since 4.0
@@ -53,6 +61,18 @@ public class StompEncoder {
 
 	private static final int HEADER_KEY_CACHE_LIMIT = 32;
 
+	private static final int INITIAL_HEADERS_CAPACITY = 256;
+
+	private static final byte[] CONTENT_LENGTH_HEADER_PREFIX = "content-length:".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[][] ENCODED_COMMANDS = new byte[StompCommand.values().length][];
+
+	static {
+		for (StompCommand command : StompCommand.values()) {
+			ENCODED_COMMANDS[command.ordinal()] = command.name().getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
 
 	private final Map<String, byte[]> headerKeyAccessCache = new ConcurrentHashMap<>(HEADER_KEY_CACHE_LIMIT);
 
@@ -96,19 +116,63 @@ public class StompEncoder {
 			return StompDecoder.HEARTBEAT_PAYLOAD;
 		}
 
+		DefaultResult result = new DefaultResult();
+		writeFrame(headers, payload, result);
+		return result.toByteArray();
+	}
+
+	/**
+	 * Encodes the given STOMP {@code message} into a {@link DataBuffer}.
+	 * @param message the message to encode
+	 * @param bufferFactory the factory to allocate the buffer from
+	 * @return the encoded message; the caller is responsible for releasing it
+	 * @since 7.0
+	 */
+	public DataBuffer encode(Message<byte[]> message, DataBufferFactory bufferFactory) {
+		return encode(message.getHeaders(), message.getPayload(), bufferFactory);
+	}
+
+	/**
+	 * Encodes the given payload and headers into a {@link DataBuffer}.
+	 * @param headers the STOMP message headers
+	 * @param payload the STOMP message payload
+	 * @param bufferFactory the factory to allocate the buffer from
+	 * @return the encoded message; the caller is responsible for releasing it
+	 * @since 7.0
+	 */
+	public DataBuffer encode(Map<String, Object> headers, byte[] payload, DataBufferFactory bufferFactory) {
+		Assert.notNull(headers, "'headers' is required");
+		Assert.notNull(payload, "'payload' is required");
+		Assert.notNull(bufferFactory, "'bufferFactory' is required");
+
+		if (SimpMessageType.HEARTBEAT.equals(SimpMessageHeaderAccessor.getMessageType(headers))) {
+			logger.trace("Encoding heartbeat");
+			return bufferFactory.allocateBuffer(1).write(StompDecoder.HEARTBEAT_PAYLOAD);
+		}
+
+		DataBuffer buffer = bufferFactory.allocateBuffer(payload.length + INITIAL_HEADERS_CAPACITY);
+		try {
+			writeFrame(headers, payload, new DataBufferResult(buffer));
+			return buffer;
+		}
+		catch (Throwable ex) {
+			DataBufferUtils.release(buffer);
+			throw ex;
+		}
+	}
+
+	private void writeFrame(Map<String, Object> headers, byte[] payload, Result result) {
 		StompCommand command = StompHeaderAccessor.getCommand(headers);
 		if (command == null) {
 			throw new IllegalStateException("Missing STOMP command: " + headers);
 		}
 
-		Result result = new DefaultResult();
-		result.add(command.toString().getBytes(StandardCharsets.UTF_8));
+		result.add(ENCODED_COMMANDS[command.ordinal()]);
 		result.add(LINE_FEED_BYTE);
 		writeHeaders(command, headers, payload, result);
 		result.add(LINE_FEED_BYTE);
 		result.add(payload);
 		result.add((byte) 0);
-		return result.toByteArray();
 	}
 
 	private void writeHeaders(
@@ -151,7 +215,7 @@ public class StompEncoder {
 
 		if (command.requiresContentLength()) {
 			int contentLength = payload.length;
-			result.add("content-length:".getBytes(StandardCharsets.UTF_8));
+			result.add(CONTENT_LENGTH_HEADER_PREFIX);
 			result.add(Integer.toString(contentLength).getBytes(StandardCharsets.UTF_8));
 			result.add(LINE_FEED_BYTE);
 		}
@@ -219,18 +283,19 @@ public class StompEncoder {
 
 
 	/**
-	 * Accumulates byte content and returns an aggregated byte[] at the end.
+	 * Accumulates the byte content of a frame.
 	 */
 	private interface Result {
 
 		void add(byte[] bytes);
 
 		void add(byte b);
-
-		byte[] toByteArray();
 	}
 
 
+	/**
+	 * Accumulates byte content and returns an aggregated byte[] at the end.
+	 */
 	@SuppressWarnings("serial")
 	private static class DefaultResult extends ArrayList<Object> implements Result {
 
@@ -248,7 +313,6 @@ public class StompEncoder {
 			super.add(b);
 		}
 
-		@Override
 		public byte[] toByteArray() {
 			byte[] result = new byte[this.size];
 			int position = 0;
@@ -265,4 +329,27 @@ public class StompEncoder {
 		}
 	}
 
+
+	/**
+	 * Writes byte content directly into a {@link DataBuffer}, which grows as needed.
+	 */
+	private static final class DataBufferResult implements Result {
+
+		private final DataBuffer buffer;
+
+		DataBufferResult(DataBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void add(byte[] bytes) {
+			this.buffer.write(bytes);
+		}
+
+		@Override
+		public void add(byte b) {
+			this.buffer.write(b);
+		}
+	}
+
 }
@@ -19,6 +19,10 @@ package org.springframework.messaging.simp.stomp;
 import java.nio.ByteBuffer;
 import java.util.List;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.tcp.reactor.AbstractNioBufferReactorNettyCodec;
 
@@ -49,6 +53,11 @@ public class StompReactorNettyCodec extends AbstractNioBufferReactorNettyCodec<b
 	}
 
 
+	@Override
+	public ByteBuf encode(Message<byte[]> message, ByteBufAllocator allocator) {
+		return NettyDataBufferFactory.toByteBuf(this.encoder.encode(message, new NettyDataBufferFactory(allocator)));
+	}
+
 	@Override
 	protected List<Message<byte[]>> decodeInternal(ByteBuffer nioBuffer) {
 		return this.decoder.decode(nioBuffer);
@@ -19,6 +19,8 @@ package org.springframework.messaging.simp.stomp;
 import java.nio.ByteBuffer;
 import java.util.List;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.tcp.reactor.TcpMessageCodec;
 
@@ -60,4 +62,9 @@ public class StompTcpMessageCodec implements TcpMessageCodec<byte[]> {
 		return ByteBuffer.wrap(this.encoder.encode(message));
 	}
 
+	@Override
+	public DataBuffer encode(Message<byte[]> message, DataBufferFactory bufferFactory) {
+		return this.encoder.encode(message, bufferFactory);
+	}
+
 }
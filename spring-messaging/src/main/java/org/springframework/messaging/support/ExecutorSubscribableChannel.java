@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
 import org.springframework.messaging.Message;
@@ -27,10 +28,18 @@ import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.SubscribableChannel;
+import org.springframework.util.Assert;
 
 /**
  * A {@link SubscribableChannel} that sends messages to each of its subscribers.
  *
+ * <p>By default, every message is handed to the executor as a separate task
+ * per subscriber. When an {@linkplain #setOrderingKeyResolver ordering key
+ * resolver} is configured, messages with an ordering key are instead queued
+ * on one of a fixed number of lanes chosen by key, and each lane is drained
+ * in batches by a single task at a time. This preserves the order of messages
+ * with the same key, and reduces the number of tasks submitted to the executor.
+ *
  * @author Phillip Webb
  * @author Rossen Stoyanchev
  * @since 4.0
@@ -42,6 +51,16 @@ public class ExecutorSubscribableChannel extends AbstractSubscribableChannel {
 
 	private final List<ExecutorChannelInterceptor> executorInterceptors = new ArrayList<>(4);
 
+	@Nullable
+	private Function<Message<?>, ?> orderingKeyResolver;
+
+	private int orderedLaneCount = Runtime.getRuntime().availableProcessors();
+
+	private int orderedBatchSize = 64;
+
+	@Nullable
+	private OrderedTaskLane[] orderedLanes;
+
 
 	/**
 	 * Create a new {@link ExecutorSubscribableChannel} instance
@@ -67,6 +86,87 @@ public class ExecutorSubscribableChannel extends AbstractSubscribableChannel {
 		return this.executor;
 	}
 
+	/**
+	 * Configure a function that returns the key by which to order messages,
+	 * for example, the session id in the headers of a message sent by a client.
+	 * <p>Messages with the same key are handled one at a time, in the order in
+	 * which they were sent, by batch-draining tasks on the executor. Messages
+	 * for which the function returns {@code null} are sent as usual.
+	 * <p>By default this is not set. Requires an executor.
+	 * @param orderingKeyResolver the function to obtain the ordering key with,
+	 * or {@code null} to send every message in a separate task
+	 * @since 7.0
+	 * @see #setOrderedLaneCount(int)
+	 */
+	public void setOrderingKeyResolver(@Nullable Function<Message<?>, ?> orderingKeyResolver) {
+		Assert.state(orderingKeyResolver == null || this.executor != null,
+				"Ordering messages by key requires an Executor");
+		this.orderingKeyResolver = orderingKeyResolver;
+		initOrderedLanes();
+	}
+
+	/**
+	 * Return the configured ordering key resolver, if any.
+	 * @since 7.0
+	 */
+	@Nullable
+	public Function<Message<?>, ?> getOrderingKeyResolver() {
+		return this.orderingKeyResolver;
+	}
+
+	/**
+	 * Configure the number of lanes to distribute ordering keys over, which
+	 * limits how many messages with an ordering key are handled concurrently.
+	 * <p>By default this is set to the number of available processors.
+	 * @since 7.0
+	 */
+	public void setOrderedLaneCount(int orderedLaneCount) {
+		Assert.isTrue(orderedLaneCount > 0, "Ordered lane count must be greater than 0");
+		this.orderedLaneCount = orderedLaneCount;
+		initOrderedLanes();
+	}
+
+	/**
+	 * Return the configured number of lanes for ordered messages.
+	 * @since 7.0
+	 */
+	public int getOrderedLaneCount() {
+		return this.orderedLaneCount;
+	}
+
+	/**
+	 * Configure the maximum number of messages that a lane handles in a single
+	 * task, before it yields and re-submits itself to the executor.
+	 * <p>By default this is set to 64.
+	 * @since 7.0
+	 */
+	public void setOrderedBatchSize(int orderedBatchSize) {
+		Assert.isTrue(orderedBatchSize > 0, "Ordered batch size must be greater than 0");
+		this.orderedBatchSize = orderedBatchSize;
+		initOrderedLanes();
+	}
+
+	/**
+	 * Return the configured maximum number of messages per lane task.
+	 * @since 7.0
+	 */
+	public int getOrderedBatchSize() {
+		return this.orderedBatchSize;
+	}
+
+	private void initOrderedLanes() {
+		if (this.orderingKeyResolver != null && this.executor != null) {
+			OrderedTaskLane[] lanes = new OrderedTaskLane[this.orderedLaneCount];
+			for (int i = 0; i < lanes.length; i++) {
+				lanes[i] = new OrderedTaskLane(this.executor, this.orderedBatchSize, logger);
+			}
+			this.orderedLanes = lanes;
+		}
+		else {
+			this.orderedLanes = null;
+		}
+	}
+
 	@Override
 	public void setInterceptors(List<ChannelInterceptor> interceptors) {
 		super.setInterceptors(interceptors);
@@ -95,9 +195,13 @@ public class ExecutorSubscribableChannel extends AbstractSubscribableChannel {
 
 	@Override
 	public boolean sendInternal(Message<?> message, long timeout) {
+		OrderedTaskLane lane = getOrderedLane(message);
 		for (MessageHandler handler : getSubscribers()) {
 			SendTask sendTask = new SendTask(message, handler);
-			if (this.executor != null) {
+			if (lane != null) {
+				lane.add(sendTask);
+			}
+			else if (this.executor != null) {
 				try {
 					this.executor.execute(sendTask);
 				}
@@ -114,6 +218,16 @@ public class ExecutorSubscribableChannel extends AbstractSubscribableChannel {
 		return true;
 	}
 
+	@Nullable
+	private OrderedTaskLane getOrderedLane(Message<?> message) {
+		OrderedTaskLane[] lanes = this.orderedLanes;
+		if (lanes == null || this.orderingKeyResolver == null) {
+			return null;
+		}
+		Object key = this.orderingKeyResolver.apply(message);
+		return (key != null ? lanes[Math.floorMod(key.hashCode(), lanes.length)] : null);
+	}
+
 
 	/**
 	 * Invoke a MessageHandler with ExecutorChannelInterceptors.
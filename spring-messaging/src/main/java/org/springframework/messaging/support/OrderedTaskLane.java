@@ -0,0 +1,174 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.support;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+
+import org.springframework.util.Assert;
+
+/**
+ * Queue of tasks that run one at a time, in the order in which they were
+ * added, by at most one drain task on a given {@link Executor} at a time.
+ *
+ * <p>A drain task runs up to a maximum number of queued tasks before it yields
+ * its thread and re-submits itself to the executor, so that a busy lane does
+ * not hold up other lanes that share the same executor. If the executor
+ * rejects the drain task, for example, on shutdown, or runs it on the calling
+ * thread, queued tasks are run in a loop on the calling thread instead.
+ *
+ * <p>A task that fails with an exception is logged, and does not prevent
+ * further tasks from running.
+ *
+ * @since 7.0
+ * @see ExecutorSubscribableChannel#setOrderingKeyResolver
+ * @see org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler#setDeliveryExecutor
+ */
+public final class OrderedTaskLane {
+
+	private final Executor executor;
+
+	private final int batchSize;
+
+	private final Log logger;
+
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger queueSize = new AtomicInteger();
+
+	private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+
+	/**
+	 * Create a new lane.
+	 * @param executor the executor to run drain tasks on
+	 * @param batchSize the maximum number of tasks to run per drain task
+	 * @param logger the logger to report failed tasks to
+	 */
+	public OrderedTaskLane(Executor executor, int batchSize, Log logger) {
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		Assert.notNull(logger, "Log must not be null");
+		this.executor = executor;
+		this.batchSize = batchSize;
+		this.logger = logger;
+	}
+
+
+	/**
+	 * Add a task to the lane, and schedule a drain task unless one is
+	 * scheduled already.
+	 */
+	public void add(Runnable task) {
+		this.tasks.add(task);
+		this.queueSize.incrementAndGet();
+		scheduleDrain();
+	}
+
+	/**
+	 * Return the number of tasks waiting to run.
+	 */
+	public int getQueueSize() {
+		return this.queueSize.get();
+	}
+
+	/**
+	 * Run all queued tasks on the calling thread, unless a drain task is
+	 * currently scheduled on the executor, in which case that drain task
+	 * remains responsible for them.
+	 * <p>Intended for shutdown, when further drain tasks may not get to run.
+	 */
+	public void drain() {
+		while (!this.tasks.isEmpty() && this.drainScheduled.compareAndSet(false, true)) {
+			try {
+				runBatch();
+			}
+			finally {
+				this.drainScheduled.set(false);
+			}
+		}
+	}
+
+	private void scheduleDrain() {
+		// Take the drainScheduled flag only if the queue is not empty,
+		// and loop rather than recurse if the drain task ran in this thread
+		while (!this.tasks.isEmpty() && this.drainScheduled.compareAndSet(false, true)) {
+			DrainTask drainTask = new DrainTask();
+			try {
+				this.executor.execute(drainTask);
+			}
+			catch (RejectedExecutionException ex) {
+				// Probably on shutdown -> drain locally instead
+				drainTask.run();
+			}
+			drainTask.submitted = true;
+		}
+	}
+
+	private void runBatch() {
+		for (int i = 0; i < this.batchSize; i++) {
+			Runnable task = this.tasks.poll();
+			if (task == null) {
+				break;
+			}
+			this.queueSize.decrementAndGet();
+			try {
+				task.run();
+			}
+			catch (Throwable ex) {
+				// Keep draining: later tasks in the lane must not be held up
+				if (this.logger.isErrorEnabled()) {
+					Object description = (task instanceof MessageHandlingRunnable runnable ? runnable.getMessage() : task);
+					this.logger.error("Failed to handle " + description, ex);
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Task that runs one batch, and then schedules the next drain task unless
+	 * it was run by the thread that is still in the process of scheduling it.
+	 */
+	private final class DrainTask implements Runnable {
+
+		private final Thread schedulingThread = Thread.currentThread();
+
+		// Only read back by the scheduling thread itself
+		private boolean submitted;
+
+		@Override
+		public void run() {
+			try {
+				runBatch();
+			}
+			finally {
+				drainScheduled.set(false);
+				if (Thread.currentThread() != this.schedulingThread || this.submitted) {
+					scheduleDrain();
+				}
+			}
+		}
+	}
+
+}
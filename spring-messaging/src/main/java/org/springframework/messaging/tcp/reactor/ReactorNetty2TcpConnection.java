@@ -16,7 +16,6 @@
 
 package org.springframework.messaging.tcp.reactor;
 
-import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 
 import io.netty5.buffer.Buffer;
@@ -25,6 +24,7 @@ import reactor.core.publisher.Sinks;
 import reactor.netty5.NettyInbound;
 import reactor.netty5.NettyOutbound;
 
+import org.springframework.core.io.buffer.Netty5DataBufferFactory;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.tcp.TcpConnection;
 
@@ -47,6 +47,8 @@ public class ReactorNetty2TcpConnection<P> implements TcpConnection<P> {
 
 	private final Sinks.Empty<Void> completionSink;
 
+	private final Netty5DataBufferFactory bufferFactory;
+
 
 	public ReactorNetty2TcpConnection(NettyInbound inbound, NettyOutbound outbound,
 			TcpMessageCodec<P> codec, Sinks.Empty<Void> completionSink) {
@@ -55,13 +57,13 @@ public class ReactorNetty2TcpConnection<P> implements TcpConnection<P> {
 		this.outbound = outbound;
 		this.codec = codec;
 		this.completionSink = completionSink;
+		this.bufferFactory = new Netty5DataBufferFactory(outbound.alloc());
 	}
 
 
 	@Override
 	public CompletableFuture<Void> sendAsync(Message<P> message) {
-		ByteBuffer byteBuffer = this.codec.encode(message);
-		Buffer buffer = this.outbound.alloc().copyOf(byteBuffer);
+		Buffer buffer = Netty5DataBufferFactory.toBuffer(this.codec.encode(message, this.bufferFactory));
 		return this.outbound.send(Mono.just(buffer)).then().toFuture();
 	}
 
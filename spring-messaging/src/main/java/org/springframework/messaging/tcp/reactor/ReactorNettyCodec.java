@@ -21,6 +21,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 
 import org.springframework.messaging.Message;
 
@@ -48,4 +49,27 @@ public interface ReactorNettyCodec<P> {
 	 */
 	void encode(Message<P> message, ByteBuf outputBuffer);
 
+	/**
+	 * Encode the given {@link Message} to a {@link ByteBuf} allocated from the
+	 * given allocator.
+	 * <p>By default, this allocates a buffer and delegates to
+	 * {@link #encode(Message, ByteBuf)}. Implementations may override this to
+	 * allocate a buffer of the right size upfront.
+	 * @param message the message to encode
+	 * @param allocator the allocator to allocate the buffer from
+	 * @return the encoded buffer; the caller is responsible for releasing it
+	 * @since 7.0
+	 */
+	default ByteBuf encode(Message<P> message, ByteBufAllocator allocator) {
+		ByteBuf byteBuf = allocator.buffer();
+		try {
+			encode(message, byteBuf);
+			return byteBuf;
+		}
+		catch (Throwable ex) {
+			byteBuf.release();
+			throw ex;
+		}
+	}
+
 }
@@ -57,8 +57,7 @@ public class ReactorNettyTcpConnection<P> implements TcpConnection<P> {
 
 	@Override
 	public CompletableFuture<Void> sendAsync(Message<P> message) {
-		ByteBuf byteBuf = this.outbound.alloc().buffer();
-		this.codec.encode(message, byteBuf);
+		ByteBuf byteBuf = this.codec.encode(message, this.outbound.alloc());
 		return this.outbound.send(Mono.just(byteBuf))
 				.then()
 				.toFuture();
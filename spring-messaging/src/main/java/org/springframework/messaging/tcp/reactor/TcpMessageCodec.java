@@ -19,6 +19,8 @@ package org.springframework.messaging.tcp.reactor;
 import java.nio.ByteBuffer;
 import java.util.List;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.messaging.Message;
 
 /**
@@ -45,4 +47,19 @@ public interface TcpMessageCodec<P> {
 	 */
 	ByteBuffer encode(Message<P> message);
 
+	/**
+	 * Encode the given {@link Message} to a {@link DataBuffer} allocated from
+	 * the given factory.
+	 * <p>By default, this wraps the buffer returned from {@link #encode(Message)}.
+	 * Implementations may override this to encode into a buffer from the given
+	 * factory directly.
+	 * @param message the message to encode
+	 * @param bufferFactory the factory to allocate the buffer from
+	 * @return the encoded buffer; the caller is responsible for releasing it
+	 * @since 7.0
+	 */
+	default DataBuffer encode(Message<P> message, DataBufferFactory bufferFactory) {
+		return bufferFactory.wrap(encode(message));
+	}
+
 }
@@ -20,6 +20,8 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -479,6 +481,85 @@ class DefaultSubscriptionRegistryTests {
 		assertThat(this.registry.findSubscriptions(createMessage("/bar"))).hasSize(2);
 	}
 
+	@Test
+	void patternSubscriptionsSharedAcrossSessionsWithoutCache() {
+		this.registry.setCacheLimit(0);
+		for (int i = 0; i < 100; i++) {
+			this.registry.registerSubscription(subscribeMessage("sess" + i, "1", "/topic/*"));
+			this.registry.registerSubscription(subscribeMessage("sess" + i, "2", "/topic/" + i));
+		}
+
+		MultiValueMap<String, String> actual = this.registry.findSubscriptions(createMessage("/topic/7"));
+		assertThat(actual).hasSize(100);
+		assertThat(actual.get("sess7")).containsExactly("2", "1");
+		assertThat(actual.get("sess8")).containsExactly("1");
+
+		for (int i = 0; i < 50; i++) {
+			this.registry.unregisterAllSubscriptions("sess" + i);
+		}
+		this.registry.unregisterSubscription(unsubscribeMessage("sess50", "1"));
+
+		actual = this.registry.findSubscriptions(createMessage("/topic/50"));
+		assertThat(actual).hasSize(50);
+		assertThat(actual.get("sess50")).containsExactly("2");
+		assertThat(this.registry.findSubscriptions(createMessage("/topic/7"))).hasSize(49);
+		assertThat(this.registry.findSubscriptions(createMessage("/queue/7"))).isEmpty();
+	}
+
+	@Test
+	void registerSameSubscriptionIdWithDifferentDestination() {
+		this.registry.setCacheLimit(0);
+		this.registry.registerSubscription(subscribeMessage("sess1", "1", "/foo"));
+		this.registry.registerSubscription(subscribeMessage("sess1", "1", "/bar"));
+
+		assertThat(this.registry.findSubscriptions(createMessage("/foo"))).hasSize(1);
+		assertThat(this.registry.findSubscriptions(createMessage("/bar"))).isEmpty();
+
+		this.registry.unregisterSubscription(unsubscribeMessage("sess1", "1"));
+		assertThat(this.registry.findSubscriptions(createMessage("/foo"))).isEmpty();
+	}
+
+	@Test
+	void unregisterAllSubscriptionsConcurrentlyWithRegisterSubscription() throws Exception {
+		this.registry.setCacheLimit(0);
+		int sessionCount = 10_000;
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		Thread subscriber = new Thread(() -> {
+			for (int i = 0; i < sessionCount; i++) {
+				await(barrier);
+				this.registry.registerSubscription(subscribeMessage("sess" + i, "1", "/topic/" + (i % 10)));
+				this.registry.registerSubscription(subscribeMessage("sess" + i, "2", "/topic/*"));
+			}
+		});
+		Thread disconnector = new Thread(() -> {
+			for (int i = 0; i < sessionCount; i++) {
+				await(barrier);
+				this.registry.unregisterAllSubscriptions("sess" + i);
+			}
+		});
+		subscriber.start();
+		disconnector.start();
+		subscriber.join(10_000);
+		disconnector.join(10_000);
+		assertThat(subscriber.isAlive()).isFalse();
+		assertThat(disconnector.isAlive()).isFalse();
+
+		// Subscriptions that won the race remain registered until the session is unregistered again
+		for (int i = 0; i < sessionCount; i++) {
+			this.registry.unregisterAllSubscriptions("sess" + i);
+		}
+		assertThat(this.registry.findSubscriptions(createMessage("/topic/1"))).isEmpty();
+	}
+
+	private static void await(CyclicBarrier barrier) {
+		try {
+			barrier.await(10, TimeUnit.SECONDS);
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
 	private Message<?> createMessage(String destination) {
 		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
 		accessor.setDestination(destination);
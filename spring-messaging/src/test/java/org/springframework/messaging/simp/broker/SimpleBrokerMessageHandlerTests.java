@@ -18,9 +18,12 @@ package org.springframework.messaging.simp.broker;
 
 import java.security.Principal;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -151,6 +154,90 @@ public class SimpleBrokerMessageHandlerTests {
 		assertThat(messageCaptured(sess2, "sub3", "/bar")).isTrue();
 	}
 
+	@Test
+	void subscribePublishWithDeliveryExecutor() {
+		List<Runnable> tasks = new ArrayList<>();
+		this.messageHandler.setDeliveryExecutor(tasks::add);
+		this.messageHandler.setDeliveryLaneCount(1);
+
+		startSession("sess1");
+		startSession("sess2");
+
+		this.messageHandler.handleMessage(createSubscriptionMessage("sess1", "sub1", "/foo"));
+		this.messageHandler.handleMessage(createSubscriptionMessage("sess1", "sub2", "/foo"));
+		this.messageHandler.handleMessage(createSubscriptionMessage("sess2", "sub1", "/foo"));
+
+		this.messageHandler.handleMessage(createMessage("/foo", "message1"));
+		this.messageHandler.handleMessage(createMessage("/foo", "message2"));
+
+		verifyNoMoreInteractions(this.clientOutChannel);
+		assertThat(tasks).hasSize(1);
+		assertThat(this.messageHandler.getDeliveryQueueSize()).isEqualTo(4);
+		assertThat(this.messageHandler.getDeliveryQueueSizes()).containsExactly(4);
+
+		tasks.remove(0).run();
+
+		assertThat(tasks).isEmpty();
+		assertThat(this.messageHandler.getDeliveryQueueSize()).isEqualTo(0);
+		verify(this.clientOutChannel, times(6)).send(this.messageCaptor.capture());
+		List<String> sess1Payloads = new ArrayList<>();
+		for (Message<?> message : this.messageCaptor.getAllValues()) {
+			if ("sess1".equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))) {
+				sess1Payloads.add(message.getPayload() + ":" + SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()));
+			}
+		}
+		assertThat(sess1Payloads).containsExactly("message1:sub1", "message1:sub2", "message2:sub1", "message2:sub2");
+	}
+
+	@Test
+	void deliveryExecutorWithBatchSizeDisconnectAndRejection() {
+		List<Runnable> tasks = new ArrayList<>();
+		AtomicBoolean rejecting = new AtomicBoolean();
+		this.messageHandler.setDeliveryExecutor(task -> {
+			if (rejecting.get()) {
+				throw new RejectedExecutionException();
+			}
+			tasks.add(task);
+		});
+		this.messageHandler.setDeliveryLaneCount(1);
+		this.messageHandler.setDeliveryBatchSize(1);
+
+		startSession("sess1");
+		this.messageHandler.handleMessage(createSubscriptionMessage("sess1", "sub1", "/foo"));
+		this.messageHandler.handleMessage(createMessage("/foo", "message1"));
+		this.messageHandler.handleMessage(createMessage("/foo", "message2"));
+
+		SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+		headers.setSessionId("sess1");
+		this.messageHandler.handleMessage(MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders()));
+		assertThat(this.messageHandler.getDeliveryQueueSize()).isEqualTo(3);
+
+		tasks.remove(0).run();
+		assertThat(tasks).hasSize(1);
+		assertThat(this.messageHandler.getDeliveryQueueSize()).isEqualTo(2);
+
+		// Executor shuts down with the broker: remaining messages sent on the calling thread
+		rejecting.set(true);
+		this.messageHandler.stop();
+		assertThat(this.messageHandler.getDeliveryQueueSizes()).isEmpty();
+		tasks.remove(0).run();
+		assertThat(tasks).isEmpty();
+
+		verify(this.clientOutChannel, times(3)).send(this.messageCaptor.capture());
+		List<Message<?>> sent = this.messageCaptor.getAllValues();
+		assertThat(sent.get(0).getPayload()).isEqualTo("message1");
+		assertThat(sent.get(1).getPayload()).isEqualTo("message2");
+		assertThat(SimpMessageHeaderAccessor.getMessageType(sent.get(2).getHeaders()))
+				.isEqualTo(SimpMessageType.DISCONNECT_ACK);
+	}
+
+	@Test
+	void deliveryQueueSizesWithoutDeliveryExecutor() {
+		this.messageHandler.start();
+		assertThat(this.messageHandler.getDeliveryQueueSizes()).isEmpty();
+		assertThat(this.messageHandler.getDeliveryQueueSize()).isEqualTo(0);
+	}
+
 	@Test
 	void connect() {
 		String id = "sess1";
@@ -17,6 +17,7 @@
 package org.springframework.messaging.simp.stomp;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -104,6 +105,33 @@ class StompDecoderTests {
 		assertThat(bodyText).isEqualTo("The body of the message");
 	}
 
+	@Test
+	void decodeFrameFromSlicedBuffer() {
+		byte[] bytes = "xxSEND\ndestination:/tëst\ncustom:välue\n\nThe body\0yy".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 2).slice();
+		buffer.position(1);
+		Message<byte[]> frame = decode(buffer);
+		StompHeaderAccessor headers = StompHeaderAccessor.wrap(frame);
+
+		assertThat(headers.getCommand()).isEqualTo(StompCommand.SEND);
+		assertThat(headers.getDestination()).isEqualTo("/tëst");
+		assertThat(headers.getFirstNativeHeader("custom")).isEqualTo("välue");
+		assertThat(new String(frame.getPayload(), StandardCharsets.UTF_8)).isEqualTo("The body");
+		assertThat(buffer.remaining()).isEqualTo(1);
+	}
+
+	@Test
+	void decodeFrameFromDirectBuffer() {
+		byte[] bytes = "SEND\ndestination:/test\n\nThe body\0".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+		Message<byte[]> frame = decode(buffer);
+		StompHeaderAccessor headers = StompHeaderAccessor.wrap(frame);
+
+		assertThat(headers.getCommand()).isEqualTo(StompCommand.SEND);
+		assertThat(headers.getDestination()).isEqualTo("/test");
+		assertThat(new String(frame.getPayload(), StandardCharsets.UTF_8)).isEqualTo("The body");
+	}
+
 	// SPR-11528
 
 	@Test
@@ -16,8 +16,15 @@
 
 package org.springframework.messaging.simp.stomp;
 
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 
@@ -83,4 +90,56 @@ class StompEncoderTests {
 		assertThat(new String(encoder.encode(frame))).isEqualTo("SEND\ncontent-length:12\n\nMessage body\0");
 	}
 
+	@Test
+	void encodeFrameToDataBuffer() {
+		StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.SEND);
+		headers.addNativeHeader("a", "alpha:bravo");
+		Message<byte[]> frame = MessageBuilder.createMessage(
+				"Message body".getBytes(), headers.getMessageHeaders());
+
+		DataBuffer buffer = encoder.encode(frame, DefaultDataBufferFactory.sharedInstance);
+		try {
+			assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo(new String(encoder.encode(frame)));
+		}
+		finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+	@Test
+	void encodeHeartbeatToDataBuffer() {
+		StompHeaderAccessor headers = StompHeaderAccessor.createForHeartbeat();
+		Message<byte[]> frame = MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders());
+
+		DataBuffer buffer = encoder.encode(frame, DefaultDataBufferFactory.sharedInstance);
+		assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("\n");
+	}
+
+	@Test
+	void encodeFrameWithReactorNettyCodec() {
+		StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.SEND);
+		headers.addNativeHeader("a", "alpha");
+		Message<byte[]> frame = MessageBuilder.createMessage(
+				"Message body".getBytes(), headers.getMessageHeaders());
+
+		ByteBuf byteBuf = new StompReactorNettyCodec().encode(frame, UnpooledByteBufAllocator.DEFAULT);
+		try {
+			assertThat(byteBuf.toString(StandardCharsets.UTF_8)).isEqualTo("SEND\na:alpha\ncontent-length:12\n\nMessage body\0");
+		}
+		finally {
+			byteBuf.release();
+		}
+	}
+
+	@Test
+	void encodeFrameWithTcpMessageCodec() {
+		StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.SEND);
+		headers.addNativeHeader("a", "alpha");
+		Message<byte[]> frame = MessageBuilder.createMessage(
+				"Message body".getBytes(), headers.getMessageHeaders());
+
+		DataBuffer buffer = new StompTcpMessageCodec().encode(frame, DefaultDataBufferFactory.sharedInstance);
+		assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo("SEND\na:alpha\ncontent-length:12\n\nMessage body\0");
+	}
+
 }
@@ -16,6 +16,9 @@
 
 package org.springframework.messaging.support;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
@@ -33,6 +36,7 @@ import org.springframework.messaging.MessageHandler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -96,6 +100,60 @@ public class ExecutorSubscribableChannelTests {
 		assertThat(interceptor.wasAfterHandledInvoked()).isTrue();
 	}
 
+	@Test
+	void sendWithOrderingKeyResolver() {
+		List<Runnable> tasks = new ArrayList<>();
+		List<Object> handled = new ArrayList<>();
+		ExecutorSubscribableChannel testChannel = new ExecutorSubscribableChannel(tasks::add);
+		testChannel.setOrderingKeyResolver(message -> message.getHeaders().get("key"));
+		testChannel.setOrderedLaneCount(1);
+		testChannel.setOrderedBatchSize(2);
+		BeforeHandleInterceptor interceptor = new BeforeHandleInterceptor();
+		testChannel.addInterceptor(interceptor);
+		testChannel.subscribe(message -> handled.add(message.getPayload()));
+
+		testChannel.send(MessageBuilder.withPayload("a1").setHeader("key", "a").build());
+		testChannel.send(MessageBuilder.withPayload("b1").setHeader("key", "b").build());
+		testChannel.send(MessageBuilder.withPayload("a2").setHeader("key", "a").build());
+		testChannel.send(MessageBuilder.withPayload("unordered").build());
+
+		assertThat(tasks).hasSize(2);
+		assertThat(handled).isEmpty();
+
+		tasks.remove(0).run();
+		assertThat(handled).containsExactly("a1", "b1");
+		assertThat(tasks).hasSize(2);
+
+		tasks.remove(0).run();
+		assertThat(handled).containsExactly("a1", "b1", "unordered");
+		tasks.remove(0).run();
+		assertThat(handled).containsExactly("a1", "b1", "unordered", "a2");
+		assertThat(tasks).isEmpty();
+		assertThat(interceptor.getCounter().get()).isEqualTo(4);
+	}
+
+	@Test
+	void sendWithOrderingKeyResolverAndRejectingExecutor() {
+		List<Object> handled = new ArrayList<>();
+		ExecutorSubscribableChannel testChannel = new ExecutorSubscribableChannel(task -> {
+			throw new RejectedExecutionException();
+		});
+		testChannel.setOrderingKeyResolver(message -> message.getHeaders().get("key"));
+		testChannel.setOrderedBatchSize(1);
+		testChannel.subscribe(message -> handled.add(message.getPayload()));
+
+		testChannel.send(MessageBuilder.withPayload("a1").setHeader("key", "a").build());
+		testChannel.send(MessageBuilder.withPayload("a2").setHeader("key", "a").build());
+
+		assertThat(handled).containsExactly("a1", "a2");
+	}
+
+	@Test
+	void orderingKeyResolverRequiresExecutor() {
+		assertThatIllegalStateException().isThrownBy(() ->
+				this.channel.setOrderingKeyResolver(message -> "key"));
+	}
+
 	@Test
 	void subscribeTwice() {
 		assertThat(this.channel.subscribe(this.handler)).isTrue();
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link OrderedTaskLane}.
+ */
+class OrderedTaskLaneTests {
+
+	private final List<Integer> completed = new ArrayList<>();
+
+
+	@Test
+	void drainsInBatches() {
+		List<Runnable> drainTasks = new ArrayList<>();
+		OrderedTaskLane lane = createLane(drainTasks::add, 2);
+		for (int i = 0; i < 5; i++) {
+			int index = i;
+			lane.add(() -> this.completed.add(index));
+		}
+		assertThat(drainTasks).hasSize(1);
+		assertThat(lane.getQueueSize()).isEqualTo(5);
+
+		drainTasks.remove(0).run();
+		assertThat(this.completed).containsExactly(0, 1);
+		assertThat(drainTasks).hasSize(1);
+
+		drainTasks.remove(0).run();
+		drainTasks.remove(0).run();
+		assertThat(this.completed).containsExactly(0, 1, 2, 3, 4);
+		assertThat(drainTasks).isEmpty();
+		assertThat(lane.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	void failedTaskDoesNotStopLane() {
+		OrderedTaskLane lane = createLane(Runnable::run, 10);
+		lane.add(() -> this.completed.add(1));
+		lane.add(() -> {
+			throw new IllegalStateException("expected");
+		});
+		lane.add(() -> this.completed.add(3));
+		assertThat(this.completed).containsExactly(1, 3);
+	}
+
+	@Test
+	void rejectedDrainTaskDrainsOnCallingThreadWithoutRecursion() {
+		List<Runnable> drainTasks = new ArrayList<>();
+		boolean[] rejecting = new boolean[1];
+		OrderedTaskLane lane = createLane(task -> {
+			if (rejecting[0]) {
+				throw new RejectedExecutionException();
+			}
+			drainTasks.add(task);
+		}, 1);
+		int count = 100_000;
+		for (int i = 0; i < count; i++) {
+			int index = i;
+			lane.add(() -> this.completed.add(index));
+		}
+		rejecting[0] = true;
+		drainTasks.remove(0).run();
+		assertThat(this.completed).hasSize(count);
+		assertThat(lane.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	void callerRunsExecutorDrainsWithoutRecursion() {
+		List<Runnable> drainTasks = new ArrayList<>();
+		boolean[] callerRuns = new boolean[1];
+		OrderedTaskLane lane = createLane(task -> {
+			if (callerRuns[0]) {
+				task.run();
+			}
+			else {
+				drainTasks.add(task);
+			}
+		}, 1);
+		int count = 100_000;
+		for (int i = 0; i < count; i++) {
+			int index = i;
+			lane.add(() -> this.completed.add(index));
+		}
+		callerRuns[0] = true;
+		drainTasks.remove(0).run();
+		assertThat(this.completed).hasSize(count);
+		assertThat(this.completed.get(count - 1)).isEqualTo(count - 1);
+		assertThat(drainTasks).isEmpty();
+	}
+
+
+	private OrderedTaskLane createLane(Executor executor, int batchSize) {
+		return new OrderedTaskLane(executor, batchSize, LogFactory.getLog(getClass()));
+	}
+
+}
@@ -56,6 +56,9 @@ public class Jackson2JsonEncoderBenchmark {
 		@Param({"0", "50", "500"})
 		int projectCount;
 
+		@Param({"false", "true"})
+		boolean encodeDirectlyToBuffer;
+
 		Jackson2JsonEncoder jsonEncoder;
 
 		DataBufferFactory bufferFactory;
@@ -70,6 +73,7 @@ public class Jackson2JsonEncoderBenchmark {
 			ObjectMapper objectMapper = mapperBuilder.build();
 			this.bufferFactory = new DefaultDataBufferFactory();
 			this.jsonEncoder = new Jackson2JsonEncoder(objectMapper);
+			this.jsonEncoder.setEncodeDirectlyToBuffer(this.encodeDirectlyToBuffer);
 			this.resolvableType = ResolvableType.forClass(Project.class);
 			this.project = new Project("spring", this.projectCount);
 		}
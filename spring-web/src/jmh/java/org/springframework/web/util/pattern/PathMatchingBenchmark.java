@@ -60,6 +60,26 @@ public class PathMatchingBenchmark {
 		}
 	}
 
+	@State(Scope.Benchmark)
+	public static class AllRoutesCompiledPatternParser extends PatternParserData {
+
+		@Setup(Level.Trial)
+		public void registerPatterns() {
+			PathPatternParser parser = new PathPatternParser();
+			parser.setCompiledMatching(true);
+			parseRoutes(RouteGenerator.allRoutes(), parser);
+		}
+	}
+
+	@Benchmark
+	public void matchAllRoutesWithCompiledPathPatternParser(AllRoutesCompiledPatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			for (PathPattern pattern : data.patterns) {
+				bh.consume(pattern.matches(path));
+			}
+		}
+	}
+
 	@Benchmark
 	public void matchAndSortAllRoutesWithPathPatternParser(AllRoutesPatternParser data, Blackhole bh) {
 		for (PathContainer path : data.requestPaths) {
@@ -74,6 +94,32 @@ public class PathMatchingBenchmark {
 		}
 	}
 
+	@State(Scope.Benchmark)
+	public static class AllRoutesPatternIndex extends PatternParserData {
+
+		PathPatternIndex<PathPattern> index = new PathPatternIndex<>();
+
+		@Setup(Level.Trial)
+		public void registerPatterns() {
+			parseRoutes(RouteGenerator.allRoutes());
+			this.patterns.forEach(pattern -> this.index.add(pattern, pattern));
+		}
+	}
+
+	@Benchmark
+	public void matchAndSortAllRoutesWithPathPatternIndex(AllRoutesPatternIndex data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			List<PathPattern> matches = new ArrayList<>();
+			for (PathPattern pattern : data.index.getCandidates(path)) {
+				if (pattern.matches(path)) {
+					matches.add(pattern);
+				}
+			}
+			Collections.sort(matches);
+			bh.consume(matches);
+		}
+	}
+
 	@State(Scope.Benchmark)
 	public static class StaticRoutesPatternParser extends PatternParserData {
 
@@ -150,7 +196,10 @@ public class PathMatchingBenchmark {
 		List<PathContainer> requestPaths = new ArrayList<>();
 
 		void parseRoutes(List<Route> routes) {
-			PathPatternParser parser = new PathPatternParser();
+			parseRoutes(routes, new PathPatternParser());
+		}
+
+		void parseRoutes(List<Route> routes, PathPatternParser parser) {
 			routes.forEach(route -> {
 				this.patterns.add(parser.parse(route.pattern));
 				route.matchingPaths.forEach(path -> this.requestPaths.add(PathContainer.parsePath(path)));
@@ -92,6 +92,22 @@ public class ResourceHttpMessageWriter implements HttpMessageWriter<Resource> {
 	}
 
 
+	/**
+	 * Set the minimum size, in bytes, of file resources and resource regions
+	 * to be read through memory-mapped buffers when they cannot be written
+	 * with zero-copy file transfer.
+	 * <p>By default this is set to -1, in which case memory mapping is not used.
+	 * @param memoryMappedThreshold the threshold, or -1 to disable memory mapping
+	 * @since 7.0
+	 * @see ResourceEncoder#setMemoryMappedThreshold(long)
+	 * @see ResourceRegionEncoder#setMemoryMappedThreshold(long)
+	 */
+	public void setMemoryMappedThreshold(long memoryMappedThreshold) {
+		this.encoder.setMemoryMappedThreshold(memoryMappedThreshold);
+		this.regionEncoder.setMemoryMappedThreshold(memoryMappedThreshold);
+	}
+
+
 	@Override
 	public boolean canWrite(ResolvableType elementType, @Nullable MediaType mediaType) {
 		return this.encoder.canEncode(elementType, mediaType);
@@ -36,6 +36,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.context.ContextView;
 
+import org.springframework.core.CollectionFactory;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.CodecException;
@@ -66,6 +67,8 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 
 	private int maxInMemorySize = 256 * 1024;
 
+	private boolean streamingCollectionDecoding;
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -96,6 +99,37 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		return this.maxInMemorySize;
 	}
 
+	/**
+	 * Whether to decode a {@code Mono} of a collection, such as
+	 * {@code Mono<List<Pojo>>}, by tokenizing the top-level JSON array and
+	 * deserializing its elements one at a time, as for a {@code Flux<Pojo>},
+	 * and then collecting them.
+	 * <p>When enabled, the {@link #setMaxInMemorySize max in-memory size}
+	 * applies to each element rather than to the entire input, so that large
+	 * arrays can be decoded without first buffering their raw content. Note
+	 * that {@code null} elements are skipped. Input that does not start with
+	 * a JSON array, including empty input, is decoded as a whole, just like
+	 * when this is disabled.
+	 * <p>This applies only to collection types that can be instantiated via
+	 * {@link CollectionFactory}, and whose elements are neither arrays nor
+	 * collections. By default this is set to {@code false}.
+	 * @param streamingCollectionDecoding whether to decode collections element
+	 * by element
+	 * @since 7.0
+	 */
+	public void setStreamingCollectionDecoding(boolean streamingCollectionDecoding) {
+		this.streamingCollectionDecoding = streamingCollectionDecoding;
+	}
+
+	/**
+	 * Return whether collections are decoded element by element.
+	 * @since 7.0
+	 * @see #setStreamingCollectionDecoding(boolean)
+	 */
+	public boolean isStreamingCollectionDecoding() {
+		return this.streamingCollectionDecoding;
+	}
+
 
 	@SuppressWarnings("deprecation")  // as of Jackson 2.18: can(De)Serialize
 	@Override
@@ -132,6 +166,11 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		if (mapper == null) {
 			return Flux.error(new IllegalStateException("No ObjectMapper for " + elementType));
 		}
+		return decode(input, mapper, elementType, mimeType, hints);
+	}
+
+	private Flux<Object> decode(Publisher<DataBuffer> input, ObjectMapper mapper, ResolvableType elementType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
 		boolean forceUseOfBigDecimal = mapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
 		if (BigDecimal.class.equals(elementType.getType())) {
@@ -189,6 +228,41 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 	public Mono<Object> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
+		if (this.streamingCollectionDecoding) {
+			ResolvableType collectionElementType = getStreamableElementType(elementType);
+			if (collectionElementType != null) {
+				return Flux.from(input)
+						.switchOnFirst((signal, buffers) -> {
+							DataBuffer firstBuffer = signal.get();
+							if (firstBuffer != null && startsWithArray(firstBuffer)) {
+								return decodeCollection(buffers, elementType, collectionElementType, mimeType, hints);
+							}
+							// Empty input or no top-level array: same outcome as without streaming
+							return decodeToMonoFromJoined(buffers, elementType, mimeType, hints);
+						})
+						.singleOrEmpty();
+			}
+		}
+		return decodeToMonoFromJoined(input, elementType, mimeType, hints);
+	}
+
+	private Mono<Object> decodeCollection(Flux<DataBuffer> input, ResolvableType collectionType,
+			ResolvableType elementType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		ObjectMapper mapper = selectObjectMapper(collectionType, mimeType);
+		if (mapper == null) {
+			return Mono.error(new IllegalStateException("No ObjectMapper for " + collectionType));
+		}
+		Class<?> collectionClass = collectionType.toClass();
+		return decode(input, mapper, elementType, mimeType, hints)
+				.collect(() -> CollectionFactory.createCollection(collectionClass, elementType.resolve(), 16),
+						Collection::add)
+				.cast(Object.class);
+	}
+
+	private Mono<Object> decodeToMonoFromJoined(Publisher<DataBuffer> input, ResolvableType elementType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
 		return Mono.deferContextual(contextView -> {
 
 			Map<String, Object> hintsToUse = contextView.isEmpty() ? hints :
@@ -199,6 +273,37 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		});
 	}
 
+	/**
+	 * Determine whether the first non-whitespace byte in the given buffer opens
+	 * a JSON array. Whitespace-only buffers are treated as not opening an array.
+	 */
+	private static boolean startsWithArray(DataBuffer buffer) {
+		for (int i = buffer.readPosition(); i < buffer.writePosition(); i++) {
+			byte b = buffer.getByte(i);
+			if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+				return (b == '[');
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the element type to decode the given collection type with, if it
+	 * can be decoded element by element.
+	 */
+	@Nullable
+	private static ResolvableType getStreamableElementType(ResolvableType type) {
+		Class<?> clazz = type.resolve();
+		if (clazz == null || !Collection.class.isAssignableFrom(clazz) ||
+				!(clazz.isInterface() || CollectionFactory.isApproximableCollectionType(clazz))) {
+			return null;
+		}
+		ResolvableType elementType = type.asCollection().getGeneric();
+		Class<?> elementClass = elementType.resolve();
+		return (elementClass != null && !elementClass.isArray() &&
+				!Collection.class.isAssignableFrom(elementClass) ? elementType : null);
+	}
+
 	@Override
 	public Object decode(DataBuffer dataBuffer, ResolvableType targetType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) throws DecodingException {
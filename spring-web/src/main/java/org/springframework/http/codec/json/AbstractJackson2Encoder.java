@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2023 the original author or authors.
+ * Copyright 2002-2024 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,6 +47,7 @@ import org.springframework.core.codec.EncodingException;
 import org.springframework.core.codec.Hints;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.log.LogFormatUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.HttpMessageEncoder;
@@ -73,6 +74,8 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 
 	private static final byte[] EMPTY_BYTES = new byte[0];
 
+	private static final int INITIAL_BUFFER_SIZE = 1024;
+
 	private static final Map<String, JsonEncoding> ENCODINGS;
 
 	static {
@@ -86,6 +89,8 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 
 	private final List<MediaType> streamingMediaTypes = new ArrayList<>(1);
 
+	private boolean encodeDirectlyToBuffer;
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -104,6 +109,31 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 		this.streamingMediaTypes.addAll(mediaTypes);
 	}
 
+	/**
+	 * Whether {@link #encodeValue} should serialize directly into a
+	 * {@link DataBuffer} allocated from the given factory, growing it as
+	 * needed, rather than into a byte array that is then copied into a buffer.
+	 * <p>This avoids writing the output twice and allocating a byte array the
+	 * size of the output, which is worthwhile for large values, in particular
+	 * with a pooled {@link DataBufferFactory}. By default this is set to
+	 * {@code false}.
+	 * @param encodeDirectlyToBuffer whether to serialize directly into the
+	 * output buffer
+	 * @since 7.0
+	 */
+	public void setEncodeDirectlyToBuffer(boolean encodeDirectlyToBuffer) {
+		this.encodeDirectlyToBuffer = encodeDirectlyToBuffer;
+	}
+
+	/**
+	 * Return whether values are serialized directly into the output buffer.
+	 * @since 7.0
+	 * @see #setEncodeDirectlyToBuffer(boolean)
+	 */
+	public boolean isEncodeDirectlyToBuffer() {
+		return this.encodeDirectlyToBuffer;
+	}
+
 
 	@SuppressWarnings("deprecation")  // as of Jackson 2.18: can(De)Serialize
 	@Override
@@ -243,6 +273,10 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 			writer = writer.with(filters);
 		}
 
+		if (this.encodeDirectlyToBuffer) {
+			return encodeValueToBuffer(value, mapper, writer, bufferFactory, mimeType, hints);
+		}
+
 		ByteArrayBuilder byteBuilder = new ByteArrayBuilder(writer.getFactory()._getBufferRecycler());
 		try {
 			JsonEncoding encoding = getJsonEncoding(mimeType);
@@ -275,6 +309,39 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 		}
 	}
 
+	private DataBuffer encodeValueToBuffer(Object value, ObjectMapper mapper, ObjectWriter writer,
+			DataBufferFactory bufferFactory, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		JsonEncoding encoding = getJsonEncoding(mimeType);
+		logValue(hints, value);
+
+		DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+		boolean release = true;
+		try {
+			try (JsonGenerator generator = mapper.getFactory().createGenerator(buffer.asOutputStream(), encoding)) {
+				writer.writeValue(generator, value);
+				generator.flush();
+			}
+			catch (InvalidDefinitionException ex) {
+				throw new CodecException("Type definition error: " + ex.getType(), ex);
+			}
+			catch (JsonProcessingException ex) {
+				throw new EncodingException("JSON encoding error: " + ex.getOriginalMessage(), ex);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Unexpected I/O error while writing to data buffer", ex);
+			}
+			release = false;
+			Hints.touchDataBuffer(buffer, hints, logger);
+			return buffer;
+		}
+		finally {
+			if (release) {
+				DataBufferUtils.release(buffer);
+			}
+		}
+	}
+
 	private DataBuffer encodeStreamingValue(
 			Object value, DataBufferFactory bufferFactory, @Nullable Map<String, Object> hints,
 			SequenceWriter sequenceWriter, ByteArrayBuilder byteArrayBuilder,
@@ -17,21 +17,25 @@
 package org.springframework.web.server.session;
 
 import java.time.Clock;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.IdGenerator;
 import org.springframework.util.JdkIdGenerator;
@@ -40,6 +44,10 @@ import org.springframework.web.server.WebSession;
 /**
  * Simple Map-based storage for {@link WebSession} instances.
  *
+ * <p>Stored sessions are also kept ordered by expiration time, so that
+ * expired sessions can be removed, and the session closest to expiration
+ * {@link #setEvictOnMaxSessions evicted}, without iterating over all sessions.
+ *
  * @author Rossen Stoyanchev
  * @author Rob Winch
  * @since 5.0
@@ -53,15 +61,29 @@ public class InMemoryWebSessionStore implements WebSessionStore {
 
 	private Clock clock = Clock.system(ZoneId.of("GMT"));
 
+	private boolean evictOnMaxSessions = false;
+
 	private final Map<String, InMemoryWebSession> sessions = new ConcurrentHashMap<>();
 
+	private final ConcurrentSkipListMap<ExpirationKey, InMemoryWebSession> expirationIndex =
+			new ConcurrentSkipListMap<>();
+
+	private final AtomicLong sessionSequence = new AtomicLong();
+
 	private final ExpiredSessionChecker expiredSessionChecker = new ExpiredSessionChecker();
 
+	private final LongAdder retrievedSessionCount = new LongAdder();
+
+	private final LongAdder expiredSessionCount = new LongAdder();
+
+	private final LongAdder evictedSessionCount = new LongAdder();
+
 
 	/**
 	 * Set the maximum number of sessions that can be stored. Once the limit is
 	 * reached, any attempt to store an additional session will result in an
-	 * {@link IllegalStateException}.
+	 * {@link IllegalStateException}, unless {@link #setEvictOnMaxSessions
+	 * evictOnMaxSessions} is enabled.
 	 * <p>By default set to 10000.
 	 * @param maxSessions the maximum number of sessions
 	 * @since 5.0.8
@@ -78,6 +100,29 @@ public class InMemoryWebSessionStore implements WebSessionStore {
 		return this.maxSessions;
 	}
 
+	/**
+	 * Whether to evict the stored session that is closest to expiration, in
+	 * other words the least recently accessed one for sessions with the same
+	 * max idle time, in order to make room for a new session once the
+	 * {@link #setMaxSessions max sessions} limit is reached and there are no
+	 * expired sessions left to remove.
+	 * <p>By default this is set to {@code false} in which case an attempt to
+	 * store an additional session results in an {@link IllegalStateException}.
+	 * @param evictOnMaxSessions whether to evict sessions when the limit is reached
+	 * @since 7.0
+	 */
+	public void setEvictOnMaxSessions(boolean evictOnMaxSessions) {
+		this.evictOnMaxSessions = evictOnMaxSessions;
+	}
+
+	/**
+	 * Return whether sessions are evicted when the max sessions limit is reached.
+	 * @since 7.0
+	 */
+	public boolean isEvictOnMaxSessions() {
+		return this.evictOnMaxSessions;
+	}
+
 	/**
 	 * Configure the {@link Clock} to use to set lastAccessTime on every created
 	 * session and to calculate if it is expired.
@@ -110,6 +155,32 @@ public class InMemoryWebSessionStore implements WebSessionStore {
 		return Collections.unmodifiableMap(this.sessions);
 	}
 
+	/**
+	 * Return the number of times a stored, non-expired session was retrieved.
+	 * @since 7.0
+	 */
+	public long getRetrievedSessionCount() {
+		return this.retrievedSessionCount.sum();
+	}
+
+	/**
+	 * Return the number of sessions removed from the store because they expired.
+	 * @since 7.0
+	 */
+	public long getExpiredSessionCount() {
+		return this.expiredSessionCount.sum();
+	}
+
+	/**
+	 * Return the number of sessions evicted from the store to make room for
+	 * new sessions.
+	 * @since 7.0
+	 * @see #setEvictOnMaxSessions(boolean)
+	 */
+	public long getEvictedSessionCount() {
+		return this.evictedSessionCount.sum();
+	}
+
 
 	@Override
 	public Mono<WebSession> createWebSession() {
@@ -133,17 +204,23 @@ public class InMemoryWebSessionStore implements WebSessionStore {
 		}
 		else if (session.isExpired(now)) {
 			this.sessions.remove(id);
+			session.removeFromExpirationIndex();
+			this.expiredSessionCount.increment();
 			return Mono.empty();
 		}
 		else {
 			session.updateLastAccessTime(now);
+			this.retrievedSessionCount.increment();
 			return Mono.just(session);
 		}
 	}
 
 	@Override
 	public Mono<Void> removeSession(String id) {
-		this.sessions.remove(id);
+		InMemoryWebSession session = this.sessions.remove(id);
+		if (session != null) {
+			session.removeFromExpirationIndex();
+		}
 		return Mono.empty();
 	}
 
@@ -182,6 +259,12 @@ public class InMemoryWebSessionStore implements WebSessionStore {
 
 		private final AtomicReference<State> state = new AtomicReference<>(State.NEW);
 
+		private final long sequence = sessionSequence.incrementAndGet();
+
+		/** Key in the expiration index while the session is stored, guarded by this session. */
+		@Nullable
+		private ExpirationKey expirationKey;
+
 
 		public InMemoryWebSession(Instant creationTime) {
 			this.creationTime = creationTime;
@@ -212,6 +295,7 @@ public class InMemoryWebSessionStore implements WebSessionStore {
 		@Override
 		public void setMaxIdleTime(Duration maxIdleTime) {
 			this.maxIdleTime = maxIdleTime;
+			updateExpirationIndex();
 		}
 
 		@Override
@@ -250,6 +334,7 @@ public class InMemoryWebSessionStore implements WebSessionStore {
 			this.state.set(State.EXPIRED);
 			getAttributes().clear();
 			InMemoryWebSessionStore.this.sessions.remove(this.id.get());
+			removeFromExpirationIndex();
 			return Mono.empty();
 		}
 
@@ -267,10 +352,12 @@ public class InMemoryWebSessionStore implements WebSessionStore {
 			if (isStarted()) {
 				// Save
 				InMemoryWebSessionStore.this.sessions.put(this.getId(), this);
+				addToExpirationIndex();
 
 				// Unless it was invalidated
 				if (this.state.get().equals(State.EXPIRED)) {
 					InMemoryWebSessionStore.this.sessions.remove(this.getId());
+					removeFromExpirationIndex();
 					return Mono.error(new IllegalStateException("Session was invalidated"));
 				}
 			}
@@ -281,12 +368,26 @@ public class InMemoryWebSessionStore implements WebSessionStore {
 		private void checkMaxSessionsLimit() {
 			if (sessions.size() >= maxSessions) {
 				expiredSessionChecker.removeExpiredSessions(clock.instant());
-				if (sessions.size() >= maxSessions) {
+				if (sessions.size() >= maxSessions && !(evictOnMaxSessions && evictSession())) {
 					throw new IllegalStateException("Max sessions limit reached: " + sessions.size());
 				}
 			}
 		}
 
+		/**
+		 * Evict the session closest to expiration, other than this one.
+		 */
+		private boolean evictSession() {
+			for (InMemoryWebSession session : expirationIndex.values()) {
+				if (session != this) {
+					session.invalidate();
+					evictedSessionCount.increment();
+					return true;
+				}
+			}
+			return false;
+		}
+
 		@Override
 		public boolean isExpired() {
 			return isExpired(clock.instant());
@@ -311,6 +412,63 @@ public class InMemoryWebSessionStore implements WebSessionStore {
 
 		private void updateLastAccessTime(Instant currentTime) {
 			this.lastAccessTime = currentTime;
+			updateExpirationIndex();
+		}
+
+		/**
+		 * Add this session to the expiration index, or move it according to
+		 * its current expiration time if already present.
+		 */
+		private synchronized void addToExpirationIndex() {
+			if (this.expirationKey != null) {
+				expirationIndex.remove(this.expirationKey);
+			}
+			this.expirationKey = new ExpirationKey(getExpirationTime(), this.sequence);
+			expirationIndex.put(this.expirationKey, this);
+		}
+
+		/**
+		 * Move this session according to its current expiration time, if it is
+		 * present in the expiration index.
+		 */
+		private synchronized void updateExpirationIndex() {
+			if (this.expirationKey != null) {
+				addToExpirationIndex();
+			}
+		}
+
+		private synchronized void removeFromExpirationIndex() {
+			if (this.expirationKey != null) {
+				expirationIndex.remove(this.expirationKey);
+				this.expirationKey = null;
+			}
+		}
+
+		private Instant getExpirationTime() {
+			Duration maxIdleTime = this.maxIdleTime;
+			if (maxIdleTime.isNegative()) {
+				return Instant.MAX;
+			}
+			try {
+				return this.lastAccessTime.plus(maxIdleTime);
+			}
+			catch (DateTimeException | ArithmeticException ex) {
+				return Instant.MAX;
+			}
+		}
+	}
+
+
+	/**
+	 * Position of a stored session in the expiration index, ordered by
+	 * expiration time and then by session creation order.
+	 */
+	private record ExpirationKey(Instant expirationTime, long sequence) implements Comparable<ExpirationKey> {
+
+		@Override
+		public int compareTo(ExpirationKey other) {
+			int result = this.expirationTime.compareTo(other.expirationTime);
+			return (result != 0 ? result : Long.compare(this.sequence, other.sequence));
 		}
 	}
 
@@ -336,12 +494,15 @@ public class InMemoryWebSessionStore implements WebSessionStore {
 			}
 			if (this.lock.tryLock()) {
 				try {
-					Iterator<InMemoryWebSession> iterator = sessions.values().iterator();
-					while (iterator.hasNext()) {
-						InMemoryWebSession session = iterator.next();
+					// Only visit sessions whose expiration time has passed
+					for (Map.Entry<ExpirationKey, InMemoryWebSession> entry : expirationIndex.entrySet()) {
+						if (!now.isAfter(entry.getKey().expirationTime())) {
+							break;
+						}
+						InMemoryWebSession session = entry.getValue();
 						if (session.isExpired(now)) {
-							iterator.remove();
 							session.invalidate();
+							expiredSessionCount.increment();
 						}
 					}
 				}
@@ -124,6 +124,10 @@ class CaptureVariablePathElement extends PathElement {
 		return this.variableName;
 	}
 
+	boolean hasConstraintPattern() {
+		return (this.constraintPattern != null);
+	}
+
 	@Override
 	public int getNormalizedLength() {
 		return 1;
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.server.PathContainer.Element;
+import org.springframework.http.server.PathContainer.PathSegment;
+import org.springframework.http.server.PathContainer.Separator;
+import org.springframework.lang.Nullable;
+
+/**
+ * Flattened form of a chain of {@link PathElement PathElements} that performs
+ * {@link PathPattern#matches} as a single loop over the path elements, without
+ * allocating a {@link PathPattern.MatchingContext} and without a virtual call
+ * per pattern element.
+ *
+ * <p>Only patterns made of separators, literal segments, {@code *} segments
+ * and unconstrained {@code {variable}} segments, optionally ending with
+ * {@code /**} or {@code /{*variable}}, can be compiled. None of those elements
+ * needs to backtrack, so a match is decided in a single pass. Other patterns
+ * keep matching through their chain of path elements.
+ *
+ * @since 7.0
+ * @see PathPatternParser#setCompiledMatching(boolean)
+ */
+final class CompiledPathMatcher {
+
+	private static final byte SEPARATOR = 0;
+
+	private static final byte LITERAL = 1;
+
+	private static final byte WILDCARD = 2;
+
+	private static final byte CAPTURE = 3;
+
+	private static final byte THE_REST = 4;
+
+
+	private final byte[] kinds;
+
+	private final String[] literals;
+
+	private final boolean caseSensitive;
+
+	private final boolean matchOptionalTrailingSeparator;
+
+
+	private CompiledPathMatcher(byte[] kinds, String[] literals,
+			boolean caseSensitive, boolean matchOptionalTrailingSeparator) {
+
+		this.kinds = kinds;
+		this.literals = literals;
+		this.caseSensitive = caseSensitive;
+		this.matchOptionalTrailingSeparator = matchOptionalTrailingSeparator;
+	}
+
+
+	/**
+	 * Whether the given, non-empty path matches. Equivalent to matching through
+	 * the chain of path elements the matcher was compiled from.
+	 */
+	boolean matches(List<Element> elements) {
+		int length = elements.size();
+		int last = this.kinds.length - 1;
+		int pathIndex = 0;
+		for (int i = 0; i <= last; i++) {
+			switch (this.kinds[i]) {
+				case SEPARATOR -> {
+					if (pathIndex >= length || !(elements.get(pathIndex) instanceof Separator)) {
+						return false;
+					}
+					pathIndex++;
+					if (i == last) {
+						return (pathIndex == length);
+					}
+				}
+				case LITERAL -> {
+					if (pathIndex >= length || !(elements.get(pathIndex) instanceof PathSegment segment) ||
+							!matchesLiteral(this.literals[i], segment.valueToMatch())) {
+						return false;
+					}
+					pathIndex++;
+					if (i == last) {
+						return isEndOfPath(elements, pathIndex, length);
+					}
+				}
+				case WILDCARD -> {
+					String value = null;
+					if (pathIndex < length) {
+						if (!(elements.get(pathIndex) instanceof PathSegment segment)) {
+							return false;
+						}
+						value = segment.valueToMatch();
+						pathIndex++;
+					}
+					if (i == last) {
+						return (pathIndex == length || (this.matchOptionalTrailingSeparator &&
+								value != null && !value.isEmpty() && isEndOfPath(elements, pathIndex, length)));
+					}
+					// Within a path there must be at least one character to match the wildcard
+					if (value == null || value.isEmpty()) {
+						return false;
+					}
+				}
+				case CAPTURE -> {
+					if (pathIndex >= length || !(elements.get(pathIndex) instanceof PathSegment segment) ||
+							segment.valueToMatch().isEmpty()) {
+						return false;
+					}
+					pathIndex++;
+					if (i == last) {
+						return isEndOfPath(elements, pathIndex, length);
+					}
+				}
+				default -> {
+					// If there is more data, it must start with the separator
+					return (pathIndex >= length || elements.get(pathIndex) instanceof Separator);
+				}
+			}
+		}
+		return true;
+	}
+
+	private boolean matchesLiteral(String literal, String value) {
+		return (this.caseSensitive ? literal.equals(value) : literal.equalsIgnoreCase(value));
+	}
+
+	private boolean isEndOfPath(List<Element> elements, int pathIndex, int length) {
+		return (pathIndex == length || (this.matchOptionalTrailingSeparator &&
+				pathIndex + 1 == length && elements.get(pathIndex) instanceof Separator));
+	}
+
+
+	/**
+	 * Compile the given chain of path elements, if possible.
+	 * @param head the first element of the chain
+	 * @param caseSensitive whether literals are matched in a case-sensitive way
+	 * @param matchOptionalTrailingSeparator whether a trailing separator is allowed
+	 * @return the compiled matcher, or {@code null} if the chain contains
+	 * elements that cannot be compiled
+	 */
+	@Nullable
+	static CompiledPathMatcher compile(
+			PathElement head, boolean caseSensitive, boolean matchOptionalTrailingSeparator) {
+
+		List<Byte> kinds = new ArrayList<>();
+		List<String> literals = new ArrayList<>();
+		for (PathElement element = head; element != null; element = element.next) {
+			String literal = null;
+			if (element instanceof SeparatorPathElement) {
+				kinds.add(SEPARATOR);
+			}
+			else if (element instanceof LiteralPathElement) {
+				kinds.add(LITERAL);
+				literal = String.valueOf(element.getChars());
+			}
+			else if (element instanceof WildcardPathElement) {
+				kinds.add(WILDCARD);
+			}
+			else if (element instanceof CaptureVariablePathElement capture && !capture.hasConstraintPattern()) {
+				kinds.add(CAPTURE);
+			}
+			else if (element instanceof WildcardTheRestPathElement || element instanceof CaptureTheRestPathElement) {
+				kinds.add(THE_REST);
+			}
+			else {
+				return null;
+			}
+			literals.add(literal);
+		}
+		byte[] kindArray = new byte[kinds.size()];
+		for (int i = 0; i < kindArray.length; i++) {
+			kindArray[i] = kinds.get(i);
+		}
+		return new CompiledPathMatcher(kindArray, literals.toArray(new String[0]),
+				caseSensitive, matchOptionalTrailingSeparator);
+	}
+
+}
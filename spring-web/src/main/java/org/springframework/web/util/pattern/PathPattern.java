@@ -122,6 +122,10 @@ public class PathPattern implements Comparable<PathPattern> {
 	@Nullable
 	private final PathElement head;
 
+	/** Flattened form of the chain of path elements, if compiled matching is enabled and possible. */
+	@Nullable
+	private final CompiledPathMatcher compiledMatcher;
+
 	/** How many variables are captured in this pattern. */
 	private int capturedVariableCount;
 
@@ -160,6 +164,8 @@ public class PathPattern implements Comparable<PathPattern> {
 		this.matchOptionalTrailingSeparator = parser.isMatchOptionalTrailingSeparator();
 		this.caseSensitive = parser.isCaseSensitive();
 		this.head = head;
+		this.compiledMatcher = (head != null && parser.isCompiledMatching() ?
+				CompiledPathMatcher.compile(head, this.caseSensitive, this.matchOptionalTrailingSeparator) : null);
 
 		// Compute fields for fast comparison
 		PathElement elem = head;
@@ -205,6 +211,9 @@ public class PathPattern implements Comparable<PathPattern> {
 			return !hasLength(pathContainer) ||
 				(this.matchOptionalTrailingSeparator && pathContainerIsJustSeparator(pathContainer));
 		}
+		else if (this.compiledMatcher != null && hasLength(pathContainer)) {
+			return this.compiledMatcher.matches(pathContainer.elements());
+		}
 		else if (!hasLength(pathContainer)) {
 			if (this.head instanceof WildcardTheRestPathElement || this.head instanceof CaptureTheRestPathElement) {
 				pathContainer = EMPTY_PATH; // Will allow CaptureTheRest to bind the variable to empty
@@ -505,6 +514,10 @@ public class PathPattern implements Comparable<PathPattern> {
 		return this.head;
 	}
 
+	boolean isCaseSensitive() {
+		return this.caseSensitive;
+	}
+
 	/**
 	 * Join two paths together including a separator if necessary.
 	 * Extraneous separators are removed (if the first path
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+
+/**
+ * Prefix tree that indexes values by the leading literal segments of the
+ * {@link PathPattern PathPatterns} they are registered with, in order to
+ * narrow down the candidates for a given path without matching every pattern.
+ *
+ * <p>A pattern such as {@code "/orders/{id}/items"} is indexed under the node
+ * for {@code "orders"}, since any path it matches must start with that
+ * segment. Patterns without a leading literal segment (for example,
+ * {@code "/{tenant}/orders"} or {@code "/**"}) as well as case-insensitive
+ * patterns are kept at the root and are therefore candidates for every path.
+ * A lookup walks the segments of the path and collects the values of every
+ * node it visits, which costs O(path depth) rather than O(number of values).
+ *
+ * <p>The returned candidates are a superset of the values with a matching
+ * pattern, so callers still need to match them against the path. This class
+ * is not thread-safe; callers must guard concurrent registration and lookup.
+ *
+ * @since 7.0
+ * @param <T> the type of values held in the index
+ */
+public class PathPatternIndex<T> {
+
+	private final Node<T> root = new Node<>();
+
+
+	/**
+	 * Register the given value under the given pattern.
+	 * <p>A value may be registered under several patterns, and it is returned
+	 * at most once per lookup.
+	 * @param pattern the pattern to index the value by
+	 * @param value the value to add
+	 */
+	public void add(PathPattern pattern, T value) {
+		Node<T> node = this.root;
+		for (String segment : getLiteralPrefix(pattern)) {
+			node = node.children.computeIfAbsent(segment, key -> new Node<>());
+		}
+		node.values.merge(value, 1, Integer::sum);
+	}
+
+	/**
+	 * Remove a value previously registered under the given pattern.
+	 * @param pattern the pattern the value was registered with
+	 * @param value the value to remove
+	 */
+	public void remove(PathPattern pattern, T value) {
+		List<String> prefix = getLiteralPrefix(pattern);
+		List<Node<T>> visited = new ArrayList<>(prefix.size() + 1);
+		Node<T> node = this.root;
+		visited.add(node);
+		for (String segment : prefix) {
+			node = node.children.get(segment);
+			if (node == null) {
+				return;
+			}
+			visited.add(node);
+		}
+		node.values.computeIfPresent(value, (key, count) -> (count > 1 ? count - 1 : null));
+		for (int i = prefix.size(); i > 0; i--) {
+			Node<T> current = visited.get(i);
+			if (!current.isEmpty()) {
+				break;
+			}
+			visited.get(i - 1).children.remove(prefix.get(i - 1));
+		}
+	}
+
+	/**
+	 * Return all values whose patterns may match the given path, in the order
+	 * of the depth at which they are indexed and then in registration order.
+	 * @param path the path to find candidates for
+	 * @return the candidate values, possibly empty but never {@code null}
+	 */
+	public Collection<T> getCandidates(PathContainer path) {
+		List<PathContainer.Element> elements = path.elements();
+		Node<T> node = this.root;
+		Collection<T> single = null;
+		Set<T> result = null;
+		int index = 0;
+		while (true) {
+			if (!node.values.isEmpty()) {
+				if (single == null) {
+					single = node.values.keySet();
+				}
+				else {
+					if (result == null) {
+						result = new LinkedHashSet<>(single);
+					}
+					result.addAll(node.values.keySet());
+				}
+			}
+			if (index + 1 >= elements.size() ||
+					!(elements.get(index) instanceof PathContainer.Separator) ||
+					!(elements.get(index + 1) instanceof PathContainer.PathSegment segment)) {
+				break;
+			}
+			node = node.children.get(segment.valueToMatch());
+			if (node == null) {
+				break;
+			}
+			index += 2;
+		}
+		if (result != null) {
+			return result;
+		}
+		return (single != null ? Collections.unmodifiableCollection(single) : Collections.emptyList());
+	}
+
+	/**
+	 * Whether the index holds no values.
+	 */
+	public boolean isEmpty() {
+		return this.root.isEmpty();
+	}
+
+
+	/**
+	 * Return the literal segments a path must start with in order to be
+	 * matched by the given pattern.
+	 */
+	private static List<String> getLiteralPrefix(PathPattern pattern) {
+		if (!pattern.isCaseSensitive()) {
+			return Collections.emptyList();
+		}
+		List<String> segments = null;
+		PathElement element = pattern.getHeadSection();
+		while (element instanceof SeparatorPathElement && element.next instanceof LiteralPathElement literal) {
+			segments = (segments != null ? segments : new ArrayList<>());
+			segments.add(String.valueOf(literal.getChars()));
+			element = literal.next;
+		}
+		return (segments != null ? segments : Collections.emptyList());
+	}
+
+
+	private static final class Node<T> {
+
+		private final Map<T, Integer> values = new LinkedHashMap<>(4);
+
+		private final Map<String, Node<T>> children = new HashMap<>(4);
+
+		boolean isEmpty() {
+			return (this.values.isEmpty() && this.children.isEmpty());
+		}
+	}
+
+}
@@ -41,6 +41,8 @@ public class PathPatternParser {
 
 	private PathContainer.Options pathOptions = PathContainer.Options.HTTP_PATH;
 
+	private boolean compiledMatching = false;
+
 
 	/**
 	 * Configure whether a {@link PathPattern} produced by this parser should
@@ -103,6 +105,30 @@ public class PathPatternParser {
 		return this.pathOptions;
 	}
 
+	/**
+	 * Configure whether a {@link PathPattern} produced by this parser should
+	 * be compiled into a flat matcher for {@link PathPattern#matches}.
+	 * <p>A compiled pattern is matched in a single loop over the path, without
+	 * allocating a matching context and without a call per pattern element.
+	 * This applies to patterns made of literal segments, {@code *} segments,
+	 * and {@code {variable}} segments without a regex constraint, optionally
+	 * ending with {@code /**} or {@code /{*variable}}. Other patterns, as well
+	 * as variable extraction, are not affected.
+	 * <p>The default is {@code false}.
+	 * @since 7.0
+	 */
+	public void setCompiledMatching(boolean compiledMatching) {
+		this.compiledMatching = compiledMatching;
+	}
+
+	/**
+	 * Whether compiled pattern matching is enabled.
+	 * @since 7.0
+	 */
+	public boolean isCompiledMatching() {
+		return this.compiledMatching;
+	}
+
 
 	/**
 	 * Prepare the given pattern for use in matching to full URL paths.
@@ -137,6 +163,7 @@ public class PathPatternParser {
 	 * <li>{@code matchOptionalTrailingSeparator = false}
 	 * <li>{@code caseSensitive = true}
 	 * <li>{@code pathOptions = PathContainer.Options.HTTP_PATH}
+	 * <li>{@code compiledMatching = false}
 	 * </ul>
 	 */
 	public static final PathPatternParser defaultInstance = new PathPatternParser() {
@@ -157,6 +184,11 @@ public class PathPatternParser {
 			raiseError();
 		}
 
+		@Override
+		public void setCompiledMatching(boolean compiledMatching) {
+			raiseError();
+		}
+
 		private void raiseError() {
 			throw new UnsupportedOperationException(
 					"This is a read-only, shared instance that cannot be modified");
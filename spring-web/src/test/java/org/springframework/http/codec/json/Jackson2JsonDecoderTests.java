@@ -27,6 +27,7 @@ import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -41,6 +42,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.CodecException;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.core.testfixture.codec.AbstractDecoderTests;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.json.JacksonViewBean.MyJacksonView1;
@@ -173,6 +175,69 @@ class Jackson2JsonDecoderTests extends AbstractDecoderTests<Jackson2JsonDecoder>
 				.verify(), null, null);
 	}
 
+	@Test
+	void decodeToMonoWithStreamingCollectionDecoding() {
+		Jackson2JsonDecoder decoder = new Jackson2JsonDecoder();
+		decoder.setMaxInMemorySize(30);
+		ResolvableType elementType = ResolvableType.forClassWithGenerics(List.class, Pojo.class);
+
+		StepVerifier.create(decoder.decodeToMono(Flux.concat(
+						stringBuffer("[{\"bar\":\"b1\",\"foo\":\"f1\"},"),
+						stringBuffer("{\"bar\":\"b2\",\"foo\":\"f2\"}]")), elementType, null, null))
+				.expectError(DataBufferLimitException.class)
+				.verify();
+
+		decoder.setStreamingCollectionDecoding(true);
+		StepVerifier.create(decoder.decodeToMono(Flux.concat(
+						stringBuffer("[{\"bar\":\"b1\",\"foo\":\"f1\"},"),
+						stringBuffer("{\"bar\":\"b2\",\"foo\":\"f2\"}]")), elementType, null, null))
+				.expectNext(Arrays.asList(new Pojo("f1", "b1"), new Pojo("f2", "b2")))
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	void decodeToMonoWithStreamingCollectionDecodingAndEmptyInput() {
+		Jackson2JsonDecoder decoder = new Jackson2JsonDecoder();
+		decoder.setStreamingCollectionDecoding(true);
+		ResolvableType elementType = ResolvableType.forClassWithGenerics(List.class, Pojo.class);
+
+		StepVerifier.create(decoder.decodeToMono(Flux.empty(), elementType, null, null))
+				.expectComplete()
+				.verify();
+
+		StepVerifier.create(decoder.decodeToMono(Flux.just(stringBuffer("[]")), elementType, null, null))
+				.expectNext(Collections.emptyList())
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	void decodeToMonoWithStreamingCollectionDecodingAndNonArrayInput() {
+		Jackson2JsonDecoder decoder = new Jackson2JsonDecoder();
+		decoder.setStreamingCollectionDecoding(true);
+		ResolvableType elementType = ResolvableType.forClassWithGenerics(List.class, Pojo.class);
+
+		StepVerifier.create(decoder.decodeToMono(
+						Flux.just(stringBuffer("{\"bar\":\"b1\",\"foo\":\"f1\"}")), elementType, null, null))
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
+	@Test
+	void decodeToMonoWithStreamingCollectionDecodingSelectsObjectMapperForCollectionType() {
+		Jackson2JsonDecoder decoder = new Jackson2JsonDecoder();
+		decoder.setStreamingCollectionDecoding(true);
+		decoder.registerObjectMappersForType(List.class, map -> map.put(APPLICATION_JSON,
+				new ObjectMapper().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)));
+		ResolvableType elementType = ResolvableType.forClassWithGenerics(List.class, Pojo.class);
+
+		StepVerifier.create(decoder.decodeToMono(Flux.just(stringBuffer("[{\"bar\":\"b1\",\"baz\":\"z1\"}]")),
+						elementType, APPLICATION_JSON, null))
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
 	@Test
 	void decodeToFluxWithListElements() {
 		Flux<DataBuffer> input = Flux.concat(
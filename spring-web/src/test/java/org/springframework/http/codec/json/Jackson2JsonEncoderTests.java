@@ -32,7 +32,9 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.testfixture.codec.AbstractEncoderTests;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.ServerSentEvent;
@@ -163,6 +165,33 @@ class Jackson2JsonEncoderTests extends AbstractEncoderTests<Jackson2JsonEncoder>
 		StepVerifier.create(output).expectErrorMessage(message).verify();
 	}
 
+	@Test
+	void encodeValueDirectlyToBuffer() {
+		Jackson2JsonEncoder encoder = new Jackson2JsonEncoder();
+		encoder.setEncodeDirectlyToBuffer(true);
+		Pojo value = new Pojo("foo".repeat(1000), "bar");
+		ResolvableType valueType = ResolvableType.forClass(Pojo.class);
+
+		DataBuffer expected = this.encoder.encodeValue(value, this.bufferFactory, valueType, APPLICATION_JSON, null);
+		DataBuffer actual = encoder.encodeValue(value, this.bufferFactory, valueType, APPLICATION_JSON, null);
+		try {
+			assertThat(actual.toString(StandardCharsets.UTF_8)).isEqualTo(expected.toString(StandardCharsets.UTF_8));
+		}
+		finally {
+			DataBufferUtils.release(expected);
+			DataBufferUtils.release(actual);
+		}
+	}
+
+	@Test
+	void encodeValueDirectlyToBufferWithError() {
+		Jackson2JsonEncoder encoder = new Jackson2JsonEncoder();
+		encoder.setEncodeDirectlyToBuffer(true);
+
+		assertThatExceptionOfType(CodecException.class).isThrownBy(() -> encoder.encodeValue(
+				new Object(), this.bufferFactory, ResolvableType.forClass(Object.class), APPLICATION_JSON, null));
+	}
+
 	@Test
 	void encodeWithType() {
 		Flux<ParentClass> input = Flux.just(new Foo(), new Bar());
@@ -159,6 +159,49 @@ class InMemoryWebSessionStoreTests {
 			.withMessage("Max sessions limit reached: 10000");
 	}
 
+	@Test
+	void maxSessionsWithEviction() {
+		this.store.setMaxSessions(3);
+		this.store.setEvictOnMaxSessions(true);
+
+		WebSession session1 = insertSession();
+		WebSession session2 = insertSession();
+		WebSession session3 = insertSession();
+
+		// Access session1 so that session2 is now the least recently used
+		this.store.setClock(Clock.offset(this.store.getClock(), Duration.ofSeconds(5)));
+		assertThat(this.store.retrieveSession(session1.getId()).block()).isSameAs(session1);
+
+		WebSession session4 = insertSession();
+		assertThat(this.store.getSessions()).containsOnlyKeys(session1.getId(), session3.getId(), session4.getId());
+		assertThat(session2.isExpired()).isTrue();
+		assertThat(this.store.getEvictedSessionCount()).isEqualTo(1);
+		assertThat(this.store.getRetrievedSessionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void removeExpiredSessionsOnlyRemovesExpired() {
+		WebSession session1 = insertSession();
+		WebSession session2 = insertSession();
+		session2.setMaxIdleTime(Duration.ofMinutes(60));
+		WebSession session3 = insertSession();
+		session3.setMaxIdleTime(Duration.ofSeconds(-1));
+
+		this.store.setClock(Clock.offset(this.store.getClock(), Duration.ofMinutes(31)));
+		assertThat(this.store.getSessions()).containsOnlyKeys(session2.getId(), session3.getId());
+		assertThat(session1.isExpired()).isTrue();
+		assertThat(this.store.getExpiredSessionCount()).isEqualTo(1);
+
+		// Retrieving session2 extends its expiration time
+		assertThat(this.store.retrieveSession(session2.getId()).block()).isSameAs(session2);
+		this.store.setClock(Clock.offset(this.store.getClock(), Duration.ofMinutes(59)));
+		assertThat(this.store.getSessions()).containsOnlyKeys(session2.getId(), session3.getId());
+
+		this.store.setClock(Clock.offset(this.store.getClock(), Duration.ofMinutes(2)));
+		assertThat(this.store.getSessions()).containsOnlyKeys(session3.getId());
+		assertThat(this.store.getExpiredSessionCount()).isEqualTo(2);
+	}
+
 	private WebSession insertSession() {
 		WebSession session = this.store.createWebSession().block();
 		assertThat(session).isNotNull();
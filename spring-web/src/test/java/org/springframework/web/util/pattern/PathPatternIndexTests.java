@@ -0,0 +1,124 @@
+/*
+ * Copyright 2002-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.server.PathContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PathPatternIndex}.
+ */
+class PathPatternIndexTests {
+
+	private final PathPatternParser parser = new PathPatternParser();
+
+	private final PathPatternIndex<String> index = new PathPatternIndex<>();
+
+
+	@Test
+	void candidatesNarrowedByLiteralPrefix() {
+		add("/orders/{id}/items", "items");
+		add("/orders/{id}", "order");
+		add("/customers/{id}", "customer");
+		add("/customers/**", "customers");
+
+		assertThat(candidates("/orders/1/items")).containsExactly("items", "order");
+		assertThat(candidates("/customers/1")).containsExactly("customer", "customers");
+		assertThat(candidates("/products")).isEmpty();
+	}
+
+	@Test
+	void patternsWithoutLiteralPrefixAreAlwaysCandidates() {
+		add("/{tenant}/orders", "tenantOrders");
+		add("/**", "all");
+		add("", "empty");
+		add("/orders/{id}", "order");
+
+		assertThat(candidates("/orders/1")).containsExactly("tenantOrders", "all", "empty", "order");
+		assertThat(candidates("/acme/orders")).containsExactly("tenantOrders", "all", "empty");
+		assertThat(candidates("")).containsExactly("tenantOrders", "all", "empty");
+	}
+
+	@Test
+	void caseInsensitivePatternsAreKeptAtRoot() {
+		PathPatternParser caseInsensitiveParser = new PathPatternParser();
+		caseInsensitiveParser.setCaseSensitive(false);
+		this.index.add(caseInsensitiveParser.parse("/Orders/{id}"), "order");
+
+		assertThat(candidates("/orders/1")).containsExactly("order");
+		assertThat(candidates("/ORDERS/1")).containsExactly("order");
+	}
+
+	@Test
+	void valueRegisteredUnderSeveralPatternsIsReturnedOnce() {
+		add("/orders/{id}", "order");
+		add("/orders/{id}/{item}", "order");
+		add("/{tenant}/orders/{id}", "order");
+
+		assertThat(candidates("/orders/1")).containsExactly("order");
+	}
+
+	@Test
+	void remove() {
+		add("/orders/{id}", "order");
+		add("/orders/{id}/{item}", "order");
+		add("/orders/{id}/items/{item}", "item");
+
+		remove("/orders/{id}/{item}", "order");
+		assertThat(candidates("/orders/1/items/2")).containsExactly("order", "item");
+
+		remove("/orders/{id}", "order");
+		assertThat(candidates("/orders/1/items/2")).containsExactly("item");
+
+		remove("/orders/{id}/items/{item}", "item");
+		assertThat(candidates("/orders/1/items/2")).isEmpty();
+		assertThat(this.index.isEmpty()).isTrue();
+	}
+
+	@Test
+	void candidatesIncludeAllMatchingPatterns() {
+		String[] patterns = {"/a/b/c", "/a/{b}/c", "/a/b/**", "/a/*/c", "/{*rest}", "/a/b/c/", "/a/b?/c", "/a/b;x=y"};
+		for (String pattern : patterns) {
+			add(pattern, pattern);
+		}
+		for (String path : new String[] {"/a/b/c", "/a/b/c/", "/a/bx/c", "/a/b;x=y", "/a//c", "/"}) {
+			PathContainer container = PathContainer.parsePath(path);
+			for (String pattern : patterns) {
+				if (this.parser.parse(pattern).matches(container)) {
+					assertThat(this.index.getCandidates(container)).as(path).contains(pattern);
+				}
+			}
+		}
+	}
+
+
+	private void add(String pattern, String value) {
+		this.index.add(this.parser.parse(pattern), value);
+	}
+
+	private void remove(String pattern, String value) {
+		this.index.remove(this.parser.parse(pattern), value);
+	}
+
+	private Iterable<String> candidates(String path) {
+		return this.index.getCandidates(PathContainer.parsePath(path));
+	}
+
+}
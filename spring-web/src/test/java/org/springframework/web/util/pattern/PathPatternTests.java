@@ -91,6 +91,39 @@ class PathPatternTests {
 		checkNoMatch("/foo/bar", "/foo/baz");
 	}
 
+	@SuppressWarnings("deprecation")
+	@Test
+	void compiledMatching() {
+		String[] patterns = {"", "/", "foo", "/foo", "/foo/", "/foo/bar", "/Foo/Bar", "/*", "/foo/*", "/*/bar",
+				"/{id}", "/foo/{id}", "/foo/{id}/bar", "/foo/{id:[0-9]+}", "/foo/*.html", "/f?o", "/**",
+				"/foo/**", "/{*rest}", "/foo/{*rest}", "/foo/{id}/**", "foo/{id}"};
+		String[] paths = {"", "/", "//", "foo", "/foo", "/foo/", "/foo//", "/FOO", "/foo/bar", "/foo/bar/",
+				"/foo//bar", "/Foo/Bar", "/foo/123", "/foo/123/", "/foo/123/bar", "/foo/123/bar/baz",
+				"/foo/a.html", "/bar", "/bar/", "foo/bar", "/foo;a=b", "/foo/x;a=b/bar", "/foo/;a=b"};
+		for (boolean caseSensitive : new boolean[] {true, false}) {
+			for (boolean matchOptionalTrailingSeparator : new boolean[] {true, false}) {
+				PathPatternParser parser = new PathPatternParser();
+				parser.setCaseSensitive(caseSensitive);
+				parser.setMatchOptionalTrailingSeparator(matchOptionalTrailingSeparator);
+				PathPatternParser compilingParser = new PathPatternParser();
+				compilingParser.setCaseSensitive(caseSensitive);
+				compilingParser.setMatchOptionalTrailingSeparator(matchOptionalTrailingSeparator);
+				compilingParser.setCompiledMatching(true);
+				for (String pattern : patterns) {
+					PathPattern interpreted = parser.parse(pattern);
+					PathPattern compiled = compilingParser.parse(pattern);
+					for (String path : paths) {
+						PathContainer container = toPathContainer(path);
+						assertThat(compiled.matches(container))
+								.as("'%s' against '%s' (caseSensitive=%s, matchOptionalTrailingSeparator=%s)",
+										pattern, path, caseSensitive, matchOptionalTrailingSeparator)
+								.isEqualTo(interpreted.matches(container));
+					}
+				}
+			}
+		}
+	}
+
 	private void assertMatches(PathPattern pp, String path) {
 		assertThat(pp.matches(toPathContainer(path))).isTrue();
 	}
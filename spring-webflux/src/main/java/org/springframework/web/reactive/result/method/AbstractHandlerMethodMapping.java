@@ -49,6 +49,9 @@ import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.reactive.handler.AbstractHandlerMapping;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternIndex;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * Abstract base class for {@link HandlerMapping} implementations that define
@@ -88,6 +91,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 	private static final CorsConfiguration ALLOW_CORS_CONFIG = new CorsConfiguration();
 
+	private static final PathPattern ROOT_PATTERN = new PathPatternParser().parse("/**");
+
 	static {
 		ALLOW_CORS_CONFIG.addAllowedOriginPattern("*");
 		ALLOW_CORS_CONFIG.addAllowedMethod("*");
@@ -101,6 +106,25 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 	// TODO: handlerMethodMappingNamingStrategy
 
+	/**
+	 * Whether to index mappings by the leading literal segments of their
+	 * {@link #getPathPatterns(Object) path patterns}, so that a request that
+	 * does not match a direct path is only checked against the mappings that
+	 * can possibly match its path, rather than against all mappings.
+	 * <p>This is useful with a large number of pattern-based mappings.
+	 * <p>By default this is set to "false".
+	 * <p><strong>Note:</strong> This must be set before the initialization of
+	 * request mappings through {@link InitializingBean#afterPropertiesSet()}.
+	 * @since 7.0
+	 * @see PathPatternIndex
+	 */
+	public void setUsePathPatternIndex(boolean usePathPatternIndex) {
+		Assert.state(this.mappingRegistry.getRegistrations().isEmpty(),
+				"PathPatternIndex must be configured before the initialization of " +
+						"request mappings through InitializingBean#afterPropertiesSet.");
+		this.mappingRegistry.setPathPatternIndex(usePathPatternIndex ? new PathPatternIndex<>() : null);
+	}
+
 	/**
 	 * Return a (read-only) map with all mappings and HandlerMethod's.
 	 */
@@ -325,7 +349,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, exchange);
 		}
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, exchange);
+			addMatchingMappings(this.mappingRegistry.getMappingsByPattern(exchange), matches, exchange);
 		}
 		if (!matches.isEmpty()) {
 			Comparator<Match> comparator = new MatchComparator(getMappingComparator(exchange));
@@ -443,6 +467,16 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return the parsed path patterns of the given mapping, used to index it
+	 * when {@link #setUsePathPatternIndex(boolean) enabled}. A mapping for
+	 * which no patterns are returned is checked against every request.
+	 * @since 7.0
+	 */
+	protected Set<PathPattern> getPathPatterns(T mapping) {
+		return Collections.emptySet();
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -476,8 +510,15 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
+		@Nullable
+		private PathPatternIndex<T> pathPatternIndex;
+
 		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
 
+		void setPathPatternIndex(@Nullable PathPatternIndex<T> pathPatternIndex) {
+			this.pathPatternIndex = pathPatternIndex;
+		}
+
 		/**
 		 * Return all registrations.
 		 * @since 5.3
@@ -497,6 +538,20 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.pathLookup.get(path);
 		}
 
+		/**
+		 * Return the mappings that may match the path of the given exchange,
+		 * narrowed down through the {@link PathPatternIndex} if configured,
+		 * or all mappings otherwise. Not thread-safe.
+		 * @since 7.0
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPattern(ServerWebExchange exchange) {
+			if (this.pathPatternIndex != null) {
+				return this.pathPatternIndex.getCandidates(exchange.getRequest().getPath().pathWithinApplication());
+			}
+			return this.registry.keySet();
+		}
+
 		/**
 		 * Return CORS configuration. Thread-safe for concurrent use.
 		 */
@@ -534,6 +589,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.pathLookup.add(path, mapping);
 				}
 
+				if (this.pathPatternIndex != null) {
+					addToPathPatternIndex(this.pathPatternIndex, mapping);
+				}
+
 				CorsConfiguration corsConfig = initCorsConfiguration(handler, method, mapping);
 				if (corsConfig != null) {
 					corsConfig.validateAllowCredentials();
@@ -560,6 +619,26 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			}
 		}
 
+		private void addToPathPatternIndex(PathPatternIndex<T> index, T mapping) {
+			Set<PathPattern> patterns = getPathPatterns(mapping);
+			if (patterns.isEmpty()) {
+				index.add(ROOT_PATTERN, mapping);
+			}
+			for (PathPattern pattern : patterns) {
+				index.add(pattern, mapping);
+			}
+		}
+
+		private void removeFromPathPatternIndex(PathPatternIndex<T> index, T mapping) {
+			Set<PathPattern> patterns = getPathPatterns(mapping);
+			if (patterns.isEmpty()) {
+				index.remove(ROOT_PATTERN, mapping);
+			}
+			for (PathPattern pattern : patterns) {
+				index.remove(pattern, mapping);
+			}
+		}
+
 		public void unregister(T mapping) {
 			this.readWriteLock.writeLock().lock();
 			try {
@@ -578,6 +657,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				if (this.pathPatternIndex != null) {
+					removeFromPathPatternIndex(this.pathPatternIndex, registration.getMapping());
+				}
+
 				this.corsLookup.remove(registration.getHandlerMethod());
 			}
 			finally {
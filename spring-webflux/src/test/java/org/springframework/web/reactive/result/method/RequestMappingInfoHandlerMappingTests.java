@@ -132,6 +132,27 @@ class RequestMappingInfoHandlerMappingTests {
 		assertThat(hm.getMethod()).isEqualTo(expected);
 	}
 
+	@Test
+	void getHandlerWithPathPatternIndex() {
+		TestRequestMappingInfoHandlerMapping mapping = new TestRequestMappingInfoHandlerMapping();
+		mapping.setUsePathPatternIndex(true);
+		mapping.registerHandler(new TestController());
+
+		Method expected = on(TestController.class).annot(requestMapping("/ba*").method(GET, HEAD)).resolveMethod();
+		ServerWebExchange exchange = MockServerWebExchange.from(get("/bar"));
+		HandlerMethod hm = (HandlerMethod) mapping.getHandler(exchange).block();
+		assertThat(hm.getMethod()).isEqualTo(expected);
+
+		expected = on(TestController.class).annot(requestMapping("")).resolveMethod();
+		exchange = MockServerWebExchange.from(get(""));
+		hm = (HandlerMethod) mapping.getHandler(exchange).block();
+		assertThat(hm.getMethod()).isEqualTo(expected);
+
+		exchange = MockServerWebExchange.from(put("/person/1").contentType(MediaType.APPLICATION_JSON));
+		assertError(mapping.getHandler(exchange), UnsupportedMediaTypeStatusException.class,
+				ex -> assertThat(ex.getSupportedMediaTypes()).containsExactly(MediaType.APPLICATION_XML));
+	}
+
 	@Test
 	void getHandlerRequestMethodNotAllowed() {
 		ServerWebExchange exchange = MockServerWebExchange.from(post("/bar"));
@@ -49,6 +49,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternIndex;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
@@ -85,6 +88,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 	private static final CorsConfiguration ALLOW_CORS_CONFIG = new CorsConfiguration();
 
+	private static final PathPattern ROOT_PATTERN = new PathPatternParser().parse("/**");
+
 	static {
 		ALLOW_CORS_CONFIG.addAllowedOriginPattern("*");
 		ALLOW_CORS_CONFIG.addAllowedMethod("*");
@@ -122,6 +127,26 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		this.detectHandlerMethodsInAncestorContexts = detectHandlerMethodsInAncestorContexts;
 	}
 
+	/**
+	 * Whether to index mappings by the leading literal segments of their
+	 * {@link #getPathPatterns(Object) path patterns}, so that a request that
+	 * does not match a direct path is only checked against the mappings that
+	 * can possibly match its path, rather than against all mappings.
+	 * <p>This is only effective with {@link #setPatternParser parsed patterns},
+	 * and is useful with a large number of pattern-based mappings.
+	 * <p>By default this is set to "false".
+	 * <p><strong>Note:</strong> This must be set before the initialization of
+	 * request mappings through {@link InitializingBean#afterPropertiesSet()}.
+	 * @since 7.0
+	 * @see PathPatternIndex
+	 */
+	public void setUsePathPatternIndex(boolean usePathPatternIndex) {
+		Assert.state(this.mappingRegistry.getRegistrations().isEmpty(),
+				"PathPatternIndex must be configured before the initialization of " +
+						"request mappings through InitializingBean#afterPropertiesSet.");
+		this.mappingRegistry.setPathPatternIndex(usePathPatternIndex ? new PathPatternIndex<>() : null);
+	}
+
 	/**
 	 * Configure the naming strategy to use for assigning a default name to every
 	 * mapped handler method.
@@ -404,7 +429,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, request);
 		}
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, request);
+			addMatchingMappings(this.mappingRegistry.getMappingsByPattern(request), matches, request);
 		}
 		if (!matches.isEmpty()) {
 			Match bestMatch = matches.get(0);
@@ -545,6 +570,16 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return urls;
 	}
 
+	/**
+	 * Return the parsed path patterns of the given mapping, used to index it
+	 * when {@link #setUsePathPatternIndex(boolean) enabled}. A mapping for
+	 * which no patterns are returned is checked against every request.
+	 * @since 7.0
+	 */
+	protected Set<PathPattern> getPathPatterns(T mapping) {
+		return Collections.emptySet();
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -580,8 +615,15 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
+		@Nullable
+		private PathPatternIndex<T> pathPatternIndex;
+
 		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
 
+		void setPathPatternIndex(@Nullable PathPatternIndex<T> pathPatternIndex) {
+			this.pathPatternIndex = pathPatternIndex;
+		}
+
 		/**
 		 * Return all registrations.
 		 * @since 5.3
@@ -599,6 +641,21 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.pathLookup.get(urlPath);
 		}
 
+		/**
+		 * Return the mappings that may match the path of the given request,
+		 * narrowed down through the {@link PathPatternIndex} if configured,
+		 * or all mappings otherwise. Not thread-safe.
+		 * @since 7.0
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPattern(HttpServletRequest request) {
+			if (this.pathPatternIndex != null && ServletRequestPathUtils.hasParsedRequestPath(request)) {
+				return this.pathPatternIndex.getCandidates(
+						ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication());
+			}
+			return this.registry.keySet();
+		}
+
 		/**
 		 * Return handler methods by mapping name. Thread-safe for concurrent use.
 		 */
@@ -644,6 +701,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.pathLookup.add(path, mapping);
 				}
 
+				if (this.pathPatternIndex != null) {
+					addToPathPatternIndex(this.pathPatternIndex, mapping);
+				}
+
 				String name = null;
 				if (getNamingStrategy() != null) {
 					name = getNamingStrategy().getName(handlerMethod, mapping);
@@ -676,6 +737,26 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			}
 		}
 
+		private void addToPathPatternIndex(PathPatternIndex<T> index, T mapping) {
+			Set<PathPattern> patterns = getPathPatterns(mapping);
+			if (patterns.isEmpty()) {
+				index.add(ROOT_PATTERN, mapping);
+			}
+			for (PathPattern pattern : patterns) {
+				index.add(pattern, mapping);
+			}
+		}
+
+		private void removeFromPathPatternIndex(PathPatternIndex<T> index, T mapping) {
+			Set<PathPattern> patterns = getPathPatterns(mapping);
+			if (patterns.isEmpty()) {
+				index.remove(ROOT_PATTERN, mapping);
+			}
+			for (PathPattern pattern : patterns) {
+				index.remove(pattern, mapping);
+			}
+		}
+
 		private void addMappingName(String name, HandlerMethod handlerMethod) {
 			List<HandlerMethod> oldList = this.nameLookup.get(name);
 			if (oldList == null) {
@@ -712,6 +793,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				if (this.pathPatternIndex != null) {
+					removeFromPathPatternIndex(this.pathPatternIndex, registration.getMapping());
+				}
+
 				removeMappingName(registration);
 
 				this.corsLookup.remove(registration.getHandlerMethod());